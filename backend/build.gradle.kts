@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.mysite.sbb"
@@ -31,6 +32,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Hibernate 2차 캐시 (JCache + Caffeine)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    // 인메모리 LRU/TTL 캐시 (여행 소유자 캐시)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Metrics (Prometheus 스크레이프: /actuator/prometheus)
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     // Swagger (SpringDoc)
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.0")
@@ -58,6 +69,43 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// HTTP 부하 테스트 (src/loadTest/java, 실행: ./gradlew loadTest --args='--scale=100k --concurrency=500')
+// 대상 서버와 DB는 따로 띄워 두고, 결과는 build/results/loadtest/*.json 으로 저장
+val loadTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+dependencies {
+    "loadTestCompileOnly"("org.projectlombok:lombok")
+    "loadTestAnnotationProcessor"("org.projectlombok:lombok")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "시드 데이터를 적재하고 사용자 여정 부하를 걸어 엔드포인트별 p50/p95/p99를 보고합니다."
+    classpath = loadTest.runtimeClasspath
+    mainClass = "com.mysite.sbb.aitrip.loadtest.LoadTestRunner"
+    workingDir = projectDir
+}
+
+// 마이크로벤치마크 (src/jmh/java, 실행: ./gradlew jmh, 일부만: ./gradlew jmh -PjmhIncludes=Jwt)
+// 결과는 커밋 간 비교를 위해 JSON으로 저장 (build/results/jmh/results.json)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes").toString())
+    }
+    // DB 쓰기 벤치마크 대상 (기본 H2 인메모리, 예: -PjmhJdbcUrl='jdbc:mysql://...')
+    if (project.hasProperty("jmhJdbcUrl")) {
+        jvmArgsAppend = listOf("-Dbench.jdbc.url=${project.property("jmhJdbcUrl")}")
+    }
+}
+
 tasks.jar {
     enabled = false
 }
@@ -0,0 +1,63 @@
+package com.mysite.sbb.aitrip.global.exception;
+
+import com.mysite.sbb.aitrip.global.response.ApiResponse;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답 경로의 비용
+ * 예외 생성(스택 트레이스 포함) + 핸들러 변환 + 로그 호출까지 한 번에 측정하며,
+ * 로그 출력 비용은 실행 시 로깅 설정(기본 콘솔)에 따라 달라집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+    private IllegalStateException unexpectedException;
+
+    @Setup
+    public void setUp() throws Exception {
+        handler = new GlobalExceptionHandler();
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("target", Object.class), 0);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+        bindingResult.addError(new FieldError("request", "email", "이메일 형식이 올바르지 않습니다."));
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+        unexpectedException = new IllegalStateException("benchmark");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> businessException() {
+        return handler.handleBusinessException(new BusinessException(ErrorCode.NOT_FOUND_TRIP));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> validationException() {
+        return handler.handleValidationException(validationException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> unexpectedException() {
+        return handler.handleException(unexpectedException);
+    }
+
+    @SuppressWarnings("unused")
+    private void target(Object body) {
+    }
+}
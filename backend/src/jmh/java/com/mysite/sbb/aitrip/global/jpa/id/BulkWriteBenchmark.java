@@ -0,0 +1,199 @@
+package com.mysite.sbb.aitrip.global.jpa.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정/혼잡도 대량 쓰기 처리량 (행/초): IDENTITY(변경 전) vs id_sequences pooled 할당 + JDBC 배치(변경 후)
+ * Hibernate가 각 방식에서 내보내는 JDBC 호출을 그대로 재현합니다.
+ * - IDENTITY: 행마다 즉시 INSERT 후 생성 키 조회 (batch_size 무시)
+ * - POOLED: ALLOCATION_SIZE개마다 별도 커넥션에서 ID 블록 예약, INSERT는 batch_size 단위 executeBatch
+ *
+ * 기본은 H2 인메모리이며, MySQL 수치는 전용 스키마를 지정해 측정합니다 (테이블을 비우므로 운영 DB 금지).
+ * ./gradlew jmh -PjmhIncludes=BulkWrite -PjmhJdbcUrl='jdbc:mysql://localhost:3306/aitrip_bench?user=root&password=root&rewriteBatchedStatements=true'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkWriteBenchmark {
+
+    // 여행 하나 최적화 결과 수준의 일정 행 수, 장소 10곳의 주간 혼잡도 행 수
+    private static final int SCHEDULE_ROWS = 100;
+    private static final int CROWD_ROWS = 10 * 7 * 24;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String SCHEDULE_COLUMNS = "trip_id, place_id, day_number, visit_order, start_time, end_time,"
+            + " estimated_waiting_time, travel_time_from_prev, stay_duration, created_at, modified_at";
+    private static final String CROWD_COLUMNS = "place_id, day_of_week, crowd_hour, crowd_level, waiting_risk_score,"
+            + " avg_waiting_min, created_at, modified_at";
+
+    public enum Strategy {
+        IDENTITY, POOLED
+    }
+
+    @Param({"IDENTITY", "POOLED"})
+    private Strategy strategy;
+
+    private Connection connection;
+    private Connection sequenceConnection;
+    private PreparedStatement scheduleInsert;
+    private PreparedStatement crowdInsert;
+    private long nextParentId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:bulkwrite;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url);
+        sequenceConnection = DriverManager.getConnection(url);
+        connection.setAutoCommit(false);
+        sequenceConnection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + IdSequences.TABLE + " ("
+                    + IdSequences.NAME_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + IdSequences.VALUE_COLUMN + " BIGINT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS schedules (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                    + " trip_id BIGINT NOT NULL, place_id BIGINT NOT NULL, day_number INT NOT NULL,"
+                    + " visit_order INT NOT NULL, start_time TIME, end_time TIME, estimated_waiting_time INT,"
+                    + " travel_time_from_prev INT, stay_duration INT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+            statement.execute("CREATE TABLE IF NOT EXISTS place_crowd_data (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                    + " place_id BIGINT NOT NULL, day_of_week INT NOT NULL, crowd_hour INT NOT NULL,"
+                    + " crowd_level VARCHAR(20), waiting_risk_score DECIMAL(3, 2), avg_waiting_min INT,"
+                    + " created_at TIMESTAMP, modified_at TIMESTAMP)");
+        }
+        connection.commit();
+        if (strategy == Strategy.IDENTITY) {
+            scheduleInsert = connection.prepareStatement("INSERT INTO schedules (" + SCHEDULE_COLUMNS + ")"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            crowdInsert = connection.prepareStatement("INSERT INTO place_crowd_data (" + CROWD_COLUMNS + ")"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+        } else {
+            scheduleInsert = connection.prepareStatement("INSERT INTO schedules (id, " + SCHEDULE_COLUMNS + ")"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            crowdInsert = connection.prepareStatement("INSERT INTO place_crowd_data (id, " + CROWD_COLUMNS + ")"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+    }
+
+    // 반복마다 테이블을 비워 인덱스 크기가 측정 중 계속 커지지 않게 함
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM schedules");
+            statement.executeUpdate("DELETE FROM place_crowd_data");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        scheduleInsert.close();
+        crowdInsert.close();
+        sequenceConnection.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCHEDULE_ROWS)
+    public long schedules() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long tripId = nextParentId++;
+        long checksum = 0;
+        long nextId = 0;
+        for (int i = 0; i < SCHEDULE_ROWS; i++) {
+            int offset = strategy == Strategy.POOLED ? 1 : 0;
+            if (strategy == Strategy.POOLED) {
+                if (i % IdSequences.ALLOCATION_SIZE == 0) {
+                    nextId = allocate(IdSequences.SCHEDULES);
+                }
+                scheduleInsert.setLong(1, nextId++);
+            }
+            scheduleInsert.setLong(offset + 1, tripId);
+            scheduleInsert.setLong(offset + 2, i + 1);
+            scheduleInsert.setInt(offset + 3, i / 10 + 1);
+            scheduleInsert.setInt(offset + 4, i % 10 + 1);
+            scheduleInsert.setTime(offset + 5, Time.valueOf("09:00:00"));
+            scheduleInsert.setTime(offset + 6, Time.valueOf("10:00:00"));
+            scheduleInsert.setInt(offset + 7, 10);
+            scheduleInsert.setInt(offset + 8, 15);
+            scheduleInsert.setInt(offset + 9, 60);
+            scheduleInsert.setTimestamp(offset + 10, now);
+            scheduleInsert.setTimestamp(offset + 11, now);
+            checksum += write(scheduleInsert, i, SCHEDULE_ROWS);
+        }
+        connection.commit();
+        return checksum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CROWD_ROWS)
+    public long crowdData() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long firstPlaceId = nextParentId;
+        nextParentId += CROWD_ROWS / (7 * 24);
+        long checksum = 0;
+        long nextId = 0;
+        for (int i = 0; i < CROWD_ROWS; i++) {
+            int offset = strategy == Strategy.POOLED ? 1 : 0;
+            if (strategy == Strategy.POOLED) {
+                if (i % IdSequences.ALLOCATION_SIZE == 0) {
+                    nextId = allocate(IdSequences.PLACE_CROWD_DATA);
+                }
+                crowdInsert.setLong(1, nextId++);
+            }
+            crowdInsert.setLong(offset + 1, firstPlaceId + i / (7 * 24));
+            crowdInsert.setInt(offset + 2, i / 24 % 7);
+            crowdInsert.setInt(offset + 3, i % 24);
+            crowdInsert.setString(offset + 4, "중간");
+            crowdInsert.setBigDecimal(offset + 5, BigDecimal.valueOf(50, 2));
+            crowdInsert.setInt(offset + 6, 15);
+            crowdInsert.setTimestamp(offset + 7, now);
+            crowdInsert.setTimestamp(offset + 8, now);
+            checksum += write(crowdInsert, i, CROWD_ROWS);
+        }
+        connection.commit();
+        return checksum;
+    }
+
+    // IDENTITY는 즉시 실행 + 생성 키 조회, POOLED는 BATCH_SIZE마다 한 번에 실행
+    private long write(PreparedStatement statement, int index, int total) throws SQLException {
+        if (strategy == Strategy.IDENTITY) {
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                return keys.next() ? keys.getLong(1) : 0;
+            }
+        }
+        statement.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0 || index + 1 == total) {
+            return statement.executeBatch().length;
+        }
+        return 0;
+    }
+
+    // Hibernate 테이블 생성기처럼 별도 트랜잭션에서 블록 예약 후 바로 커밋
+    private long allocate(String sequence) throws SQLException {
+        long firstId = IdSequences.allocate(sequenceConnection, sequence, IdSequences.ALLOCATION_SIZE);
+        sequenceConnection.commit();
+        return firstId;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 프로파일링의 요청당 추가 비용
+ * 문장 20개(서로 다른 문장 5개) 요청 한 건의 수집 + 종료 검사 비용으로,
+ * 요청 처리 시간(수 ms) 대비 1% 미만인지 확인하는 용도입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlProfileBenchmark {
+
+    private static final int STATEMENTS_PER_REQUEST = 20;
+
+    private final String[] statements = new String[STATEMENTS_PER_REQUEST];
+    private StatementCounter inspector;
+    private SqlTimingListener listener;
+    private SqlMonitor sqlMonitor;
+
+    @Setup
+    public void setUp() {
+        // 테이블 5개를 번갈아 조회 (같은 문자열 인스턴스가 아니도록 매번 새로 만듦)
+        for (int i = 0; i < STATEMENTS_PER_REQUEST; i++) {
+            statements[i] = "select t1_0.id, t1_0.name from table_" + (i % 5) + " t1_0 where t1_0.id = ?";
+        }
+        inspector = new StatementCounter();
+        listener = new SqlTimingListener();
+        sqlMonitor = new SqlMonitor(new SimpleMeterRegistry(), 5, 200, 50, 60_000);
+    }
+
+    @Benchmark
+    public SqlProfile profiledRequest() {
+        SqlProfile.begin();
+        for (String sql : statements) {
+            inspector.inspect(sql);
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        }
+        SqlProfile profile = SqlProfile.end();
+        sqlMonitor.inspect("GET", "/api/trips/{id}", profile);
+        return profile;
+    }
+
+    // 집계 중이 아닐 때 (스케줄러 등) 문장당 비용
+    @Benchmark
+    public int unprofiledStatements() {
+        int length = 0;
+        for (String sql : statements) {
+            length += inspector.inspect(sql).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,139 @@
+package com.mysite.sbb.aitrip.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.trip.domain.Trip;
+import com.mysite.sbb.aitrip.trip.domain.TripStatus;
+import com.mysite.sbb.aitrip.trip.domain.TripStyle;
+import com.mysite.sbb.aitrip.trip.dto.TripResponse;
+import com.mysite.sbb.aitrip.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 한 건의 비용: 엔티티 → DTO 매핑과 ApiResponse&lt;List&lt;...&gt;&gt; JSON 직렬화
+ * ObjectMapper는 Spring Boot와 같은 Jackson2ObjectMapperBuilder 기본값(JavaTimeModule 등)으로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private static final LocalDateTime AUDITED_AT = LocalDateTime.of(2025, 4, 1, 12, 30, 15);
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Place> places;
+    private List<Trip> trips;
+    private ApiResponse<List<PlaceResponse>> placeResponse;
+    private ApiResponse<List<TripResponse>> tripResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User user = User.builder()
+                .email("bench@example.com")
+                .password("password")
+                .name("벤치")
+                .role(User.Role.ROLE_USER)
+                .build();
+        setId(user, 1L);
+
+        places = new ArrayList<>(size);
+        trips = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Place place = Place.builder()
+                    .name("장소 " + i)
+                    .region("서울")
+                    .category("관광명소")
+                    .address("서울특별시 종로구 사직로 " + i)
+                    .latitude(new BigDecimal("37.5796212"))
+                    .longitude(new BigDecimal("126.9770162"))
+                    .operatingHours("월-금 09:00-18:00, 토 10:00-14:00, 일 휴무")
+                    .estimatedStayTime(90)
+                    .imageUrl("https://example.com/images/" + i + ".jpg")
+                    .source("benchmark")
+                    .build();
+            setId(place, (long) i + 1);
+            setAudited(place);
+            places.add(place);
+
+            Trip trip = Trip.builder()
+                    .user(user)
+                    .title("여행 " + i)
+                    .region("서울")
+                    .style("여유롭게 카페와 전시 위주로")
+                    .tripStyle(TripStyle.NORMAL)
+                    .startDate(LocalDate.of(2025, 5, 1))
+                    .endDate(LocalDate.of(2025, 5, 3))
+                    .status(TripStatus.DRAFT)
+                    .build();
+            setId(trip, (long) i + 1);
+            setAudited(trip);
+            trips.add(trip);
+        }
+        placeResponse = ApiResponse.success(mapPlaces());
+        tripResponse = ApiResponse.success(mapTrips());
+    }
+
+    @Benchmark
+    public List<PlaceResponse> mapPlaces() {
+        return places.stream().map(PlaceResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<TripResponse> mapTrips() {
+        return trips.stream().map(TripResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePlaces() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(placeResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTrips() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tripResponse);
+    }
+
+    // 컨트롤러 한 번 분량: 매핑 + 래핑 + 직렬화
+    @Benchmark
+    public byte[] mapAndSerializePlaces() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(mapPlaces()));
+    }
+
+    private static void setId(Object entity, Long id) throws Exception {
+        Field field = entity.getClass().getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(entity, id);
+    }
+
+    // 감사 시각이 null이면 날짜 직렬화 비용이 빠지므로 채워 둠
+    private static void setAudited(BaseEntity entity) throws Exception {
+        for (String name : new String[]{"createdAt", "modifiedAt"}) {
+            Field field = BaseEntity.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(entity, AUDITED_AT);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.mysite.sbb.aitrip.global.security.jwt;
+
+import com.mysite.sbb.aitrip.global.security.CustomUserDetails;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
+import com.mysite.sbb.aitrip.user.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 JWT 인증 비용 비교
+ * legacy: 요청마다 파서를 새로 만들고 validateToken / getAuthentication에서 두 번 검증하던 방식
+ * verifyOnce: 공유 파서로 한 번 검증한 결과를 인증 객체 생성에 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-must-be-at-least-32-characters-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private PrincipalCache principalCache;
+    private CustomUserDetails userDetails;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        userDetails = new CustomUserDetails(User.builder()
+                .email("bench@example.com")
+                .password("password")
+                .name("벤치")
+                .role(User.Role.ROLE_USER)
+                .build());
+        principalCache = new PrincipalCache(300_000L, 10_000);
+        jwtTokenProvider = new JwtTokenProvider(
+                new JwtProperties(SECRET, 3_600_000L, 604_800_000L),
+                email -> userDetails,
+                principalCache);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
+                Base64.getEncoder().encodeToString(SECRET.getBytes())));
+        token = jwtTokenProvider.createAccessToken("bench@example.com");
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        // validateToken
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        // getAuthentication
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        UserDetails principal = principalCache.get(claims.getSubject(), email -> userDetails);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    @Benchmark
+    public Authentication verifyOnce() {
+        return jwtTokenProvider.verify(token)
+                .map(jwtTokenProvider::getAuthentication)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken("bench@example.com");
+    }
+}
@@ -0,0 +1,385 @@
+package com.mysite.sbb.aitrip.loadtest;
+
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
+import com.mysite.sbb.aitrip.global.util.GeoUtils;
+import com.mysite.sbb.aitrip.placecrowddata.domain.CrowdLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 시드 데이터 적재 (JDBC 배치)
+ * 장소 / 혼잡도 / 이동시간 / 사용자 / 여행 / 여행 장소를 규모 옵션에 맞춰 넣습니다.
+ * 장소는 source = 'loadtest', 사용자는 이메일 '@load.test'로 구분하며 --reset 시 이 표시로 지웁니다.
+ * 스키마는 서버(ddl-auto)가 만든 것을 그대로 사용하므로 서버를 한 번 띄운 뒤 실행해야 합니다.
+ * 사용자/여행 외 테이블은 ID를 id_sequences에서 블록으로 예약해 직접 넣습니다 (서버의 Hibernate 채번과 공유).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    static final String SOURCE = "loadtest";
+    static final String EMAIL_DOMAIN = "@load.test";
+    static final String PASSWORD = "Load1234!";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int TRIPS_PER_USER = 2;
+    private static final int PLACES_PER_TRIP = 5;
+
+    private static final String[] REGIONS = {"서울", "부산", "제주", "강릉", "경주", "전주", "여수", "인천"};
+    private static final double[][] REGION_CENTERS = {
+            {37.5665, 126.9780}, {35.1796, 129.0756}, {33.4996, 126.5312}, {37.7519, 128.8761},
+            {35.8562, 129.2247}, {35.8242, 127.1480}, {34.7604, 127.6622}, {37.4563, 126.7052}
+    };
+    private static final String[] CATEGORIES = {"관광명소", "카페", "음식점", "박물관", "쇼핑", "공원"};
+    private static final String[] OPERATING_HOURS = {
+            "09:00-18:00", "10:00-22:00", "24시간", "월-금 09:00-18:00, 토 10:00-14:00, 일 휴무",
+            "11:00-15:00, 17:00-22:00", "09:00-18:00 (월요일 휴무)", "10:00-22:00 브레이크타임 15:00-17:00", null
+    };
+    private static final CrowdLevel[] CROWD_LEVELS = {CrowdLevel.LOW, CrowdLevel.MEDIUM, CrowdLevel.HIGH};
+    // 좌표 흩뿌림 반경 (도, 약 ±10km)
+    private static final double JITTER_DEGREES = 0.1;
+
+    private final LoadTestOptions options;
+
+    // 적재된 장소 (지역별 ID 목록) - 여정 실행 시 지역 선택에 사용
+    public record SeededPlaces(Map<String, long[]> idsByRegion) {
+    }
+
+    public SeededPlaces seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                options.jdbcUrl(), options.jdbcUsername(), options.jdbcPassword())) {
+            connection.setAutoCommit(false);
+            if (options.reset()) {
+                reset(connection);
+            }
+            if (count(connection, "SELECT COUNT(*) FROM places WHERE source = '" + SOURCE + "'") > 0) {
+                log.info("부하 테스트 데이터가 이미 있어 적재를 건너뜁니다 (--reset으로 재적재)");
+                return new SeededPlaces(loadPlaces(connection).idsByRegion());
+            }
+            SplittableRandom random = new SplittableRandom(options.randomSeed());
+            long startedAt = System.nanoTime();
+
+            insertPlaces(connection, random);
+            PlaceRows places = loadPlaces(connection);
+            insertCrowdData(connection, random, places);
+            insertMovingTimes(connection, places);
+            long[] userIds = insertUsers(connection);
+            insertTrips(connection, random, userIds, places);
+
+            log.info("시드 적재 완료: 장소 {}개, 혼잡도 장소 {}개, 사용자 {}명, {}초",
+                    places.ids().length, Math.min(options.crowdPlaces(), places.ids().length), userIds.length,
+                    (System.nanoTime() - startedAt) / 1_000_000_000);
+            return new SeededPlaces(places.idsByRegion());
+        }
+    }
+
+    // 적재된 장소만 다시 읽음 (--mode=run)
+    public SeededPlaces load() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                options.jdbcUrl(), options.jdbcUsername(), options.jdbcPassword())) {
+            return new SeededPlaces(loadPlaces(connection).idsByRegion());
+        }
+    }
+
+    private void insertPlaces(Connection connection, SplittableRandom random) throws SQLException {
+        String sql = "INSERT INTO places (id, name, region, category, address, latitude, longitude, operating_hours,"
+                + " estimated_stay_time, image_url, source, created_at, modified_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long firstId = reserveIds(connection, IdSequences.PLACES, options.places());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < options.places(); i++) {
+                int region = i % REGIONS.length;
+                double lat = REGION_CENTERS[region][0] + (random.nextDouble() * 2 - 1) * JITTER_DEGREES;
+                double lng = REGION_CENTERS[region][1] + (random.nextDouble() * 2 - 1) * JITTER_DEGREES;
+                statement.setLong(1, firstId + i);
+                statement.setString(2, "부하 장소 " + i);
+                statement.setString(3, REGIONS[region]);
+                statement.setString(4, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                statement.setString(5, REGIONS[region] + " 부하로 " + i);
+                statement.setBigDecimal(6, coordinate(lat));
+                statement.setBigDecimal(7, coordinate(lng));
+                statement.setString(8, OPERATING_HOURS[random.nextInt(OPERATING_HOURS.length)]);
+                statement.setInt(9, 30 + 15 * random.nextInt(8));
+                statement.setString(10, null);
+                statement.setString(11, SOURCE);
+                statement.setTimestamp(12, now);
+                statement.setTimestamp(13, now);
+                addBatch(connection, statement, i, options.places(), "장소");
+            }
+        }
+    }
+
+    // 요일 x 시간 168행을 앞쪽 crowdPlaces개 장소에
+    private void insertCrowdData(Connection connection, SplittableRandom random, PlaceRows places)
+            throws SQLException {
+        String sql = "INSERT INTO place_crowd_data (id, place_id, day_of_week, crowd_hour, crowd_level,"
+                + " waiting_risk_score, avg_waiting_min, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int placeCount = Math.min(options.crowdPlaces(), places.ids().length);
+        int total = placeCount * 7 * 24;
+        long firstId = reserveIds(connection, IdSequences.PLACE_CROWD_DATA, total);
+        int row = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int p = 0; p < placeCount; p++) {
+                for (int day = 0; day < 7; day++) {
+                    for (int hour = 0; hour < 24; hour++) {
+                        int level = random.nextInt(CROWD_LEVELS.length);
+                        statement.setLong(1, firstId + row);
+                        statement.setLong(2, places.ids()[p]);
+                        statement.setInt(3, day);
+                        statement.setInt(4, hour);
+                        statement.setString(5, CROWD_LEVELS[level].getLabel());
+                        statement.setBigDecimal(6, BigDecimal.valueOf(level * 0.33 + random.nextDouble() * 0.32)
+                                .setScale(2, RoundingMode.HALF_UP));
+                        statement.setInt(7, level * 10 + random.nextInt(10));
+                        statement.setTimestamp(8, now);
+                        statement.setTimestamp(9, now);
+                        addBatch(connection, statement, row++, total, "혼잡도");
+                    }
+                }
+            }
+        }
+    }
+
+    // 같은 지역 목록에서 뒤따르는 이웃 k개와의 이동시간 (쌍이 겹치지 않음)
+    private void insertMovingTimes(Connection connection, PlaceRows places) throws SQLException {
+        String sql = "INSERT INTO place_moving_times (id, from_place_id, to_place_id, distance_km, time_minutes,"
+                + " transport_type, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        for (List<Integer> members : places.indexesByRegion().values()) {
+            total += members.size() * Math.min(options.movingTimesPerPlace(), members.size() - 1);
+        }
+        long firstId = reserveIds(connection, IdSequences.PLACE_MOVING_TIMES, total);
+        int row = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (List<Integer> members : places.indexesByRegion().values()) {
+                int neighbors = Math.min(options.movingTimesPerPlace(), members.size() - 1);
+                for (int k = 0; k < members.size(); k++) {
+                    int from = members.get(k);
+                    for (int step = 1; step <= neighbors; step++) {
+                        int to = members.get((k + step) % members.size());
+                        double km = GeoUtils.haversineKm(places.latitudes()[from], places.longitudes()[from],
+                                places.latitudes()[to], places.longitudes()[to]);
+                        statement.setLong(1, firstId + row);
+                        statement.setLong(2, places.ids()[from]);
+                        statement.setLong(3, places.ids()[to]);
+                        statement.setBigDecimal(4, BigDecimal.valueOf(Math.min(9_999.99, km * 1.3))
+                                .setScale(2, RoundingMode.HALF_UP));
+                        statement.setInt(5, (int) Math.round(8 + km * 60.0 / 18.0));
+                        statement.setString(6, "대중교통");
+                        statement.setTimestamp(7, now);
+                        statement.setTimestamp(8, now);
+                        addBatch(connection, statement, row++, total, "이동시간");
+                    }
+                }
+            }
+        }
+    }
+
+    // 같은 비밀번호 해시를 공유 (로그인 여정에서 사용 가능)
+    private long[] insertUsers(Connection connection) throws SQLException {
+        String sql = "INSERT INTO users (email, password, name, role, created_at, modified_at)"
+                + " VALUES (?, ?, ?, 'ROLE_USER', ?, ?)";
+        String encoded = new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < options.users(); i++) {
+                statement.setString(1, "seed-" + i + EMAIL_DOMAIN);
+                statement.setString(2, encoded);
+                statement.setString(3, "시드" + i);
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                addBatch(connection, statement, i, options.users(), "사용자");
+            }
+        }
+        return ids(connection, "SELECT id FROM users WHERE email LIKE 'seed-%" + EMAIL_DOMAIN + "' ORDER BY id");
+    }
+
+    private void insertTrips(Connection connection, SplittableRandom random, long[] userIds, PlaceRows places)
+            throws SQLException {
+        String tripSql = "INSERT INTO trips (user_id, title, region, style, trip_style, start_date, end_date, status,"
+                + " created_at, modified_at) VALUES (?, ?, ?, ?, 'NORMAL', ?, ?, 'DRAFT', ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        int total = userIds.length * TRIPS_PER_USER;
+        String[] tripRegions = new String[total];
+        try (PreparedStatement statement = connection.prepareStatement(tripSql)) {
+            for (int i = 0; i < total; i++) {
+                String region = REGIONS[random.nextInt(REGIONS.length)];
+                tripRegions[i] = region;
+                statement.setLong(1, userIds[i / TRIPS_PER_USER]);
+                statement.setString(2, "시드 여행 " + i);
+                statement.setString(3, region);
+                statement.setString(4, "여유롭게");
+                statement.setObject(5, startDate);
+                statement.setObject(6, startDate.plusDays(2));
+                statement.setTimestamp(7, now);
+                statement.setTimestamp(8, now);
+                addBatch(connection, statement, i, total, "여행");
+            }
+        }
+        // 삽입 순서 = ID 순서이므로 지역 배열과 짝지음
+        long[] tripIds = ids(connection, "SELECT t.id FROM trips t JOIN users u ON u.id = t.user_id"
+                + " WHERE u.email LIKE 'seed-%" + EMAIL_DOMAIN + "' ORDER BY t.id");
+
+        String tripPlaceSql = "INSERT INTO trip_places (id, trip_id, place_id, is_selected, created_at, modified_at)"
+                + " VALUES (?, ?, ?, TRUE, ?, ?)";
+        Map<String, long[]> idsByRegion = places.idsByRegion();
+        int rows = tripIds.length * PLACES_PER_TRIP;
+        long firstId = reserveIds(connection, IdSequences.TRIP_PLACES, rows);
+        int row = 0;
+        try (PreparedStatement statement = connection.prepareStatement(tripPlaceSql)) {
+            for (int t = 0; t < tripIds.length; t++) {
+                long[] candidates = idsByRegion.get(tripRegions[t]);
+                int picks = Math.min(PLACES_PER_TRIP, candidates.length);
+                int offset = random.nextInt(candidates.length);
+                for (int k = 0; k < PLACES_PER_TRIP; k++) {
+                    if (k < picks) {
+                        statement.setLong(1, firstId + row);
+                        statement.setLong(2, tripIds[t]);
+                        statement.setLong(3, candidates[(offset + k) % candidates.length]);
+                        statement.setTimestamp(4, now);
+                        statement.setTimestamp(5, now);
+                        statement.addBatch();
+                    }
+                    flushIfFull(connection, statement, row++, rows, "여행 장소");
+                }
+            }
+        }
+    }
+
+    // 부하 테스트가 만든 데이터만 자식 테이블부터 삭제
+    private void reset(Connection connection) throws SQLException {
+        String loadUsers = "SELECT id FROM users WHERE email LIKE '%" + EMAIL_DOMAIN + "'";
+        String loadTrips = "SELECT id FROM trips WHERE user_id IN (" + loadUsers + ")";
+        String loadPlaces = "SELECT id FROM places WHERE source = '" + SOURCE + "'";
+        String[] statements = {
+                "DELETE FROM schedules WHERE trip_id IN (" + loadTrips + ") OR place_id IN (" + loadPlaces + ")",
+                "DELETE FROM trip_places WHERE trip_id IN (" + loadTrips + ") OR place_id IN (" + loadPlaces + ")",
+                "DELETE FROM trips WHERE user_id IN (" + loadUsers + ")",
+                "DELETE FROM users WHERE email LIKE '%" + EMAIL_DOMAIN + "'",
+                "DELETE FROM place_crowd_data WHERE place_id IN (" + loadPlaces + ")",
+                "DELETE FROM place_moving_times WHERE from_place_id IN (" + loadPlaces + ")"
+                        + " OR to_place_id IN (" + loadPlaces + ")",
+                "DELETE FROM place_style_tags WHERE place_id IN (" + loadPlaces + ")",
+                "DELETE FROM places WHERE source = '" + SOURCE + "'"
+        };
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                int deleted = statement.executeUpdate(sql);
+                log.info("초기화: {}행 삭제 - {}", deleted, sql.substring(0, sql.indexOf(" WHERE")));
+            }
+        }
+        connection.commit();
+    }
+
+    // ID 블록을 예약하고 바로 커밋해 시퀀스 행 잠금을 적재 중에 잡고 있지 않음
+    private long reserveIds(Connection connection, String sequence, int count) throws SQLException {
+        long firstId = IdSequences.allocate(connection, sequence, count);
+        connection.commit();
+        return firstId;
+    }
+
+    private void addBatch(Connection connection, PreparedStatement statement, int index, int total, String label)
+            throws SQLException {
+        statement.addBatch();
+        flushIfFull(connection, statement, index, total, label);
+    }
+
+    // BATCH_SIZE마다, 그리고 마지막 행에서 실행/커밋
+    private void flushIfFull(Connection connection, PreparedStatement statement, int index, int total, String label)
+            throws SQLException {
+        if ((index + 1) % BATCH_SIZE != 0 && index + 1 != total) {
+            return;
+        }
+        statement.executeBatch();
+        connection.commit();
+        if ((index + 1) % (BATCH_SIZE * 100) == 0 || index + 1 == total) {
+            log.info("{} 적재 {}/{}", label, index + 1, total);
+        }
+    }
+
+    private PlaceRows loadPlaces(Connection connection) throws SQLException {
+        int size = 0;
+        long[] ids = new long[Math.max(16, options.places())];
+        double[] latitudes = new double[ids.length];
+        double[] longitudes = new double[ids.length];
+        String[] regions = new String[ids.length];
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, region, latitude, longitude FROM places"
+                     + " WHERE source = '" + SOURCE + "' ORDER BY id")) {
+            while (rs.next()) {
+                if (size == ids.length) {
+                    int capacity = size * 2;
+                    ids = Arrays.copyOf(ids, capacity);
+                    latitudes = Arrays.copyOf(latitudes, capacity);
+                    longitudes = Arrays.copyOf(longitudes, capacity);
+                    regions = Arrays.copyOf(regions, capacity);
+                }
+                ids[size] = rs.getLong(1);
+                regions[size] = rs.getString(2);
+                latitudes[size] = rs.getDouble(3);
+                longitudes[size] = rs.getDouble(4);
+                size++;
+            }
+        }
+        Map<String, List<Integer>> indexesByRegion = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            indexesByRegion.computeIfAbsent(regions[i], key -> new ArrayList<>()).add(i);
+        }
+        return new PlaceRows(Arrays.copyOf(ids, size), latitudes, longitudes, indexesByRegion);
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static long[] ids(Connection connection, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(7, RoundingMode.HALF_UP);
+    }
+
+    // 읽어 온 장소 (순번 기준 배열 + 지역별 순번 목록)
+    private record PlaceRows(long[] ids, double[] latitudes, double[] longitudes,
+                             Map<String, List<Integer>> indexesByRegion) {
+
+        Map<String, long[]> idsByRegion() {
+            Map<String, long[]> result = new HashMap<>();
+            indexesByRegion.forEach((region, indexes) ->
+                    result.put(region, indexes.stream().mapToLong(index -> ids[index]).toArray()));
+            return result;
+        }
+    }
+}
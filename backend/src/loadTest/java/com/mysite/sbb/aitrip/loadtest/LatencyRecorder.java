@@ -0,0 +1,69 @@
+package com.mysite.sbb.aitrip.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트(메서드 + 경로 템플릿)별 응답시간 기록
+ * 정확한 백분위를 위해 원본 값(마이크로초)을 모두 보관하고 보고 시 한 번 정렬합니다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public record EndpointStats(String endpoint, long count, long errors, double throughputPerSecond,
+                                double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        series.computeIfAbsent(endpoint, key -> new Series()).add(elapsedNanos / 1_000, success);
+    }
+
+    // 엔드포인트 이름순 통계 (처리량은 전체 실행 시간 기준)
+    public List<EndpointStats> summarize(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, Series> sorted = new LinkedHashMap<>();
+        series.keySet().stream().sorted().forEach(key -> sorted.put(key, series.get(key)));
+        List<EndpointStats> stats = new ArrayList<>(sorted.size());
+        sorted.forEach((endpoint, values) -> stats.add(values.stats(endpoint, seconds)));
+        return stats;
+    }
+
+    private static final class Series {
+
+        private long[] micros = new long[1_024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedMicros, boolean success) {
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = elapsedMicros;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats stats(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(micros, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, size, errors, seconds > 0 ? size / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000.0);
+        }
+
+        // nearest-rank 백분위 (밀리초)
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000.0;
+        }
+    }
+}
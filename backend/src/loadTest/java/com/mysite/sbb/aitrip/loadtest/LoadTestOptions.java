@@ -0,0 +1,82 @@
+package com.mysite.sbb.aitrip.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value 형식)
+ *
+ * @param baseUrl            대상 서버 주소
+ * @param jdbcUrl            시드 데이터를 넣을 DB (서버와 같은 DB여야 함)
+ * @param places             시드 장소 수 (--scale=1k|100k|1m 또는 숫자)
+ * @param crowdPlaces        혼잡도(요일 x 시간 168행)를 넣을 장소 수
+ * @param movingTimesPerPlace 장소마다 같은 지역 이웃과의 이동시간 행 수
+ * @param users              시드 사용자 수 (사용자당 여행 2개, 여행당 장소 5개)
+ * @param concurrency        동시 가상 사용자 수
+ * @param iterations         가상 사용자당 여정 반복 횟수
+ * @param duration           최대 실행 시간 (반복이 남아도 종료)
+ * @param randomSeed         시드 데이터/여정 난수 시드 (같은 값이면 같은 데이터)
+ * @param seedData           --mode=seed|all 일 때 시드 적재
+ * @param runJourneys        --mode=run|all 일 때 여정 실행
+ * @param reset              기존 부하 테스트 데이터를 지우고 다시 적재
+ * @param output             결과 JSON 디렉터리
+ */
+public record LoadTestOptions(String baseUrl, String jdbcUrl, String jdbcUsername, String jdbcPassword,
+                              int places, int crowdPlaces, int movingTimesPerPlace, int users,
+                              int concurrency, int iterations, Duration duration, long randomSeed,
+                              boolean seedData, boolean runJourneys, boolean reset, String output) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        int places = parseScale(values.getOrDefault("scale", "1k"));
+        String mode = values.getOrDefault("mode", "all");
+        return new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                values.getOrDefault("jdbc-url", "jdbc:mysql://localhost:3306/aitrip?rewriteBatchedStatements=true"),
+                values.getOrDefault("jdbc-username", "root"),
+                values.getOrDefault("jdbc-password", "root"),
+                places,
+                intValue(values, "crowd-places", Math.min(places, 20_000)),
+                intValue(values, "moving-times-per-place", 5),
+                intValue(values, "users", Math.max(10, Math.min(10_000, places / 100))),
+                intValue(values, "concurrency", 200),
+                intValue(values, "iterations", 5),
+                Duration.ofSeconds(intValue(values, "duration-seconds", 600)),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                mode.equals("all") || mode.equals("seed"),
+                mode.equals("all") || mode.equals("run"),
+                Boolean.parseBoolean(values.getOrDefault("reset", "false")),
+                values.getOrDefault("output", "build/results/loadtest"));
+    }
+
+    // 1k / 100k / 1m 같은 축약 표기 지원
+    static int parseScale(String value) {
+        String normalized = value.strip().toLowerCase();
+        int multiplier = 1;
+        if (normalized.endsWith("k")) {
+            multiplier = 1_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        } else if (normalized.endsWith("m")) {
+            multiplier = 1_000_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return Math.multiplyExact(Integer.parseInt(normalized), multiplier);
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,144 @@
+package com.mysite.sbb.aitrip.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 부하 테스트 실행기
+ * 시드 데이터를 적재한 뒤, 동시 가상 사용자(가상 스레드 1개씩)가 여정을 반복하고
+ * 엔드포인트별 처리량과 p50/p95/p99를 콘솔 표와 JSON 파일로 남깁니다.
+ *
+ * 실행 예 (서버는 같은 DB를 보도록 별도로 띄워 둠):
+ * ./gradlew loadTest --args='--scale=100k --concurrency=500 --iterations=10'
+ * ./gradlew loadTest --args='--mode=seed --scale=1m --reset'
+ * ./gradlew loadTest --args='--mode=run --concurrency=2000 --duration-seconds=300'
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        DataSeeder seeder = new DataSeeder(options);
+        DataSeeder.SeededPlaces places = options.seedData() ? seeder.seed() : seeder.load();
+        if (places.idsByRegion().isEmpty()) {
+            throw new IllegalStateException("시드 장소가 없습니다. --mode=seed 로 먼저 적재하세요.");
+        }
+        if (options.runJourneys()) {
+            new LoadTestRunner().run(options, places);
+        }
+    }
+
+    private void run(LoadTestOptions options, DataSeeder.SeededPlaces places) throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LatencyRecorder recorder = new LatencyRecorder();
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + options.duration().toNanos();
+
+        log.info("여정 시작: 가상 사용자 {}명 x {}회, 대상 {}", options.concurrency(), options.iterations(), options.baseUrl());
+        long startedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                int userIndex = i;
+                executor.submit(() -> {
+                    UserJourney journey = new UserJourney(client, objectMapper, recorder, options, places);
+                    SplittableRandom random = new SplittableRandom(options.randomSeed() + userIndex);
+                    try {
+                        start.await();
+                        journey.signupAndLogin("lt-" + runId + "-" + userIndex + DataSeeder.EMAIL_DOMAIN);
+                        for (int n = 0; n < options.iterations() && System.nanoTime() < deadline; n++) {
+                            try {
+                                journey.iterate(random);
+                                completed.increment();
+                            } catch (UserJourney.JourneyException e) {
+                                failed.increment();
+                                log.debug("여정 실패: {}", e.getMessage());
+                            }
+                        }
+                    } catch (UserJourney.JourneyException e) {
+                        failed.increment();
+                        log.debug("로그인 실패: {}", e.getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(options.duration().toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        List<LatencyRecorder.EndpointStats> stats = recorder.summarize(elapsedNanos);
+        print(stats, completed.sum(), failed.sum(), elapsedNanos);
+        write(options, objectMapper, stats, completed.sum(), failed.sum(), elapsedNanos);
+    }
+
+    private void print(List<LatencyRecorder.EndpointStats> stats, long completed, long failed, long elapsedNanos) {
+        StringBuilder table = new StringBuilder(String.format("%n%-42s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (LatencyRecorder.EndpointStats s : stats) {
+            table.append(String.format("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.endpoint(), s.count(), s.errors(), s.throughputPerSecond(),
+                    s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+        }
+        table.append(String.format("여정 완료 %d / 실패 %d, %.1f초, 여정 %.2f/s",
+                completed, failed, elapsedNanos / 1e9, completed / (elapsedNanos / 1e9)));
+        log.info(table.toString());
+    }
+
+    // 커밋 간 비교용 결과 파일 (옵션 + 엔드포인트별 통계)
+    private void write(LoadTestOptions options, ObjectMapper objectMapper, List<LatencyRecorder.EndpointStats> stats,
+                       long completed, long failed, long elapsedNanos) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        // DB 접속 정보는 남기지 않음
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", options.baseUrl());
+        settings.put("places", options.places());
+        settings.put("crowdPlaces", options.crowdPlaces());
+        settings.put("movingTimesPerPlace", options.movingTimesPerPlace());
+        settings.put("users", options.users());
+        settings.put("concurrency", options.concurrency());
+        settings.put("iterations", options.iterations());
+        settings.put("randomSeed", options.randomSeed());
+        result.put("options", settings);
+        result.put("elapsedSeconds", elapsedNanos / 1e9);
+        result.put("journeysCompleted", completed);
+        result.put("journeysFailed", failed);
+        result.put("endpoints", stats);
+
+        Path directory = Path.of(options.output());
+        Files.createDirectories(directory);
+        Path file = directory.resolve("loadtest-" + options.places() + "-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+        log.info("결과 저장: {}", file.toAbsolutePath());
+    }
+}
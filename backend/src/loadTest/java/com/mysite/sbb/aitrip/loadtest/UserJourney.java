@@ -0,0 +1,152 @@
+package com.mysite.sbb.aitrip.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 가상 사용자 한 명의 여정
+ * 가입 → 로그인 후 반복마다 장소 검색 → 여행 생성 → 장소 추가 → 일정 최적화 → 조회를 수행하고
+ * 요청마다 경로 템플릿 이름으로 응답시간을 기록합니다.
+ */
+@RequiredArgsConstructor
+public class UserJourney {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PLACES_PER_TRIP = 5;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final LoadTestOptions options;
+    private final DataSeeder.SeededPlaces places;
+
+    private String accessToken;
+
+    // 여정 중 실패한 요청 (기록은 이미 끝났으므로 해당 반복만 중단)
+    static class JourneyException extends RuntimeException {
+        JourneyException(String endpoint, String reason) {
+            super(endpoint + " 실패: " + reason);
+        }
+    }
+
+    public void signupAndLogin(String email) throws InterruptedException {
+        post("POST /api/auth/signup", "/api/auth/signup",
+                Map.of("email", email, "password", DataSeeder.PASSWORD, "name", "부하사용자"));
+        JsonNode tokens = post("POST /api/auth/login", "/api/auth/login",
+                Map.of("email", email, "password", DataSeeder.PASSWORD));
+        accessToken = tokens.path("accessToken").asText();
+    }
+
+    public void iterate(SplittableRandom random) throws InterruptedException {
+        List<String> regions = new ArrayList<>(places.idsByRegion().keySet());
+        regions.sort(null);
+        String region = regions.get(random.nextInt(regions.size()));
+
+        // 검색 결과 첫 페이지에서 장소를 고르고, 부족하면 시드 ID로 채움
+        JsonNode page = get("GET /api/places", "/api/places?region=" + encode(region) + "&size=20");
+        List<Long> placeIds = new ArrayList<>();
+        for (JsonNode place : page.path("content")) {
+            if (placeIds.size() < PLACES_PER_TRIP && random.nextBoolean()) {
+                placeIds.add(place.path("id").asLong());
+            }
+        }
+        long[] seeded = places.idsByRegion().get(region);
+        while (placeIds.size() < Math.min(PLACES_PER_TRIP, seeded.length)) {
+            long candidate = seeded[random.nextInt(seeded.length)];
+            if (!placeIds.contains(candidate)) {
+                placeIds.add(candidate);
+            }
+        }
+
+        JsonNode firstPlace = get("GET /api/places/{id}", "/api/places/" + placeIds.get(0));
+        get("GET /api/places/nearby", "/api/places/nearby?lat=" + firstPlace.path("latitude").asDouble()
+                + "&lng=" + firstPlace.path("longitude").asDouble() + "&radiusKm=3&limit=20");
+
+        JsonNode trip = post("POST /api/trips", "/api/trips", Map.of(
+                "title", "부하 여행",
+                "region", region,
+                "style", "여유롭게",
+                "tripStyle", "NORMAL",
+                "startDate", "2025-06-01",
+                "endDate", "2025-06-02"));
+        long tripId = trip.path("id").asLong();
+        for (Long placeId : placeIds) {
+            post("POST /api/trips/{id}/places", "/api/trips/" + tripId + "/places",
+                    Map.of("placeId", placeId, "isSelected", true));
+        }
+        post("POST /api/trips/{id}/schedules/optimize", "/api/trips/" + tripId + "/schedules/optimize", null);
+
+        get("GET /api/trips", "/api/trips");
+        get("GET /api/trips/{id}", "/api/trips/" + tripId);
+        get("GET /api/trips/{id}/places", "/api/trips/" + tripId + "/places");
+        get("GET /api/trips/{id}/schedules", "/api/trips/" + tripId + "/schedules");
+    }
+
+    private JsonNode get(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, request(path).GET().build());
+    }
+
+    private JsonNode post(String endpoint, String path, Object body) throws InterruptedException {
+        HttpRequest.BodyPublisher publisher;
+        try {
+            publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new JourneyException(endpoint, e.getMessage());
+        }
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    // 응답 본문의 data 노드 반환, 4xx/5xx나 I/O 오류는 실패로 기록 후 JourneyException
+    private JsonNode send(String endpoint, HttpRequest request) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - startedAt, false);
+            throw new JourneyException(endpoint, e.getClass().getSimpleName());
+        }
+        boolean success = response.statusCode() < 400;
+        recorder.record(endpoint, System.nanoTime() - startedAt, success);
+        if (!success) {
+            throw new JourneyException(endpoint, "HTTP " + response.statusCode());
+        }
+        try {
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            throw new JourneyException(endpoint, "응답 파싱 실패");
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -4,17 +4,17 @@ import com.mysite.sbb.aitrip.auth.dto.*;
 import com.mysite.sbb.aitrip.auth.service.AuthService;
 import com.mysite.sbb.aitrip.global.response.ApiResponse;
 import com.mysite.sbb.aitrip.global.security.CustomUserDetails;
+import com.mysite.sbb.aitrip.global.security.jwt.VerifiedToken;
 import com.mysite.sbb.aitrip.user.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.util.StringUtils;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -54,18 +54,10 @@ public class AuthController {
     @PostMapping("/api/auth/logout")
     @Operation(summary = "로그아웃", security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<ApiResponse<Void>> logout(
-            HttpServletRequest request,
+            @CurrentSecurityContext(expression = "authentication.credentials") VerifiedToken token,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        String token = resolveToken(request);
         authService.logout(token, userDetails.getUsername());
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
     }
 
-    private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
@@ -3,24 +3,30 @@ package com.mysite.sbb.aitrip.auth.service;
 import com.mysite.sbb.aitrip.auth.dto.*;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.security.PasswordHasher;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
 import com.mysite.sbb.aitrip.global.security.jwt.JwtTokenProvider;
+import com.mysite.sbb.aitrip.global.security.jwt.VerifiedToken;
 import com.mysite.sbb.aitrip.user.domain.User;
 import com.mysite.sbb.aitrip.user.dto.UserResponse;
 import com.mysite.sbb.aitrip.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenService tokenService;
+    private final PrincipalCache principalCache;
 
     // 회원가입
     @Transactional
@@ -29,20 +35,30 @@ public class AuthService {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHasher.encode(request.password());
         User user = request.toEntity(encodedPassword);
         User savedUser = userRepository.save(user);
         return UserResponse.from(savedUser);
     }
 
-    // 로그인
+    // 로그인 (BCrypt 비용 설정이 바뀌었으면 새 비용으로 재해시)
+    // 해시 검증/생성은 수백 ms 걸리므로 트랜잭션 밖에서 하고, 재해시 저장만 UPDATE 한 건짜리 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String rehashed = passwordHasher.encode(request.password());
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed,
+                    LocalDateTime.now()) > 0) {
+                // 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 직접 무효화
+                principalCache.evict(user.getEmail());
+            }
+        }
 
         String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
@@ -73,10 +89,10 @@ public class AuthService {
         return new TokenResponse(newAccessToken, newRefreshToken);
     }
 
-    // 로그아웃
-    public void logout(String accessToken, String email) {
-        long remainingExpiration = jwtTokenProvider.getRemainingExpiration(accessToken);
-        tokenService.addToBlacklist(accessToken, remainingExpiration);
+    // 로그아웃 (인증 필터에서 검증한 토큰을 그대로 사용)
+    public void logout(VerifiedToken accessToken, String email) {
+        tokenService.addToBlacklist(accessToken.token(), accessToken.remainingMillis());
         tokenService.deleteRefreshToken(email);
+        principalCache.evict(email);
     }
 }
@@ -0,0 +1,212 @@
+package com.mysite.sbb.aitrip.auth.service;
+
+import com.mysite.sbb.aitrip.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그아웃 토큰 블랙리스트 앞단의 로컬 블룸 필터
+ * 블랙리스트에 없는 토큰(대부분의 요청)은 Redis 조회 없이 통과시키고, 필터가 "있을 수도 있음"이라고 할 때만 Redis를 확인합니다.
+ * 다른 인스턴스의 등록은 pub/sub로 받아 반영하며, 만료 항목 정리를 위해 BL: 키를 주기적으로 다시 읽어 재구성합니다.
+ * 필터는 구독이 살아 있고 그 뒤로 재구성을 마친 동안에만 믿습니다. 그 외(시작 직후, 구독 실패, Redis 장애)에는
+ * 항상 "있을 수도 있음"을 돌려 Redis로 정확히 확인합니다. 구독 생존은 채널에 주기적으로 보내는 하트비트로 확인하고,
+ * 하트비트가 끊겼다 돌아오면 그 사이 유실됐을 수 있는 등록을 반영하도록 다시 재구성합니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistFilter implements MessageListener {
+
+    static final String CHANNEL = "BL:events";
+    static final String KEY_PREFIX = "BL:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int SCAN_BATCH = 1_000;
+    static final String HEARTBEAT = "PING";
+    // 하트비트가 이 횟수만큼 연속으로 오지 않으면 구독이 끊긴 것으로 봄
+    private static final int MISSED_HEARTBEATS = 3;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedEntries;
+    private final long heartbeatTimeoutMs;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile BloomFilter current;
+    // 재구성 중에 들어온 등록을 새 필터에도 넣기 위한 참조
+    private volatile BloomFilter rebuilding;
+    private volatile boolean subscribed;
+    private volatile long lastHeartbeatAt;
+    // 구독이 살아 있는 동안 재구성을 마쳐 필터가 모든 등록을 담고 있음
+    private volatile boolean synced;
+
+    public TokenBlacklistFilter(RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${security.blacklist.expected-entries:100000}") long expectedEntries,
+                                @Value("${security.blacklist.heartbeat-interval-ms:5000}") long heartbeatIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedEntries = expectedEntries;
+        this.heartbeatTimeoutMs = heartbeatIntervalMs * MISSED_HEARTBEATS;
+        this.current = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    // 토큰 원문 대신 저장/전파에 쓰는 SHA-256 해시 (base64url, 43자)
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        heartbeat();
+    }
+
+    // 구독 생존 확인: 끊겼으면 필터 사용 중단, 다시 살아났으면 재구성 후 사용 재개, 다음 하트비트 발행
+    @Scheduled(fixedDelayString = "${security.blacklist.heartbeat-interval-ms:5000}",
+            initialDelayString = "${security.blacklist.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!subscribed && !trySubscribe()) {
+            synced = false;
+            return;
+        }
+        if (!heartbeatAlive()) {
+            synced = false;
+        } else if (!synced) {
+            rebuild();
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, HEARTBEAT);
+        } catch (RuntimeException e) {
+            log.debug("블랙리스트 하트비트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // BL: 키 전체를 읽어 새 필터를 만든 뒤 교체 (Redis 장애 시 기존 필터를 두되 사용 중단)
+    // SCAN 동안 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock으로 직렬화
+    @Scheduled(fixedDelayString = "${security.blacklist.rebuild-interval-ms:600000}",
+            initialDelayString = "${security.blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            // 재구성 시작 전부터 구독이 살아 있어야 스캔 이후 등록도 메시지로 모두 받음
+            boolean alive = heartbeatAlive();
+            BloomFilter next = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+            rebuilding = next;
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    String value = keys.next().substring(KEY_PREFIX.length());
+                    // 해시 키 도입 이전의 원문 토큰 키는 해시로 환산
+                    put(next, isHash(value) ? value : hash(value));
+                    count++;
+                }
+                current = next;
+                synced = alive && heartbeatAlive();
+                log.info("블랙리스트 필터 재구성 완료: {}건", count);
+            } catch (RuntimeException e) {
+                synced = false;
+                log.warn("블랙리스트 필터 재구성 실패, 복구 전까지 Redis로 확인합니다: {}", e.getMessage());
+            } finally {
+                rebuilding = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 로컬 필터에 반영하고 다른 인스턴스에 전파
+    public void register(String tokenHash) {
+        add(tokenHash);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenHash);
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    // 필터를 믿을 수 없는 동안에는 항상 true (호출 측이 Redis로 확인)
+    public boolean mightContain(String tokenHash) {
+        if (!synced || !heartbeatAlive()) {
+            return true;
+        }
+        byte[] digest = Base64.getUrlDecoder().decode(tokenHash);
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return current.mightContain(buffer.getLong(0), buffer.getLong(8));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenHash = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (HEARTBEAT.equals(tokenHash)) {
+            lastHeartbeatAt = System.currentTimeMillis();
+        } else if (isHash(tokenHash)) {
+            add(tokenHash);
+        }
+    }
+
+    private boolean trySubscribe() {
+        try {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+            subscribed = true;
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 채널 구독 실패, 재시도 전까지 Redis로 확인합니다: {}", e.getMessage());
+        }
+        return subscribed;
+    }
+
+    private boolean heartbeatAlive() {
+        return System.currentTimeMillis() - lastHeartbeatAt <= heartbeatTimeoutMs;
+    }
+
+    private void add(String tokenHash) {
+        put(current, tokenHash);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            put(next, tokenHash);
+        }
+    }
+
+    private static void put(BloomFilter filter, String tokenHash) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(tokenHash));
+        filter.put(buffer.getLong(0), buffer.getLong(8));
+    }
+
+    // SHA-256 base64url(패딩 없음)은 43자이고 JWT와 달리 '.'이 없음
+    private static boolean isHash(String value) {
+        if (value.length() != 43) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,38 +1,85 @@
 package com.mysite.sbb.aitrip.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class TokenService {
 
     private static final String RT_PREFIX = "RT:";
     private static final String BL_PREFIX = "BL:";
+    private static final String REDIS_METRIC = "aitrip.redis.operations";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+
+    // Redis 작업별 지연 (요청마다 레지스트리를 조회하지 않도록 미리 생성)
+    private final Timer saveRefreshTimer;
+    private final Timer getRefreshTimer;
+    private final Timer deleteRefreshTimer;
+    private final Timer addBlacklistTimer;
+    private final Timer checkBlacklistTimer;
+    private final Counter blacklistFilteredCounter;
+
+    public TokenService(RedisTemplate<String, String> redisTemplate,
+                        TokenBlacklistFilter tokenBlacklistFilter,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.tokenBlacklistFilter = tokenBlacklistFilter;
+        this.saveRefreshTimer = redisTimer(meterRegistry, "refresh.save");
+        this.getRefreshTimer = redisTimer(meterRegistry, "refresh.get");
+        this.deleteRefreshTimer = redisTimer(meterRegistry, "refresh.delete");
+        this.addBlacklistTimer = redisTimer(meterRegistry, "blacklist.add");
+        this.checkBlacklistTimer = redisTimer(meterRegistry, "blacklist.check");
+        this.blacklistFilteredCounter = Counter.builder("aitrip.blacklist.filtered")
+                .description("로컬 블룸 필터로 Redis 조회를 생략한 블랙리스트 확인 수")
+                .register(meterRegistry);
+    }
 
     public void saveRefreshToken(String email, String refreshToken, long expirationMs) {
-        redisTemplate.opsForValue().set(RT_PREFIX + email, refreshToken, expirationMs, TimeUnit.MILLISECONDS);
+        saveRefreshTimer.record(() -> redisTemplate.opsForValue()
+                .set(RT_PREFIX + email, refreshToken, expirationMs, TimeUnit.MILLISECONDS));
     }
 
     public String getRefreshToken(String email) {
-        return redisTemplate.opsForValue().get(RT_PREFIX + email);
+        return getRefreshTimer.record(() -> redisTemplate.opsForValue().get(RT_PREFIX + email));
     }
 
     public void deleteRefreshToken(String email) {
-        redisTemplate.delete(RT_PREFIX + email);
+        deleteRefreshTimer.record(() -> redisTemplate.delete(RT_PREFIX + email));
     }
 
+    // 토큰 원문 대신 SHA-256 해시를 키로 저장 (키 크기 약 1/5)
     public void addToBlacklist(String accessToken, long remainingExpirationMs) {
         if (remainingExpirationMs > 0) {
-            redisTemplate.opsForValue().set(BL_PREFIX + accessToken, "logout", remainingExpirationMs, TimeUnit.MILLISECONDS);
+            String tokenHash = TokenBlacklistFilter.hash(accessToken);
+            addBlacklistTimer.record(() -> redisTemplate.opsForValue()
+                    .set(BL_PREFIX + tokenHash, "logout", remainingExpirationMs, TimeUnit.MILLISECONDS));
+            tokenBlacklistFilter.register(tokenHash);
         }
     }
 
+    // 로컬 필터가 없다고 하면 Redis 조회 생략
     public boolean isBlacklisted(String accessToken) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(BL_PREFIX + accessToken));
+        String tokenHash = TokenBlacklistFilter.hash(accessToken);
+        if (!tokenBlacklistFilter.mightContain(tokenHash)) {
+            blacklistFilteredCounter.increment();
+            return false;
+        }
+        // 해시 키 도입 전에 등록된 원문 키는 액세스 토큰 만료 후 사라지므로 그때까지만 함께 확인
+        return checkBlacklistTimer.record(() -> Boolean.TRUE.equals(redisTemplate.hasKey(BL_PREFIX + tokenHash))
+                || Boolean.TRUE.equals(redisTemplate.hasKey(BL_PREFIX + accessToken)));
+    }
+
+    private static Timer redisTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(REDIS_METRIC)
+                .description("TokenService의 Redis 작업 지연")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 }
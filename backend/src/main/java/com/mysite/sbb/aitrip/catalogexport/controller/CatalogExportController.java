@@ -0,0 +1,48 @@
+package com.mysite.sbb.aitrip.catalogexport.controller;
+
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import com.mysite.sbb.aitrip.catalogexport.service.CatalogExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "CatalogExport", description = "카탈로그 내보내기 API (관리자)")
+public class CatalogExportController {
+
+    private final CatalogExportService catalogExportService;
+
+    // 카탈로그 테이블 NDJSON 내보내기 API (Accept-Encoding에 gzip이 있으면 압축)
+    @GetMapping("/api/admin/exports/{table}")
+    @Operation(summary = "카탈로그 테이블 NDJSON 내보내기 (places, place-crowd-data, place-moving-times, place-style-tags)",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String table,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest webRequest) {
+        ExportTable exportTable = ExportTable.fromPathName(table);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportTable.getPathName() + ".ndjson").build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(catalogExportService.export(exportTable, gzip, webRequest));
+    }
+}
@@ -0,0 +1,34 @@
+package com.mysite.sbb.aitrip.catalogexport.domain;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 전체 내보내기를 허용하는 카탈로그 테이블
+ * 경로 이름은 테이블명의 '_'를 '-'로 바꾼 값입니다 (예: place-crowd-data).
+ */
+@Getter
+public enum ExportTable {
+    PLACES("places"),
+    PLACE_CROWD_DATA("place_crowd_data"),
+    PLACE_MOVING_TIMES("place_moving_times"),
+    PLACE_STYLE_TAGS("place_style_tags");
+
+    private final String tableName;
+    private final String pathName;
+
+    ExportTable(String tableName) {
+        this.tableName = tableName;
+        this.pathName = tableName.replace('_', '-');
+    }
+
+    public static ExportTable fromPathName(String pathName) {
+        for (ExportTable table : values()) {
+            if (table.pathName.equals(pathName)) {
+                return table;
+            }
+        }
+        throw new BusinessException(ErrorCode.NOT_FOUND_EXPORT_TABLE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mysite.sbb.aitrip.catalogexport.repository;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * 카탈로그 테이블 NDJSON 내보내기 전용 JDBC 저장소
+ * 결과를 리스트로 모으지 않고 커서로 한 행씩 읽어 바로 출력 스트림에 씁니다.
+ * MySQL은 fetchSize=Integer.MIN_VALUE로 행 단위 스트리밍 결과셋을 사용하고
+ * (읽는 동안 net_write_timeout은 드라이버의 netTimeoutForStreamingResults로 늘어남),
+ * 그 외(H2)는 일반 fetch size를 지정합니다.
+ * 한 SELECT 안에서 읽으므로 InnoDB 스냅샷 기준으로 일관된 덤프가 나옵니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 테이블 전체를 id 순으로 한 줄에 한 행씩 JSON 객체로 출력하고 행 수 반환 (출력 스트림은 닫지 않음)
+    public long export(ExportTable table, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 행 구분은 직접 쓰는 개행으로 처리
+            generator.setRootValueSeparator(null);
+            NdjsonRowWriter writer = new NdjsonRowWriter(generator);
+            jdbcTemplate.query(streamingStatement("SELECT * FROM " + table.getTableName() + " ORDER BY id"), writer);
+            return writer.rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private PreparedStatementCreator streamingStatement(String sql) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(isMySql(connection) ? Integer.MIN_VALUE : FETCH_SIZE);
+            return statement;
+        };
+    }
+
+    private boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+
+    // 첫 행에서 컬럼명을 camelCase 필드명으로 한 번만 변환해 두고 행마다 재사용
+    private static final class NdjsonRowWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private SerializedString[] fieldNames;
+        private long rows;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (fieldNames == null) {
+                fieldNames = fieldNames(rs.getMetaData());
+            }
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < fieldNames.length; i++) {
+                    generator.writeFieldName(fieldNames[i]);
+                    writeValue(rs.getObject(i + 1));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                // 클라이언트 연결 끊김 등은 SQL 예외로 감싸지 않고 그대로 전달
+                throw new UncheckedIOException(e);
+            }
+            rows++;
+        }
+
+        // java.sql 날짜 타입은 API 응답과 같은 ISO 문자열이 되도록 java.time으로 변환
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> generator.writeNull();
+                case Timestamp timestamp -> generator.writeObject(timestamp.toLocalDateTime());
+                case java.sql.Date date -> generator.writeObject(date.toLocalDate());
+                case Time time -> generator.writeObject(time.toLocalTime());
+                default -> generator.writeObject(value);
+            }
+        }
+
+        private static SerializedString[] fieldNames(ResultSetMetaData metaData) throws SQLException {
+            SerializedString[] names = new SerializedString[metaData.getColumnCount()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = new SerializedString(JdbcUtils.convertUnderscoreNameToPropertyName(
+                        JdbcUtils.lookupColumnName(metaData, i + 1)));
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.mysite.sbb.aitrip.catalogexport.service;
+
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import com.mysite.sbb.aitrip.catalogexport.repository.CatalogExportRepository;
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카탈로그 테이블 전체 내보내기 (관리자/ML 배치용)
+ * 본문은 MVC 비동기 스레드에서 스트리밍되며, 내보내기 하나가 끝날 때까지 DB 커넥션 하나를 점유하므로
+ * 동시 실행 수를 제한하고 초과 요청은 바로 503으로 거절합니다.
+ * 허가는 스트리밍이 끝날 때와 비동기 요청이 끝날 때(타임아웃/오류로 본문이 실행되지 않은 경우 포함) 중 먼저 오는 쪽에서 한 번만 반납합니다.
+ * 트랜잭션 없이 단일 SELECT로 읽습니다.
+ */
+@Slf4j
+@Service
+public class CatalogExportService {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String PERMIT_INTERCEPTOR_KEY = CatalogExportService.class.getName() + ".permit";
+
+    private final CatalogExportRepository catalogExportRepository;
+    private final Semaphore permits;
+
+    public CatalogExportService(CatalogExportRepository catalogExportRepository,
+                                @Value("${catalog-export.max-concurrent:2}") int maxConcurrent) {
+        this.catalogExportRepository = catalogExportRepository;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // 허가를 먼저 받고, 스트리밍이 끝나거나 비동기 요청이 완료되면 반납
+    public StreamingResponseBody export(ExportTable table, boolean gzip, NativeWebRequest webRequest) {
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(PERMIT_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        release.run();
+                    }
+                });
+        return out -> {
+            long startedAt = System.nanoTime();
+            try {
+                long rows;
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    rows = catalogExportRepository.export(table, compressed);
+                    compressed.finish();
+                } else {
+                    rows = catalogExportRepository.export(table, out);
+                }
+                log.info("카탈로그 내보내기 완료: {} {}행, {}ms", table.getTableName(), rows,
+                        (System.nanoTime() - startedAt) / 1_000_000);
+            } finally {
+                release.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Enumeration;
+
+/**
+ * 공개 카탈로그 GET의 ETag / 조건부 요청 처리
+ * ETag는 콘텐츠 그룹 버전("places-42")이라 컨트롤러를 실행하기 전에 만들 수 있고,
+ * If-None-Match가 일치하면 DB 조회와 직렬화 없이 304로 끝냅니다.
+ * 그룹 안의 쓰기는 모두 버전을 올리므로 같은 URL의 응답이 바뀌면 ETag도 반드시 바뀝니다.
+ * 인스턴스 메모리 저장소로 응답하는 조회는 버전이 올라도 내용이 늦게 바뀔 수 있어 ETag를 붙이지 않습니다.
+ * CORS가 적용되는 보안 필터 체인 뒤, 응답 캐시 앞에서 실행합니다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    static final String GZIP_SUFFIX = "-gzip";
+
+    private final ContentVersions contentVersions;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return ContentGroup.ofVersioned(request) == null || ContentGroup.servedFromLocalStore(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 다른 인스턴스의 쓰기를 놓쳤을 수 있는 동안에는 ETag를 내보내지도, 비교하지도 않음
+        if (!contentVersions.reliable()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ContentGroup group = ContentGroup.ofVersioned(request);
+        String etag = etag(group, contentVersions.current(group));
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    static String etag(ContentGroup group, long version) {
+        return "\"" + group.name().toLowerCase().replace('_', '-') + "-" + version + "\"";
+    }
+
+    // gzip 본문을 그대로 내려보낼 때의 ETag (인코딩이 다르면 강한 ETag도 달라야 함)
+    static String gzipVariant(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    // If-None-Match는 약한 비교: W/ 접두사와 gzip 변형 접미사를 무시
+    private boolean matches(Enumeration<String> headers, String etag) {
+        if (headers == null) {
+            return false;
+        }
+        String gzipEtag = gzipVariant(etag);
+        while (headers.hasMoreElements()) {
+            for (String candidate : headers.nextElement().split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
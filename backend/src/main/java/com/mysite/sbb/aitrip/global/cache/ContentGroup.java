@@ -0,0 +1,76 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공개 조회 API의 콘텐츠 그룹
+ * 그룹마다 버전을 따로 두어 한 테이블의 쓰기가 다른 그룹의 캐시를 비우지 않게 합니다.
+ * 다른 인스턴스의 쓰기로 버전이 오르면 그룹의 응답을 만드는 2차 캐시 영역도 비웁니다.
+ */
+public enum ContentGroup {
+
+    PLACES("/api/places", CacheRegions.PLACE, CacheRegions.PLACE_STYLE_TAG),
+    CROWD_DATA("/api/place-crowd-data", CacheRegions.PLACE_CROWD_DATA),
+    MOVING_TIMES("/api/place-moving-times");
+
+    // 현재 시각에 따라 결과가 달라지는 조회는 버전만으로 내용을 식별할 수 없음
+    private static final String TIME_DEPENDENT_PARAM = "openNow";
+    // 증분 동기화는 최근 settle 구간을 시간이 지나야 내려주므로 같은 버전에서도 응답이 바뀜
+    private static final Set<String> TIME_DEPENDENT_PATHS = Set.of("/api/places/changes");
+    // 인스턴스 메모리(PlaceSpatialIndex, PlaceCrowdStore)로 응답하는 조회
+    // 다른 인스턴스의 쓰기는 버전보다 늦게 반영되므로, 공유 버전으로 식별하면 이전 내용이 새 버전으로 퍼짐
+    private static final List<String> LOCAL_STORE_PATHS = List.of("/api/places/nearby", "/api/place-crowd-data/places/");
+
+    private final String pathPrefix;
+    private final List<String> cacheRegions;
+
+    ContentGroup(String pathPrefix, String... cacheRegions) {
+        this.pathPrefix = pathPrefix;
+        this.cacheRegions = List.of(cacheRegions);
+    }
+
+    public String pathPrefix() {
+        return pathPrefix;
+    }
+
+    public List<String> cacheRegions() {
+        return cacheRegions;
+    }
+
+    // 요청 경로가 속한 그룹, 해당 없으면 null (/api/places-x 같은 경로는 제외)
+    public static ContentGroup of(String uri) {
+        for (ContentGroup group : values()) {
+            String prefix = group.pathPrefix;
+            if (uri.startsWith(prefix) && (uri.length() == prefix.length() || uri.charAt(prefix.length()) == '/')) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    // 버전으로 응답을 식별할 수 있는 GET 요청이면 그 그룹, 아니면 null (응답 캐시/ETag 공통 조건)
+    public static ContentGroup ofVersioned(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())
+                || Boolean.parseBoolean(request.getParameter(TIME_DEPENDENT_PARAM))
+                || TIME_DEPENDENT_PATHS.contains(request.getRequestURI())) {
+            return null;
+        }
+        return of(request.getRequestURI());
+    }
+
+    // 인스턴스 메모리 저장소로 응답하는 조회인지 (공유 응답 캐시/ETag 대상에서 제외)
+    public static boolean servedFromLocalStore(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String path : LOCAL_STORE_PATHS) {
+            if (path.endsWith("/") ? uri.startsWith(path) : uri.equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
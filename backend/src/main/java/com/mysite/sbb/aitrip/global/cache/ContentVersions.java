@@ -0,0 +1,189 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 콘텐츠 그룹별 버전 카운터
+ * 쓰기가 커밋되면 Redis INCR로 버전을 올리고 pub/sub로 다른 인스턴스에 알립니다.
+ * 조회 쪽은 로컬 값만 읽어 Redis 왕복이 없으며, 메시지 유실에 대비해 Redis 값을 주기적으로 다시 읽습니다.
+ * 버전은 단조 증가만 하므로 늦게 도착한 메시지나 동기화가 값을 되돌리지 않습니다.
+ * Redis 장애로 올리지 못한 버전은 다음 동기화에서 다시 올리며, 그 전까지는 reliable()이 false라
+ * 응답 캐시와 ETag 비교를 건너뜁니다.
+ * 다른 인스턴스의 쓰기(메시지나 동기화로 알게 된 버전 증가)는 이 인스턴스의 Hibernate 2차 캐시가 모르므로,
+ * 새 버전을 보이기 전에 그룹의 2차 캐시 영역과 쿼리 캐시를 먼저 비워
+ * 오래된 엔티티로 만든 응답이 새 버전 키/ETag로 저장되지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ContentVersions implements MessageListener {
+
+    static final String CHANNEL = "CV:events";
+    static final String KEY_PREFIX = "CV:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AtomicLongArray versions = new AtomicLongArray(ContentGroup.values().length);
+    // 커밋됐지만 Redis 버전에 반영하지 못한 그룹
+    private final Set<ContentGroup> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // 시작 직후와 Redis 장애 중에는 다른 인스턴스의 쓰기를 놓쳤을 수 있음
+    private volatile boolean synced;
+
+    public ContentVersions(RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           EntityManagerFactory entityManagerFactory) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        try {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("콘텐츠 버전 채널 구독 실패, 주기적 동기화로만 반영합니다: {}", e.getMessage());
+        }
+        sync();
+    }
+
+    public long current(ContentGroup group) {
+        return versions.get(group.ordinal());
+    }
+
+    // 현재 버전으로 응답을 식별해도 되는지 (마지막 동기화 성공, 밀린 갱신 없음)
+    public boolean reliable() {
+        return synced;
+    }
+
+    // 커밋 이후 호출 (AfterCommit), 실패한 그룹은 다음 동기화에서 다시 올림
+    public void bump(ContentGroup... groups) {
+        for (ContentGroup group : groups) {
+            try {
+                increment(group);
+            } catch (RuntimeException e) {
+                markPending(group);
+                log.warn("콘텐츠 버전 갱신 실패 {}: {}", group, e.getMessage());
+            }
+        }
+    }
+
+    // Redis 값을 다시 읽어 유실된 메시지를 보정, 키가 없으면(Redis 초기화) 로컬 값으로 다시 심음
+    // Redis 왕복을 포함하므로 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock으로 직렬화
+    @Scheduled(fixedDelayString = "${response-cache.version-sync-interval-ms:5000}",
+            initialDelayString = "${response-cache.version-sync-interval-ms:5000}")
+    public void sync() {
+        ContentGroup[] groups = ContentGroup.values();
+        List<String> keys = Arrays.stream(groups).map(group -> KEY_PREFIX + group.name()).toList();
+        syncLock.lock();
+        try {
+            for (ContentGroup group : pending) {
+                // 먼저 빼고 올려야, 올린 뒤 들어온 같은 그룹의 실패가 지워지지 않음
+                pending.remove(group);
+                try {
+                    increment(group);
+                } catch (RuntimeException e) {
+                    pending.add(group);
+                    throw e;
+                }
+            }
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < groups.length; i++) {
+                String value = values.get(i);
+                if (value == null) {
+                    redisTemplate.opsForValue().setIfAbsent(keys.get(i), Long.toString(current(groups[i])));
+                } else {
+                    advanceRemote(groups[i], Long.parseLong(value));
+                }
+            }
+            // 켠 뒤에 밀린 그룹을 다시 확인: markPending이 사이에 끼어들면 둘 중 하나가 반드시 끔
+            synced = true;
+            if (!pending.isEmpty()) {
+                synced = false;
+            }
+        } catch (RuntimeException e) {
+            synced = false;
+            log.debug("콘텐츠 버전 동기화 실패: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            advanceRemote(ContentGroup.valueOf(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.debug("알 수 없는 콘텐츠 버전 메시지: {}", body);
+        }
+    }
+
+    // 락 없이 추가 후 끔 (요청 스레드가 동기화의 Redis 왕복 뒤에서 기다리지 않도록)
+    private void markPending(ContentGroup group) {
+        pending.add(group);
+        synced = false;
+    }
+
+    private void increment(ContentGroup group) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + group.name());
+        if (version != null) {
+            advance(group, version);
+            redisTemplate.convertAndSend(CHANNEL, group.name() + ":" + version);
+        }
+    }
+
+    private void advance(ContentGroup group, long version) {
+        versions.accumulateAndGet(group.ordinal(), version, Math::max);
+    }
+
+    // 다른 인스턴스가 올린 버전: 자기 쓰기(이미 반영된 버전)는 건너뛰고, 2차 캐시를 비운 뒤 버전 반영
+    private void advanceRemote(ContentGroup group, long version) {
+        if (version <= current(group)) {
+            return;
+        }
+        evictSecondLevelCache(group);
+        advance(group, version);
+    }
+
+    private void evictSecondLevelCache(ContentGroup group) {
+        try {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            for (String region : group.cacheRegions()) {
+                cache.evictRegion(region);
+            }
+            cache.evictQueryRegions();
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 비우기 실패 {}: {}", group, e.getMessage());
+        }
+    }
+}
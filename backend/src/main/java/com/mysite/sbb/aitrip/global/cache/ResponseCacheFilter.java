@@ -0,0 +1,361 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 카탈로그 GET 응답(장소/혼잡도/이동시간)의 Redis 공유 캐시
+ * 직렬화가 끝난 JSON 본문을 gzip으로 압축해 "그룹 버전 + 경로 + 정렬된 쿼리" 키로 저장하고,
+ * gzip을 받는 클라이언트에는 저장된 바이트를 그대로 내려 DB 조회와 직렬화를 모두 생략합니다.
+ * 쓰기는 그룹 버전만 올리므로(ContentVersions) 키를 지우지 않고 무효화되며, 이전 버전 항목은 TTL로 만료됩니다.
+ * 같은 키의 미스는 인스턴스 안에서는 먼저 온 요청 하나에 합류하고, 인스턴스 사이에서는 Redis 락을 잡은 요청만 DB를 조회합니다.
+ * 인스턴스 메모리 저장소로 응답하는 조회는 다른 인스턴스의 쓰기가 버전보다 늦게 반영되므로 공유 캐시에 넣지 않습니다.
+ * CORS 헤더가 그대로 붙도록 보안 필터 체인 뒤, ETag 처리(ConditionalGetFilter) 다음에 실행합니다.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+@ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String KEY_PREFIX = "RC:";
+    static final String LOCK_PREFIX = "RC:lock:";
+    static final String CACHE_HEADER = "X-Cache";
+    static final String METRIC = "aitrip.response.cache";
+    private static final byte[] LOCK_VALUE = {1};
+    private static final long LOCK_POLL_MS = 20;
+
+    enum Result {
+        HIT, MISS, COALESCED, BYPASS
+    }
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ContentVersions contentVersions;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final long lockWaitMs;
+    private final int maxBodyBytes;
+    private final long redisBackoffMs;
+
+    // 인스턴스 내 단일 비행: 키별로 DB를 조회 중인 요청의 결과 (캐시 불가/실패면 null)
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter[][] counters;
+    // Redis 장애 시 요청마다 타임아웃을 기다리지 않도록 잠시 캐시를 건너뜀
+    private volatile long redisRetryAt;
+
+    public ResponseCacheFilter(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                               ContentVersions contentVersions,
+                               MeterRegistry meterRegistry,
+                               @Value("${response-cache.ttl-seconds:600}") long ttlSeconds,
+                               @Value("${response-cache.lock-timeout-ms:5000}") long lockTimeoutMs,
+                               @Value("${response-cache.lock-wait-ms:2000}") long lockWaitMs,
+                               @Value("${response-cache.max-body-bytes:4194304}") int maxBodyBytes,
+                               @Value("${response-cache.redis-backoff-ms:5000}") long redisBackoffMs) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.contentVersions = contentVersions;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+        this.lockWaitMs = lockWaitMs;
+        this.maxBodyBytes = maxBodyBytes;
+        this.redisBackoffMs = redisBackoffMs;
+        this.counters = new Counter[ContentGroup.values().length][Result.values().length];
+        for (ContentGroup group : ContentGroup.values()) {
+            for (Result result : Result.values()) {
+                counters[group.ordinal()][result.ordinal()] = Counter.builder(METRIC)
+                        .description("공개 조회 응답 캐시 결과 (hit: Redis, coalesced: 진행 중 요청 합류, miss: DB 조회)")
+                        .tag("group", group.name().toLowerCase())
+                        .tag("result", result.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return ContentGroup.ofVersioned(request) == null || ContentGroup.servedFromLocalStore(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentGroup group = ContentGroup.ofVersioned(request);
+        // 쓰기 무효화가 Redis에 반영되지 못한 상태면 이전 버전 항목이 남아 있을 수 있음
+        if (!redisAvailable() || !contentVersions.reliable()) {
+            count(group, Result.BYPASS);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(group, request);
+        CachedResponse cached = get(key);
+        if (cached != null) {
+            count(group, Result.HIT);
+            writeCached(cached, request, response, Result.HIT);
+            return;
+        }
+
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            CachedResponse body = await(leader);
+            if (body != null) {
+                count(group, Result.COALESCED);
+                writeCached(body, request, response, Result.COALESCED);
+                return;
+            }
+            count(group, Result.MISS);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse body = null;
+        try {
+            body = loadOrJoin(group, key, request, response, filterChain);
+        } finally {
+            inFlight.remove(key, flight);
+            flight.complete(body);
+        }
+    }
+
+    // 버전 + 경로 + 이름순 정렬된 쿼리 (파라미터 순서가 달라도 같은 키)
+    String cacheKey(ContentGroup group, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(KEY_PREFIX)
+                .append(group.name()).append(':')
+                .append(contentVersions.current(group)).append(':')
+                .append(request.getRequestURI());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator)
+                        .append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8)).append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    // 다른 인스턴스가 같은 키를 조회 중이면 저장될 때까지 기다렸다가 사용, 아니면 직접 조회 후 저장
+    private CachedResponse loadOrJoin(ContentGroup group, String key, HttpServletRequest request,
+                              HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String lockKey = LOCK_PREFIX + key.substring(KEY_PREFIX.length());
+        boolean locked = tryLock(lockKey);
+        if (!locked) {
+            CachedResponse body = waitForPeer(key);
+            if (body != null) {
+                count(group, Result.COALESCED);
+                writeCached(body, request, response, Result.COALESCED);
+                return body;
+            }
+        }
+        count(group, Result.MISS);
+        try {
+            return render(key, request, response, filterChain);
+        } finally {
+            if (locked) {
+                unlock(lockKey);
+            }
+        }
+    }
+
+    private CachedResponse render(String key, HttpServletRequest request, HttpServletResponse response,
+                          FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (!isCacheable(wrapper)) {
+                return null;
+            }
+            CachedResponse body = new CachedResponse(wrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+                    gzip(wrapper.getContentAsByteArray()));
+            set(key, body);
+            wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            wrapper.setHeader(CACHE_HEADER, Result.MISS.name());
+            return body;
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.contains("json")
+                && response.getContentSize() <= maxBodyBytes
+                && !response.containsHeader(HttpHeaders.SET_COOKIE)
+                && !response.containsHeader(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private void writeCached(CachedResponse cached, HttpServletRequest request, HttpServletResponse response,
+                             Result result) throws IOException {
+        byte[] body = cached.gzipped();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null) {
+                response.setHeader(HttpHeaders.ETAG, ConditionalGetFilter.gzipVariant(etag));
+            }
+        } else {
+            body = gunzip(body);
+        }
+        if (cached.lastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, cached.lastModified());
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_HEADER, result.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> leader) {
+        try {
+            return leader.get(lockWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private CachedResponse waitForPeer(String key) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitMs);
+        while (System.nanoTime() < deadline && redisAvailable()) {
+            try {
+                Thread.sleep(LOCK_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CachedResponse body = get(key);
+            if (body != null) {
+                return body;
+            }
+        }
+        return null;
+    }
+
+    private CachedResponse get(String key) {
+        try {
+            return CachedResponse.decode(binaryRedisTemplate.opsForValue().get(key));
+        } catch (RuntimeException e) {
+            markRedisDown(e);
+            return null;
+        }
+    }
+
+    private void set(String key, CachedResponse body) {
+        try {
+            binaryRedisTemplate.opsForValue().set(key, body.encode(), ttl);
+        } catch (RuntimeException e) {
+            markRedisDown(e);
+        }
+    }
+
+    // Redis 장애 시에는 락 없이 직접 조회
+    private boolean tryLock(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(binaryRedisTemplate.opsForValue().setIfAbsent(lockKey, LOCK_VALUE, lockTimeout));
+        } catch (RuntimeException e) {
+            markRedisDown(e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey) {
+        try {
+            binaryRedisTemplate.delete(lockKey);
+        } catch (RuntimeException e) {
+            markRedisDown(e);
+        }
+    }
+
+    private boolean redisAvailable() {
+        return System.currentTimeMillis() >= redisRetryAt;
+    }
+
+    private void markRedisDown(RuntimeException e) {
+        redisRetryAt = System.currentTimeMillis() + redisBackoffMs;
+        log.warn("응답 캐시 Redis 오류, {}ms 동안 캐시 없이 처리합니다: {}", redisBackoffMs, e.getMessage());
+    }
+
+    private void count(ContentGroup group, Result result) {
+        counters[group.ordinal()][result.ordinal()].increment();
+    }
+
+    // Redis 저장 형식: [Last-Modified 길이 1바이트][Last-Modified ASCII][gzip 본문]
+    record CachedResponse(String lastModified, byte[] gzipped) {
+
+        byte[] encode() {
+            byte[] header = lastModified == null ? new byte[0] : lastModified.getBytes(StandardCharsets.US_ASCII);
+            byte[] entry = new byte[1 + header.length + gzipped.length];
+            entry[0] = (byte) header.length;
+            System.arraycopy(header, 0, entry, 1, header.length);
+            System.arraycopy(gzipped, 0, entry, 1 + header.length, gzipped.length);
+            return entry;
+        }
+
+        static CachedResponse decode(byte[] entry) {
+            if (entry == null || entry.length == 0) {
+                return null;
+            }
+            int headerLength = entry[0] & 0xFF;
+            String lastModified = headerLength == 0
+                    ? null : new String(entry, 1, headerLength, StandardCharsets.US_ASCII);
+            return new CachedResponse(lastModified, Arrays.copyOfRange(entry, 1 + headerLength, entry.length));
+        }
+    }
+
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.aitrip.global.response.ApiResponse;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 처리 요청 수 상한 (bulkhead)
+ * 가상 스레드에서는 Tomcat 작업 스레드 수가 상한 역할을 하지 못하므로,
+ * DB 커넥션 풀 크기에 맞춘 허가 수만큼만 처리하고 나머지는 잠시 기다리다 503으로 빠르게 거절합니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final ObjectMapper objectMapper;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimitFilter(int maxConcurrent, long acquireTimeoutMs, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVER_BUSY;
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.error(errorCode)
+        ));
+    }
+}
@@ -0,0 +1,126 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
+import com.mysite.sbb.aitrip.global.jpa.cache.SerializedSizeWeigher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.FactoryBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ * 읽기 위주 참조 데이터(장소, 스타일 태그, 혼잡도) 엔티티와 쿼리 결과를 영역별 크기/만료 설정으로 캐시합니다.
+ * Hibernate를 거치는 쓰기는 READ_WRITE 전략이 무효화하고, JDBC로 직접 쓰는 곳은 해당 영역을 직접 비웁니다.
+ * 인스턴스마다 따로 두는 캐시이므로 다른 인스턴스의 쓰기는 ContentVersions가 버전 메시지를 받을 때 영역째 비웁니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    // 영역별 크기 상한(직렬화 크기 추정치)과 쓰기 후 만료 시간
+    private static final List<RegionSpec> REGIONS = List.of(
+            new RegionSpec(CacheRegions.PLACE, 64 * MEGABYTE, Duration.ofHours(1)),
+            new RegionSpec(CacheRegions.PLACE_STYLE_TAG, 16 * MEGABYTE, Duration.ofHours(1)),
+            new RegionSpec(CacheRegions.PLACE_CROWD_DATA, 64 * MEGABYTE, Duration.ofMinutes(30)),
+            new RegionSpec(CacheRegions.QUERY_RESULTS, 16 * MEGABYTE, Duration.ofMinutes(10)),
+            // 쿼리 캐시 유효성 판단 기준이므로 쿼리 결과보다 먼저 사라지면 안 됨 (테이블 수만큼만 쌓임)
+            new RegionSpec(CacheRegions.UPDATE_TIMESTAMPS, 0, null)
+    );
+
+    private record RegionSpec(String name, long maxBytes, Duration ttl) {
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (RegionSpec region : REGIONS) {
+            if (cacheManager.getCache(region.name()) == null) {
+                cacheManager.createCache(region.name(), configuration(region));
+            }
+        }
+        return cacheManager;
+    }
+
+    // Hibernate가 위에서 만든 영역을 그대로 쓰도록 CacheManager 전달
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // 영역별 적중/미스 수와 적중률, 항목 수, 추정 메모리 (스크레이프 시점에 읽음)
+    // 적중/미스는 Caffeine 자체 통계라 Hibernate 전역 통계(generate_statistics)를 켜지 않아도 됨
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : CacheRegions.ENTITY_REGIONS) {
+                bindRequests(registry, region, caffeineCache(hibernateCacheManager, region));
+            }
+            bindRequests(registry, CacheRegions.QUERY_RESULTS,
+                    caffeineCache(hibernateCacheManager, CacheRegions.QUERY_RESULTS));
+            for (RegionSpec region : REGIONS) {
+                Cache<?, ?> cache = caffeineCache(hibernateCacheManager, region.name());
+                Gauge.builder("aitrip.cache.entries", cache, Cache::estimatedSize)
+                        .tag("region", region.name())
+                        .register(registry);
+                Gauge.builder("aitrip.cache.memory", cache, c -> c.policy().eviction()
+                                .map(eviction -> eviction.weightedSize().orElse(0L))
+                                .orElse(0L))
+                        .description("직렬화 크기 기준 추정치")
+                        .baseUnit("bytes")
+                        .tag("region", region.name())
+                        .register(registry);
+            }
+        };
+    }
+
+    private void bindRequests(MeterRegistry registry, String region, Cache<?, ?> cache) {
+        FunctionCounter.builder("aitrip.cache.requests", cache, c -> c.stats().hitCount())
+                .tag("region", region)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("aitrip.cache.requests", cache, c -> c.stats().missCount())
+                .tag("region", region)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("aitrip.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static Cache<?, ?> caffeineCache(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).unwrap(Cache.class);
+    }
+
+    // 참조로 저장(직렬화 복사 없음), 크기 상한이 있으면 추정 바이트 기준으로 축출
+    private static CaffeineConfiguration<Object, Object> configuration(RegionSpec region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        // 적중률 메트릭용 Caffeine 통계 (JCache 통계와 달리 연산마다 시간을 재지 않음)
+        configuration.setNativeStatisticsEnabled(true);
+        if (region.maxBytes() > 0) {
+            configuration.setMaximumWeight(OptionalLong.of(region.maxBytes()));
+            configuration.setWeigherFactory(Optional.of(FactoryBuilder.factoryOf(SerializedSizeWeigher.class)));
+        }
+        if (region.ttl() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+        }
+        return configuration;
+    }
+}
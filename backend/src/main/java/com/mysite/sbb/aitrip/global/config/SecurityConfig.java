@@ -1,9 +1,14 @@
 package com.mysite.sbb.aitrip.global.config;
 
+import com.mysite.sbb.aitrip.global.security.AccessDeniedHandlerImpl;
 import com.mysite.sbb.aitrip.global.security.AuthenticationEntryPointImpl;
 import com.mysite.sbb.aitrip.global.security.jwt.JwtAuthenticationFilter;
 import com.mysite.sbb.aitrip.global.security.jwt.JwtProperties;
+import com.mysite.sbb.aitrip.user.domain.User;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,10 +35,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final AuthenticationEntryPointImpl authenticationEntryPoint;
+    private final AccessDeniedHandlerImpl accessDeniedHandler;
 
+    // 비용(strength)을 바꾸면 기존 해시는 다음 로그인 때 새 비용으로 재해시됨
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -44,8 +51,12 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(authenticationEntryPoint)
+                        .accessDeniedHandler(accessDeniedHandler))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답 완료 후 비동기 재디스패치 (최초 요청에서 이미 인가됨, JWT 필터는 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 불필요
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/places/**").permitAll()
@@ -53,6 +64,12 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/place-crowd-data/**").permitAll()
                         // Swagger
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 헬스체크 / 메트릭 스크레이프 (관리 포트로 들어온 요청만 일치, 공개 포트에서는 매핑되지 않음)
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        // 관리자 전용 (카탈로그 내보내기, 혼잡도 대량 적재)
+                        .requestMatchers("/api/admin/**").hasAuthority(User.Role.ROLE_ADMIN.name())
+                        .requestMatchers(HttpMethod.POST, "/api/place-crowd-data/bulk")
+                        .hasAuthority(User.Role.ROLE_ADMIN.name())
                         // 그 외 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,53 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 가상 스레드 실행 시 보호 장치 (spring.threads.virtual.enabled=true 일 때만, vthreads 프로파일 참고)
+ * 요청/비동기/스케줄 작업의 실행 스레드 전환 자체는 Spring Boot가 담당하고,
+ * 여기서는 동시 요청 수를 Hikari 풀 크기에 맞춰 제한하는 필터만 등록합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // 커넥션 풀 크기 x 커넥션당 요청 수 = 동시 처리 상한 (보안 필터보다 먼저 적용)
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${virtual-threads.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            ObjectMapper objectMapper) {
+        int maxConcurrent = Math.max(1, poolSize * requestsPerConnection);
+        log.info("가상 스레드 모드: 동시 요청 상한 {} (커넥션 풀 {} x {})", maxConcurrent, poolSize, requestsPerConnection);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrent, acquireTimeoutMs, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter) {
+        ConcurrencyLimitFilter filter = concurrencyLimitFilter.getFilter();
+        return registry -> {
+            Gauge.builder("aitrip.concurrency.in.flight", filter, ConcurrencyLimitFilter::inFlight)
+                    .register(registry);
+            Gauge.builder("aitrip.concurrency.limit", filter, ConcurrencyLimitFilter::maxConcurrent)
+                    .register(registry);
+            FunctionCounter.builder("aitrip.concurrency.rejected", filter, ConcurrencyLimitFilter::rejectedCount)
+                    .register(registry);
+        };
+    }
+}
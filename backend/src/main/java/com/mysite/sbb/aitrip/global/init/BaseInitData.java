@@ -1,5 +1,8 @@
 package com.mysite.sbb.aitrip.global.init;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
 import com.mysite.sbb.aitrip.user.domain.User;
@@ -27,6 +30,7 @@ public class BaseInitData implements CommandLineRunner {
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ContentVersions contentVersions;
 
     @Override
     @Transactional
@@ -42,6 +46,8 @@ public class BaseInitData implements CommandLineRunner {
         createSeoulPlaces();
         createBusanPlaces();
         createJejuPlaces();
+        // 테이블을 다시 만든 경우 Redis에 남은 이전 응답 캐시를 쓰지 않도록
+        AfterCommit.run(() -> contentVersions.bump(ContentGroup.values()));
 
         log.info("=== 개발용 Mock 데이터 초기화 완료 ===");
     }
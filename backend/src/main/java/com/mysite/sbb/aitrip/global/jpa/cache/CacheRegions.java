@@ -0,0 +1,25 @@
+package com.mysite.sbb.aitrip.global.jpa.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ * 영역마다 크기 상한과 만료 시간을 따로 두고(SecondLevelCacheConfig), 필요하면 영역 단위로 비웁니다.
+ */
+public final class CacheRegions {
+
+    public static final String PLACE = "place";
+    public static final String PLACE_STYLE_TAG = "placeStyleTag";
+    public static final String PLACE_CROWD_DATA = "placeCrowdData";
+
+    // 쿼리 결과와 테이블별 갱신 시각 (Hibernate 기본 영역)
+    public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    public static final List<String> ENTITY_REGIONS = List.of(PLACE, PLACE_STYLE_TAG, PLACE_CROWD_DATA);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,54 @@
+package com.mysite.sbb.aitrip.global.jpa.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * 2차 캐시 항목 크기 추정 (키 + 값의 직렬화 바이트 수)
+ * Hibernate 캐시 항목은 모두 Serializable이라 형식별 계산 없이 같은 방식으로 잴 수 있습니다.
+ * 클래스 설명자까지 포함되므로 실제 힙 사용량보다 다소 크게 잡히며, 쓰기(캐시 적재) 때만 호출됩니다.
+ */
+public class SerializedSizeWeigher implements Weigher<Object, Object>, Serializable {
+
+    // 직렬화할 수 없는 항목의 대략적인 크기
+    static final int FALLBACK_BYTES = 256;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = sizeOf(key) + sizeOf(value);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytes));
+    }
+
+    static long sizeOf(Object object) {
+        if (object == null) {
+            return 0;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            return FALLBACK_BYTES;
+        }
+        return counter.count;
+    }
+
+    // 바이트는 버리고 개수만 셈
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mysite.sbb.aitrip.global.jpa.id;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC 직접 INSERT용 ID 블록 예약
+ * 호출자 트랜잭션과 분리된 짧은 트랜잭션에서 시퀀스 행을 잠그고 바로 커밋합니다 (Hibernate 테이블 생성기와 같은 방식).
+ * 시작 시 한 번 모든 시퀀스를 기존 데이터의 최대 ID 위로 맞춥니다.
+ */
+@Component
+public class IdSequenceAllocator implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public IdSequenceAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 스키마 생성(EntityManagerFactory 초기화) 이후, 웹 서버가 요청을 받기 전에 실행
+    @Override
+    public void afterSingletonsInstantiated() {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (String sequence : IdSequences.ALL) {
+                IdSequences.align(connection, sequence);
+            }
+            return null;
+        }));
+    }
+
+    // count개 연속 ID를 예약하고 첫 ID 반환
+    public long allocate(String sequence, int count) {
+        return requiresNew.execute(status -> jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                IdSequences.allocate(connection, sequence, count)));
+    }
+}
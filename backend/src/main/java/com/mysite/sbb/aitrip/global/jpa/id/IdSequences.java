@@ -0,0 +1,93 @@
+package com.mysite.sbb.aitrip.global.jpa.id;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 엔티티 ID 시퀀스 (id_sequences 테이블, pooled 할당)
+ * MySQL/H2 모두 같은 테이블 방식으로 동작하며, Hibernate는 ALLOCATION_SIZE개씩 미리 받아 두고 INSERT를 배치로 묶습니다.
+ * JDBC로 직접 INSERT하는 코드는 allocate로 같은 테이블에서 ID 블록을 받아야 Hibernate가 쓸 값과 겹치지 않습니다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 = 대상 테이블 이름
+    public static final String PLACES = "places";
+    public static final String PLACE_STYLE_TAGS = "place_style_tags";
+    public static final String PLACE_CROWD_DATA = "place_crowd_data";
+    public static final String PLACE_MOVING_TIMES = "place_moving_times";
+    public static final String TRIP_PLACES = "trip_places";
+    public static final String SCHEDULES = "schedules";
+
+    static final List<String> ALL = List.of(
+            PLACES, PLACE_STYLE_TAGS, PLACE_CROWD_DATA, PLACE_MOVING_TIMES, TRIP_PLACES, SCHEDULES);
+
+    private static final String SELECT_FOR_UPDATE =
+            "SELECT " + VALUE_COLUMN + " FROM " + TABLE + " WHERE " + NAME_COLUMN + " = ? FOR UPDATE";
+    private static final String UPDATE = "UPDATE " + TABLE + " SET " + VALUE_COLUMN + " = ? WHERE " + NAME_COLUMN + " = ?";
+    private static final String INSERT = "INSERT INTO " + TABLE + " (" + NAME_COLUMN + ", " + VALUE_COLUMN + ") VALUES (?, ?)";
+
+    private IdSequences() {
+    }
+
+    /**
+     * count개 연속 ID를 예약하고 첫 ID 반환 (호출한 트랜잭션이 커밋해야 반영)
+     * Hibernate는 저장값 v를 읽으면 v 근처까지만 쓰므로, v 다음부터 count개를 쓰고
+     * 저장값은 그 뒤 ALLOCATION_SIZE만큼 더 밀어 다음 Hibernate 블록과 겹치지 않게 합니다.
+     */
+    public static long allocate(Connection connection, String sequence, int count) throws SQLException {
+        long stored = lockValue(connection, sequence);
+        long first = Math.max(stored, maxId(connection, sequence)) + 1;
+        write(connection, sequence, stored, first + count - 1 + ALLOCATION_SIZE);
+        return first;
+    }
+
+    // 기존 데이터(AUTO_INCREMENT로 채번된 ID) 위로 시퀀스를 맞춤, 이미 충분히 앞서 있으면 그대로
+    static void align(Connection connection, String sequence) throws SQLException {
+        long stored = lockValue(connection, sequence);
+        long maxId = maxId(connection, sequence);
+        if (stored >= maxId + ALLOCATION_SIZE || (stored < 0 && maxId == 0)) {
+            return;
+        }
+        write(connection, sequence, stored, maxId + ALLOCATION_SIZE);
+    }
+
+    // 시퀀스 행을 잠그고 저장값 반환 (행이 없으면 -1)
+    private static long lockValue(Connection connection, String sequence) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_FOR_UPDATE)) {
+            statement.setString(1, sequence);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1;
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String sequence) throws SQLException {
+        // sequence는 위 상수(테이블 이름)만 사용
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + sequence)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static void write(Connection connection, String sequence, long stored, long value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(stored < 0 ? INSERT : UPDATE)) {
+            if (stored < 0) {
+                statement.setString(1, sequence);
+                statement.setLong(2, value);
+            } else {
+                statement.setLong(1, value);
+                statement.setString(2, sequence);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
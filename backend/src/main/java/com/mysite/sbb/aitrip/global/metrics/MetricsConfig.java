@@ -0,0 +1,66 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import com.mysite.sbb.aitrip.global.security.PasswordHasher;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
+import com.mysite.sbb.aitrip.place.service.PlaceSpatialIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 자체 메트릭 등록
+ * 컴포넌트가 들고 있는 카운터/게이지 값을 스크레이프 시점에 읽기만 하므로 요청 경로에 비용을 더하지 않습니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 요청당 SQL 문장 수집(StatementInspector)과 실행 시간 측정(세션 이벤트 리스너)
+    @Bean
+    public HibernatePropertiesCustomizer sqlProfileCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public MeterBinder principalCacheMetrics(PrincipalCache principalCache) {
+        return registry -> {
+            FunctionCounter.builder("aitrip.principal.cache.requests", principalCache, PrincipalCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("aitrip.principal.cache.requests", principalCache, PrincipalCache::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("aitrip.principal.cache.size", principalCache, PrincipalCache::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHasherMetrics(PasswordHasher passwordHasher) {
+        return registry -> {
+            Gauge.builder("aitrip.password.hasher.queue", passwordHasher, PasswordHasher::queueDepth)
+                    .register(registry);
+            Gauge.builder("aitrip.password.hasher.active", passwordHasher, PasswordHasher::activeCount)
+                    .register(registry);
+            FunctionCounter.builder("aitrip.password.hasher.hashes", passwordHasher, PasswordHasher::hashCount)
+                    .register(registry);
+            FunctionCounter.builder("aitrip.password.hasher.rejected", passwordHasher, PasswordHasher::rejectedCount)
+                    .register(registry);
+            Gauge.builder("aitrip.password.hasher.average", passwordHasher, PasswordHasher::averageHashMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder placeSpatialIndexMetrics(PlaceSpatialIndex placeSpatialIndex) {
+        return registry -> Gauge.builder("aitrip.place.index.size", placeSpatialIndex, PlaceSpatialIndex::size)
+                .register(registry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청마다 실행된 Hibernate SQL 문장 수와 실행 시간을 경로 템플릿별로 기록하고 SqlMonitor로 검사
+ * 인증 필터의 사용자 조회까지 포함하도록 보안 필터보다 바깥에서 실행합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "aitrip.hibernate.statements";
+    static final String EXECUTION_METRIC = "aitrip.hibernate.execution";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMonitor sqlMonitor;
+
+    // 요청마다 빌더로 조회하지 않도록 (메서드, 경로) 별 미터 캐시
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    private record RouteMeters(DistributionSummary statements, Timer execution) {
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlProfile.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlProfile profile = SqlProfile.end();
+            String method = request.getMethod();
+            String uri = uriOf(request);
+            RouteMeters meters = metersFor(method, uri);
+            meters.statements().record(profile.statements());
+            meters.execution().record(profile.executionNanos(), TimeUnit.NANOSECONDS);
+            sqlMonitor.inspect(method, uri, profile);
+        }
+    }
+
+    private RouteMeters metersFor(String method, String uri) {
+        return routeMeters.computeIfAbsent(method + " " + uri, key -> new RouteMeters(
+                DistributionSummary.builder(STATEMENTS_METRIC)
+                        .description("요청당 실행된 Hibernate SQL 문장 수")
+                        .baseUnit("statements")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                        .register(meterRegistry),
+                Timer.builder(EXECUTION_METRIC)
+                        .description("요청당 JDBC 실행 시간 합계")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry)));
+    }
+
+    // 매칭된 핸들러 경로 템플릿 (/api/trips/{id}), 없으면 UNKNOWN으로 묶어 시계열 폭증 방지
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,99 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청별 SQL 프로필 검사 (N+1 / 느린 문장 / 문장 수 과다)
+ * 임계치를 넘으면 경로별 카운터를 올리고, 같은 경로/유형의 경고 로그는 log-interval-ms에 한 번만 남깁니다.
+ * 요청 끝에 한 번 호출되며, 문장마다 드는 비용은 SqlProfile의 해시 조회 한 번뿐입니다.
+ */
+@Slf4j
+@Component
+public class SqlMonitor {
+
+    static final String ALERT_METRIC = "aitrip.sql.alerts";
+    static final String N_PLUS_ONE = "n_plus_one";
+    static final String SLOW_STATEMENT = "slow_statement";
+    static final String TOO_MANY_STATEMENTS = "too_many_statements";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final long slowStatementNanos;
+    private final int maxStatements;
+    private final long logIntervalNanos;
+
+    private final Map<String, Counter> alertCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lastLoggedAt = new ConcurrentHashMap<>();
+
+    public SqlMonitor(MeterRegistry meterRegistry,
+                      @Value("${sql-monitor.repeat-threshold:5}") int repeatThreshold,
+                      @Value("${sql-monitor.slow-statement-ms:200}") long slowStatementMs,
+                      @Value("${sql-monitor.max-statements:50}") int maxStatements,
+                      @Value("${sql-monitor.log-interval-ms:60000}") long logIntervalMs) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+        this.slowStatementNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMs);
+        this.maxStatements = maxStatements;
+        this.logIntervalNanos = TimeUnit.MILLISECONDS.toNanos(logIntervalMs);
+    }
+
+    // 요청 종료 시 임계치 초과 여부 검사
+    public void inspect(String method, String uri, SqlProfile profile) {
+        if (profile.statements() < repeatThreshold && profile.statements() <= maxStatements
+                && profile.slowestNanos() < slowStatementNanos) {
+            return;
+        }
+        Map.Entry<String, Integer> repeated = profile.mostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            alert(N_PLUS_ONE, method, uri, profile, "repeats=" + repeated.getValue(), repeated.getKey());
+        }
+        if (profile.slowestNanos() >= slowStatementNanos) {
+            alert(SLOW_STATEMENT, method, uri, profile,
+                    "statementMillis=" + TimeUnit.NANOSECONDS.toMillis(profile.slowestNanos()), profile.slowestSql());
+        }
+        if (profile.statements() > maxStatements) {
+            alert(TOO_MANY_STATEMENTS, method, uri, profile, "limit=" + maxStatements,
+                    repeated != null ? repeated.getKey() : null);
+        }
+    }
+
+    private void alert(String type, String method, String uri, SqlProfile profile, String detail, String sql) {
+        alertCounters.computeIfAbsent(type + " " + method + " " + uri, key -> Counter.builder(ALERT_METRIC)
+                .description("SQL 경고 (N+1 의심, 느린 문장, 문장 수 과다)")
+                .tag("type", type)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)).increment();
+        if (shouldLog(type + " " + method + " " + uri)) {
+            log.warn("sql_alert type={} method={} uri={} statements={} sqlMillis={} {} sql=\"{}\"",
+                    type, method, uri, profile.statements(),
+                    TimeUnit.NANOSECONDS.toMillis(profile.executionNanos()), detail, abbreviate(sql));
+        }
+    }
+
+    // 경로/유형별로 간격 안에 처음 한 건만 로그
+    private boolean shouldLog(String key) {
+        long now = System.nanoTime();
+        AtomicLong last = lastLoggedAt.computeIfAbsent(key, k -> new AtomicLong(now - logIntervalNanos));
+        long previous = last.get();
+        return now - previous >= logIntervalNanos && last.compareAndSet(previous, now);
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
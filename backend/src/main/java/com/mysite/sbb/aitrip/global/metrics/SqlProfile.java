@@ -0,0 +1,96 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행된 SQL 집계 (요청 스레드 전용이라 잠금 없음)
+ * 같은 SQL 문자열(바인드 값은 ?)이 반복되면 N+1 의심으로 보고, 가장 많이 반복된 문장과 가장 느린 문장을 남깁니다.
+ * 서로 다른 문장은 MAX_DISTINCT개까지만 세어 메모리를 제한합니다.
+ */
+public final class SqlProfile {
+
+    static final int MAX_DISTINCT = 256;
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, int[]> occurrences = new HashMap<>();
+    private int statements;
+    private long executionNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private String lastSql;
+    private long executionStartedAt;
+
+    public static void begin() {
+        CURRENT.set(new SqlProfile());
+    }
+
+    // 집계를 끝내고 결과 반환 (집계 중이 아니었으면 빈 프로필)
+    public static SqlProfile end() {
+        SqlProfile profile = CURRENT.get();
+        CURRENT.remove();
+        return profile != null ? profile : new SqlProfile();
+    }
+
+    static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    void onPrepare(String sql) {
+        statements++;
+        lastSql = sql;
+        int[] count = occurrences.get(sql);
+        if (count != null) {
+            count[0]++;
+        } else if (occurrences.size() < MAX_DISTINCT) {
+            occurrences.put(sql, new int[]{1});
+        }
+    }
+
+    void onExecuteStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void onExecuteEnd() {
+        if (executionStartedAt == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executionStartedAt;
+        executionStartedAt = 0;
+        executionNanos += elapsed;
+        if (elapsed > slowestNanos) {
+            slowestNanos = elapsed;
+            slowestSql = lastSql;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    public long slowestNanos() {
+        return slowestNanos;
+    }
+
+    public String slowestSql() {
+        return slowestSql;
+    }
+
+    // 가장 많이 반복된 문장 (반복 횟수와 함께)
+    public Map.Entry<String, Integer> mostRepeated() {
+        String sql = null;
+        int max = 0;
+        for (Map.Entry<String, int[]> entry : occurrences.entrySet()) {
+            if (entry.getValue()[0] > max) {
+                max = entry.getValue()[0];
+                sql = entry.getKey();
+            }
+        }
+        return sql != null ? Map.entry(sql, max) : null;
+    }
+}
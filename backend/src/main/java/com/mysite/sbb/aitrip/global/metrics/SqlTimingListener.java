@@ -0,0 +1,36 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 구간 시간 측정 (hibernate.session.events.auto로 세션마다 생성)
+ * 직전에 준비된 문장을 실행 대상으로 보고 SqlProfile에 실행 시간을 더합니다.
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.onExecuteStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.onExecuteEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 Hibernate SQL 문장 수집
+ * RequestMetricsFilter가 SqlProfile.begin/end로 감싼 구간에서 같은 스레드가 준비한 문장만 기록합니다.
+ * 집계 중이 아닐 때(스케줄러, 시작 시 적재 등)는 아무것도 하지 않습니다.
+ */
+public class StatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.onPrepare(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mysite.sbb.aitrip.global.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorResponse<T>(
+        @Schema(description = "페이지 데이터")
+        List<T> content,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, nextCursor, nextCursor != null);
+    }
+}
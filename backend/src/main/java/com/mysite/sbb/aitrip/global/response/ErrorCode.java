@@ -5,6 +5,9 @@ import org.springframework.http.HttpStatus;
 
 @Getter
 public enum ErrorCode {
+    // 공통 (C)
+    SERVER_BUSY("C001", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
     // 인증 (A)
     INVALID_TOKEN("A001", HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN("A002", HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
@@ -14,6 +17,8 @@ public enum ErrorCode {
     BLACKLISTED_TOKEN("A006", HttpStatus.UNAUTHORIZED, "로그아웃된 토큰입니다."),
     INVALID_REFRESH_TOKEN("A007", HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."),
     INVALID_CREDENTIALS("A008", HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."),
+    PASSWORD_HASHING_BUSY("A009", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    ACCESS_DENIED("A010", HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
 
     // 사용자 (U)
     DUPLICATE_EMAIL("U001", HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
@@ -26,22 +31,33 @@ public enum ErrorCode {
 
     // 장소 (P)
     NOT_FOUND_PLACE("P001", HttpStatus.NOT_FOUND, "존재하지 않는 장소입니다."),
+    INVALID_CURSOR("P002", HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_COORDINATE("P003", HttpStatus.BAD_REQUEST, "유효하지 않은 좌표입니다."),
+    EXPIRED_SYNC_TOKEN("P004", HttpStatus.GONE, "동기화 기준이 만료되었습니다. since 없이 전체 동기화를 다시 받아 주세요."),
 
     // 장소 스타일 태그 (PS)
     NOT_FOUND_PLACE_STYLE_TAG("PS001", HttpStatus.NOT_FOUND, "존재하지 않는 장소 스타일 태그입니다."),
 
     // 장소 이동시간 (PM)
     NOT_FOUND_PLACE_MOVING_TIME("PM001", HttpStatus.NOT_FOUND, "존재하지 않는 이동시간 정보입니다."),
+    INVALID_MATRIX_REQUEST("PM002", HttpStatus.BAD_REQUEST, "이동시간 행렬은 장소 1~100개까지 조회할 수 있습니다."),
+    TOO_LARGE_MATRIX_REGION("PM003", HttpStatus.UNPROCESSABLE_ENTITY, "장소가 2,000개를 넘는 지역은 이동시간 행렬을 제공하지 않습니다."),
 
     // 장소 혼잡도 (PC)
     NOT_FOUND_PLACE_CROWD_DATA("PC001", HttpStatus.NOT_FOUND, "존재하지 않는 혼잡도 정보입니다."),
+    INVALID_CROWD_TIME("PC002", HttpStatus.BAD_REQUEST, "요일(0~6) 또는 시간(0~23)이 올바르지 않습니다."),
 
     // 여행 장소 (TP)
     NOT_FOUND_TRIP_PLACE("TP001", HttpStatus.NOT_FOUND, "존재하지 않는 여행 장소입니다."),
     DUPLICATE_TRIP_PLACE("TP002", HttpStatus.CONFLICT, "이미 여행에 추가된 장소입니다."),
 
     // 일정 (S)
-    NOT_FOUND_SCHEDULE("S001", HttpStatus.NOT_FOUND, "존재하지 않는 일정입니다.");
+    NOT_FOUND_SCHEDULE("S001", HttpStatus.NOT_FOUND, "존재하지 않는 일정입니다."),
+    NO_SELECTED_TRIP_PLACE("S002", HttpStatus.BAD_REQUEST, "일정을 최적화할 선택된 장소가 없습니다."),
+    TOO_LARGE_SCHEDULE_OPTIMIZATION("S003", HttpStatus.BAD_REQUEST, "최적화는 장소 60개, 14일 이내에서만 가능합니다."),
+
+    // 카탈로그 내보내기 (E)
+    NOT_FOUND_EXPORT_TABLE("E001", HttpStatus.NOT_FOUND, "내보낼 수 없는 테이블입니다.");
 
     private final String code;
     private final HttpStatus status;
@@ -1,7 +1,6 @@
 package com.mysite.sbb.aitrip.global.security;
 
 import com.mysite.sbb.aitrip.user.domain.User;
-import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,28 +8,36 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-@Getter
-public class CustomUserDetails implements UserDetails {
+/**
+ * 인증 주체
+ * PrincipalCache에 보관되므로 엔티티나 비밀번호 해시를 들고 있지 않고 (ID, 이메일, 권한)만 복사한 불변 객체입니다.
+ */
+public final class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this.userId = user.getId();
+        this.email = user.getEmail();
+        this.authorities = List.of(new SimpleGrantedAuthority(user.getRole().name()));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().name()));
+        return authorities;
     }
 
+    // 비밀번호 검증은 AuthService에서 엔티티로 하므로 주체에는 보관하지 않음
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -55,6 +62,6 @@ public class CustomUserDetails implements UserDetails {
 
     // 사용자 ID 조회용 헬퍼 메서드
     public Long getUserId() {
-        return user.getId();
+        return userId;
     }
 }
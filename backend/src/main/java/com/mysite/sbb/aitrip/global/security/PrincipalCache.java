@@ -0,0 +1,71 @@
+package com.mysite.sbb.aitrip.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 주체 캐시 (subject = 이메일)
+ * 요청마다 사용자 테이블을 조회하지 않도록 불변 주체(CustomUserDetails: ID, 이메일, 권한)를 짧은 TTL 동안 보관합니다.
+ * 크기 상한이 있는 Caffeine 캐시라 가득 차면 자주 쓰지 않는 항목부터 점진적으로 제거되고, 적중/미적중은 Caffeine 통계로 집계합니다.
+ * 사용자 엔티티가 수정/삭제되면 PrincipalEvictionListener가, 로그아웃하면 AuthService가 evict로 무효화하며,
+ * 다른 인스턴스의 캐시는 TTL이 지나야 반영됩니다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> entries;
+
+    public PrincipalCache(@Value("${security.principal-cache.ttl-ms:300000}") long ttlMs,
+                          @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료됐으면 loader로 적재
+    // loader는 DB를 조회하므로 Caffeine의 계산형 get(맵 버킷 잠금 안에서 실행) 대신 조회 후 저장
+    public UserDetails get(String subject, Function<String, UserDetails> loader) {
+        UserDetails userDetails = entries.getIfPresent(subject);
+        if (userDetails != null) {
+            return userDetails;
+        }
+        userDetails = loader.apply(subject);
+        entries.put(subject, userDetails);
+        return userDetails;
+    }
+
+    public void evict(String subject) {
+        if (subject != null) {
+            entries.invalidate(subject);
+        }
+    }
+
+    public void evictAll() {
+        entries.invalidateAll();
+    }
+
+    public long hitCount() {
+        return entries.stats().hitCount();
+    }
+
+    public long missCount() {
+        return entries.stats().missCount();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    // 대기 중인 제거 작업을 바로 수행 (테스트용)
+    void cleanUp() {
+        entries.cleanUp();
+    }
+}
@@ -0,0 +1,29 @@
+package com.mysite.sbb.aitrip.global.security;
+
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
+import com.mysite.sbb.aitrip.user.domain.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 변경 시 인증 주체 캐시 무효화
+ * 엔티티 리스너로 걸어 두어 비밀번호 재해시, 권한 변경, 삭제 등 어떤 경로로 바뀌어도 커밋 후 캐시에서 제거합니다.
+ * JPA 슬라이스 테스트처럼 캐시 빈이 없는 컨텍스트에서도 엔티티를 쓸 수 있도록 ObjectProvider로 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalEvictionListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    // 수정/삭제가 커밋된 뒤에 무효화해 롤백되거나 커밋 전 값이 다시 캐시되지 않게 함
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        String email = user.getEmail();
+        principalCache.ifAvailable(cache -> AfterCommit.run(() -> cache.evict(email)));
+    }
+}
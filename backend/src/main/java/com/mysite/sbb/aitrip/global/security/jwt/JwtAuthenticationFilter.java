@@ -6,7 +6,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -30,10 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)
-                && !tokenService.isBlacklisted(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // 서명 검증은 요청당 한 번, 결과 클레임을 인증 객체 생성에 재사용
+            jwtTokenProvider.verify(token)
+                    .filter(verified -> !tokenService.isBlacklisted(token))
+                    .ifPresent(verified -> SecurityContextHolder.getContext()
+                            .setAuthentication(jwtTokenProvider.getAuthentication(verified)));
         }
 
         filterChain.doFilter(request, response);
@@ -2,6 +2,7 @@ package com.mysite.sbb.aitrip.global.security.jwt;
 
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,23 +16,30 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    // 불변/스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtTokenProvider(JwtProperties jwtProperties, UserDetailsService userDetailsService) {
+    public JwtTokenProvider(JwtProperties jwtProperties, UserDetailsService userDetailsService,
+                            PrincipalCache principalCache) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
                 Base64.getEncoder().encodeToString(jwtProperties.secret().getBytes())
         ));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpiration = jwtProperties.accessTokenExpiration();
         this.refreshTokenExpiration = jwtProperties.refreshTokenExpiration();
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     // Access Token 생성
@@ -60,12 +68,11 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰에서 Authentication 객체 생성
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        String email = claims.getSubject();
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    // 검증된 토큰에서 Authentication 객체 생성 (주체는 캐시 우선, 없으면 DB 조회)
+    // 자격 증명에 검증된 토큰을 담아 로그아웃 등에서 다시 파싱하지 않게 함
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        UserDetails userDetails = principalCache.get(verifiedToken.subject(), userDetailsService::loadUserByUsername);
+        return new UsernamePasswordAuthenticationToken(userDetails, verifiedToken, userDetails.getAuthorities());
     }
 
     // 토큰에서 이메일 추출
@@ -73,30 +80,23 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
-    // 토큰의 남은 만료 시간 (밀리초)
-    public long getRemainingExpiration(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getExpiration().getTime() - System.currentTimeMillis();
-    }
-
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    // 토큰을 한 번만 파싱/검증해 클레임을 반환 (유효하지 않으면 empty)
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return Optional.of(new VerifiedToken(token, claims.getSubject(), claims.getExpiration().getTime()));
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다.");
-            return false;
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 토큰입니다.");
-            return false;
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다.");
-            return false;
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다.");
-            return false;
+        } catch (JwtException e) {
+            log.warn("서명이 올바르지 않은 JWT 토큰입니다.");
         }
+        return Optional.empty();
     }
 
     // Refresh Token 검증 (예외 발생)
@@ -115,10 +115,6 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
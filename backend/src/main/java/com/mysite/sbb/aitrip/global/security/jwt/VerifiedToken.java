@@ -0,0 +1,16 @@
+package com.mysite.sbb.aitrip.global.security.jwt;
+
+/**
+ * 서명/만료 검증을 마친 토큰
+ * 요청 처리 중 같은 토큰을 다시 파싱하지 않도록 필요한 클레임만 담아 전달합니다.
+ */
+public record VerifiedToken(
+        String token,
+        String subject,
+        long expiresAtMillis
+) {
+    // 남은 만료 시간 (밀리초)
+    public long remainingMillis() {
+        return expiresAtMillis - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mysite.sbb.aitrip.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 헬퍼
+ * 인메모리 인덱스/캐시가 롤백된 변경을 반영하지 않도록 커밋 후에만 갱신합니다.
+ * 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
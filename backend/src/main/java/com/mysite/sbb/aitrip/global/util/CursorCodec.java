@@ -0,0 +1,49 @@
+package com.mysite.sbb.aitrip.global.util;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 인코더
+ * 마지막으로 내려준 키 값을 클라이언트가 해석할 수 없는 문자열로 감쌉니다.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long... keys) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * keys.length);
+        for (long key : keys) {
+            buffer.putLong(key);
+        }
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    // 커서가 비어있으면 null, 형식이 잘못되었으면 INVALID_CURSOR
+    public static long[] decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES * keyCount) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long[] keys = new long[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = buffer.getLong();
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.mysite.sbb.aitrip.place.controller;
 
 import com.mysite.sbb.aitrip.global.response.ApiResponse;
+import com.mysite.sbb.aitrip.global.response.CursorResponse;
+import com.mysite.sbb.aitrip.place.dto.NearbyPlaceResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceChangesResponse;
 import com.mysite.sbb.aitrip.place.dto.PlaceRequest;
 import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceSearchCondition;
 import com.mysite.sbb.aitrip.place.service.PlaceService;
+import com.mysite.sbb.aitrip.place.service.PlaceSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -21,21 +28,52 @@ import java.util.List;
 public class PlaceController {
 
     private final PlaceService placeService;
+    private final PlaceSyncService placeSyncService;
 
     // 장소 목록 조회 API
     @GetMapping("/api/places")
-    @Operation(summary = "장소 목록 조회")
-    public ResponseEntity<ApiResponse<List<PlaceResponse>>> getAllPlaces() {
+    @Operation(summary = "장소 목록 조회", description = "지역/카테고리/체류시간 필터와 커서 기반 페이지네이션")
+    public ResponseEntity<ApiResponse<CursorResponse<PlaceResponse>>> searchPlaces(
+            @ParameterObject @ModelAttribute PlaceSearchCondition condition) {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.success(placeService.getAllPlaces()));
+                .body(ApiResponse.success(placeService.searchPlaces(condition)));
     }
 
-    // 장소 상세 조회 API
+    // 주변 장소 조회 API
+    @GetMapping("/api/places/nearby")
+    @Operation(summary = "주변 장소 조회", description = "기준 좌표 반경 내 장소를 가까운 순으로 조회 (반경 최대 50km, 최대 100개)")
+    public ResponseEntity<ApiResponse<List<NearbyPlaceResponse>>> getNearbyPlaces(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Boolean openNow) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(placeService.getNearbyPlaces(lat, lng, radiusKm, limit, openNow)));
+    }
+
+    // 장소 증분 동기화 API
+    @GetMapping("/api/places/changes")
+    @Operation(summary = "장소 증분 동기화",
+            description = "since 이후 추가/수정된 장소와 삭제된 장소 ID. since 없이 호출하면 전체를 처음부터 받으며, "
+                    + "응답의 nextToken을 다음 since로 사용 (hasMore면 이어서 호출, 410이면 since 없이 다시 시작)")
+    public ResponseEntity<ApiResponse<PlaceChangesResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(placeSyncService.getChanges(since, size)));
+    }
+
+    // 장소 상세 조회 API (Last-Modified = 수정 시각, If-Modified-Since면 304)
     @GetMapping("/api/places/{id}")
     @Operation(summary = "장소 상세 조회")
     public ResponseEntity<ApiResponse<PlaceResponse>> getPlace(@PathVariable Long id) {
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.success(placeService.getPlace(id)));
+        PlaceResponse place = placeService.getPlace(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (place.modifiedAt() != null) {
+            response.lastModified(place.modifiedAt().atZone(ZoneId.systemDefault()));
+        }
+        return response.body(ApiResponse.success(place));
     }
 
     // 장소 등록 API (관리자)
@@ -0,0 +1,302 @@
+package com.mysite.sbb.aitrip.place.domain;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 운영시간 문자열을 주간 분 단위(minute-of-week, 일요일 00:00 = 0) 구간 배열로 해석한 불변 값
+ * 지원 형식: "09:00-18:00", "24시간", "월-금 09:00-18:00, 토 10:00-14:00, 일 휴무",
+ * "평일/주말/매일 ...", "11:00-15:00, 17:00-22:00", "18:00-02:00"(자정 넘김),
+ * "09:00-18:00 (월요일 휴무)", "10:00-22:00 브레이크타임 15:00-17:00".
+ * 요일 지정이 뒤따르면 그 요일만 덮어쓰고, 요일 지정 형식에서 시간이 한 번도 주어지지 않은 요일은 휴무입니다.
+ * 시간 정보가 전혀 없는 문자열은 제약이 없는 것으로 보고 종일 운영으로 취급합니다. 요일 인덱스는 일=0 ~ 토=6 입니다.
+ */
+public final class OperatingHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int MINUTES_PER_WEEK = DAYS_PER_WEEK * MINUTES_PER_DAY;
+
+    public static final OperatingHours ALWAYS_OPEN = new OperatingHours(new int[]{0, MINUTES_PER_WEEK});
+
+    private static final int ALL_DAYS = 0b1111111;
+    private static final int WEEKDAYS = 0b0111110;
+    private static final int WEEKEND = 0b1000001;
+    private static final String DAY_NAMES = "일월화수목금토";
+
+    private static final Pattern TOKEN = Pattern.compile(
+            "(?<range>(?<h1>\\d{1,2}):(?<m1>\\d{2})\\s*[-~]\\s*(?<h2>\\d{1,2}):(?<m2>\\d{2}))"
+                    + "|(?<allDay>24시간)"
+                    + "|(?<holiday>공휴일|명절)"
+                    + "|(?<breakTime>브레이크\\s*타임|휴게\\s*시간)"
+                    + "|(?<closed>휴무|휴관|휴일)"
+                    + "|(?<every>매일)|(?<weekdays>평일)|(?<weekend>주말)"
+                    + "|(?<![가-힣])(?<dayFrom>[일월화수목금토])(?:요일)?\\s*[-~]\\s*(?<dayTo>[일월화수목금토])(?:요일)?"
+                    + "|(?<![가-힣])(?<day>[일월화수목금토])(?:요일)?(?![가-힣])");
+    private static final Pattern DAY_LIST_SEPARATOR = Pattern.compile("[\\s,·/]*");
+
+    // [시작, 끝) 쌍을 시작 순으로 정렬/병합한 배열
+    private final int[] intervals;
+
+    private OperatingHours(int[] intervals) {
+        this.intervals = intervals;
+    }
+
+    public static OperatingHours parse(String text) {
+        if (text == null || text.isBlank()) {
+            return ALWAYS_OPEN;
+        }
+        // 요일별 구간 목록 (하루 안의 분 단위, 끝이 24:00을 넘으면 다음 날로 넘김)
+        int[][] daily = new int[DAYS_PER_WEEK][];
+        int[] dailyCounts = new int[DAYS_PER_WEEK];
+        int current = ALL_DAYS;
+        int pendingOverride = ALL_DAYS;
+        int closedDays = 0;
+        boolean daySpecified = false;
+        boolean anyRule = false;
+
+        boolean lastWasDay = false;
+        boolean breakPending = false;
+        int lastEnd = 0;
+
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            boolean wasDay = lastWasDay;
+            int previousEnd = lastEnd;
+            lastWasDay = false;
+            lastEnd = matcher.end();
+
+            int days = dayMask(matcher);
+            if (days != 0) {
+                // "토,일"처럼 요일이 구분자만 사이에 두고 이어지면 하나의 요일 집합으로 합침
+                boolean continuesList = wasDay && DAY_LIST_SEPARATOR.matcher(
+                        text.substring(previousEnd, matcher.start())).matches();
+                current = continuesList ? current | days : days;
+                pendingOverride = current;
+                daySpecified = true;
+                lastWasDay = true;
+                continue;
+            }
+            if (matcher.group("holiday") != null) {
+                // 공휴일 규칙은 요일로 표현할 수 없으므로 뒤따르는 시간/휴무를 무시
+                current = 0;
+                pendingOverride = 0;
+                daySpecified = true;
+                continue;
+            }
+            if (matcher.group("breakTime") != null) {
+                breakPending = true;
+                continue;
+            }
+            if (matcher.group("closed") != null) {
+                // 휴무 요일은 마지막에 일괄 적용하고, 이후 시간은 다시 전체 요일 기준 (요일 없는 "휴무"는 무시)
+                if (daySpecified) {
+                    closedDays |= current;
+                    anyRule = true;
+                }
+                current = ALL_DAYS;
+                pendingOverride = 0;
+                daySpecified = false;
+                continue;
+            }
+            int open;
+            int close;
+            if (matcher.group("allDay") != null) {
+                open = 0;
+                close = MINUTES_PER_DAY;
+            } else {
+                open = toMinute(matcher.group("h1"), matcher.group("m1"));
+                close = toMinute(matcher.group("h2"), matcher.group("m2"));
+                if (open < 0 || close < 0 || open == close) {
+                    continue;
+                }
+                if (close < open) {
+                    close += MINUTES_PER_DAY;
+                }
+            }
+            if (breakPending) {
+                breakPending = false;
+                for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                    if ((current & (1 << day)) != 0) {
+                        subtract(daily, dailyCounts, day, open, close);
+                    }
+                }
+                continue;
+            }
+            // 요일 지정 직후 첫 시간은 이전 규칙(예: 매일)을 덮어씀
+            if (pendingOverride != 0) {
+                clear(dailyCounts, pendingOverride);
+                pendingOverride = 0;
+            }
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                if ((current & (1 << day)) != 0) {
+                    add(daily, dailyCounts, day, open, close);
+                }
+            }
+            anyRule = true;
+        }
+        if (!anyRule) {
+            return ALWAYS_OPEN;
+        }
+        clear(dailyCounts, closedDays);
+        return new OperatingHours(toWeekIntervals(daily, dailyCounts));
+    }
+
+    // 요일(일=0) / 분(0~1439) 시점에 영업 중인지 (할당 없음)
+    public boolean isOpen(int dayIndex, int minute) {
+        int point = dayIndex * MINUTES_PER_DAY + minute;
+        int low = 0;
+        int high = intervals.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[2 * mid] > point) {
+                high = mid - 1;
+            } else if (intervals[2 * mid + 1] <= point) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 해당 요일의 영업 구간 [시작, 끝) 쌍 (분, 요일 경계에서 잘림), 휴무면 빈 배열
+    public int[] intervalsOf(int dayIndex) {
+        int dayStart = dayIndex * MINUTES_PER_DAY;
+        int dayEnd = dayStart + MINUTES_PER_DAY;
+        int[] result = new int[intervals.length];
+        int size = 0;
+        for (int i = 0; i < intervals.length; i += 2) {
+            int start = Math.max(intervals[i], dayStart);
+            int end = Math.min(intervals[i + 1], dayEnd);
+            if (start < end) {
+                result[size++] = start - dayStart;
+                result[size++] = end - dayStart;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    public boolean isAlwaysOpen() {
+        return intervals.length == 2 && intervals[0] == 0 && intervals[1] == MINUTES_PER_WEEK;
+    }
+
+    private static int dayMask(Matcher matcher) {
+        if (matcher.group("every") != null) {
+            return ALL_DAYS;
+        }
+        if (matcher.group("weekdays") != null) {
+            return WEEKDAYS;
+        }
+        if (matcher.group("weekend") != null) {
+            return WEEKEND;
+        }
+        if (matcher.group("dayFrom") != null) {
+            int from = DAY_NAMES.indexOf(matcher.group("dayFrom"));
+            int to = DAY_NAMES.indexOf(matcher.group("dayTo"));
+            int mask = 0;
+            for (int day = from; ; day = (day + 1) % DAYS_PER_WEEK) {
+                mask |= 1 << day;
+                if (day == to) {
+                    return mask;
+                }
+            }
+        }
+        if (matcher.group("day") != null) {
+            return 1 << DAY_NAMES.indexOf(matcher.group("day"));
+        }
+        return 0;
+    }
+
+    private static void clear(int[] counts, int mask) {
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            if ((mask & (1 << day)) != 0) {
+                counts[day] = 0;
+            }
+        }
+    }
+
+    private static void add(int[][] daily, int[] counts, int day, int open, int close) {
+        if (daily[day] == null) {
+            daily[day] = new int[4];
+        } else if (counts[day] + 2 > daily[day].length) {
+            daily[day] = Arrays.copyOf(daily[day], daily[day].length * 2);
+        }
+        daily[day][counts[day]++] = open;
+        daily[day][counts[day]++] = close;
+    }
+
+    // 하루 구간 목록에서 [open, close)를 잘라냄 (구간이 둘로 나뉠 수 있음)
+    private static void subtract(int[][] daily, int[] counts, int day, int open, int close) {
+        if (counts[day] == 0) {
+            return;
+        }
+        int[] source = Arrays.copyOf(daily[day], counts[day]);
+        counts[day] = 0;
+        for (int i = 0; i < source.length; i += 2) {
+            int start = source[i];
+            int end = source[i + 1];
+            if (end <= open || start >= close) {
+                add(daily, counts, day, start, end);
+                continue;
+            }
+            if (start < open) {
+                add(daily, counts, day, start, open);
+            }
+            if (end > close) {
+                add(daily, counts, day, close, end);
+            }
+        }
+    }
+
+    // 요일별 구간을 주간 분으로 펼치고, 토요일 밤을 넘기는 구간은 일요일 새벽으로 감은 뒤 정렬/병합
+    private static int[] toWeekIntervals(int[][] daily, int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] packed = new long[total];
+        int size = 0;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            for (int i = 0; i < counts[day]; i += 2) {
+                int start = day * MINUTES_PER_DAY + daily[day][i];
+                int end = day * MINUTES_PER_DAY + daily[day][i + 1];
+                if (end > MINUTES_PER_WEEK) {
+                    packed = Arrays.copyOf(packed, packed.length + 2);
+                    packed[size++] = pack(0, end - MINUTES_PER_WEEK);
+                    end = MINUTES_PER_WEEK;
+                }
+                packed[size++] = pack(start, end);
+            }
+        }
+        Arrays.sort(packed, 0, size);
+
+        int[] merged = new int[size * 2];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int start = (int) (packed[i] >>> 32);
+            int end = (int) packed[i];
+            if (length > 0 && start <= merged[length - 1]) {
+                merged[length - 1] = Math.max(merged[length - 1], end);
+            } else {
+                merged[length++] = start;
+                merged[length++] = end;
+            }
+        }
+        return Arrays.copyOf(merged, length);
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | end;
+    }
+
+    private static int toMinute(String hour, String minute) {
+        int h = Integer.parseInt(hour);
+        int m = Integer.parseInt(minute);
+        if (h > 24 || m > 59 || (h == 24 && m > 0)) {
+            return -1;
+        }
+        return h * 60 + m;
+    }
+}
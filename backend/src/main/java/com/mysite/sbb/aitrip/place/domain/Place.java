@@ -1,22 +1,36 @@
 package com.mysite.sbb.aitrip.place.domain;
 
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "places")
+@Table(name = "places", indexes = {
+        @Index(name = "idx_place_region_id", columnList = "region, id"),
+        @Index(name = "idx_place_region_category_id", columnList = "region, category, id"),
+        @Index(name = "idx_place_category_id", columnList = "category, id"),
+        @Index(name = "idx_place_modified_at_id", columnList = "modified_at, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLACE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Place extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "places_id")
+    @TableGenerator(name = "places_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.PLACES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,39 @@
+package com.mysite.sbb.aitrip.place.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 장소 기록 (증분 동기화에서 클라이언트 로컬 캐시의 삭제 전파용)
+ * 장소 ID는 재사용되지 않으므로 장소 ID를 그대로 키로 사용하고, 보관 기간이 지나면 정리합니다.
+ */
+@Entity
+@Table(name = "place_tombstones", indexes = {
+        @Index(name = "idx_place_tombstone_deleted_at_place_id", columnList = "deleted_at, place_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceTombstone {
+
+    @Id
+    @Column(name = "place_id")
+    private Long placeId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public PlaceTombstone(Long placeId, LocalDateTime deletedAt) {
+        this.placeId = placeId;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mysite.sbb.aitrip.place.dto;
+
+import com.mysite.sbb.aitrip.place.domain.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주변 장소 응답")
+public record NearbyPlaceResponse(
+        @Schema(description = "장소 정보")
+        PlaceResponse place,
+
+        @Schema(description = "기준 좌표로부터 거리(km)", example = "1.25")
+        double distanceKm
+) {
+    public static NearbyPlaceResponse of(Place place, double distanceKm) {
+        return new NearbyPlaceResponse(PlaceResponse.from(place), distanceKm);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mysite.sbb.aitrip.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장소 증분 동기화 응답 (upserted 반영 후 deletedIds 삭제 순서로 적용)")
+public record PlaceChangesResponse(
+        @Schema(description = "since 이후 추가/수정된 장소 (수정 시각 순)")
+        List<PlaceResponse> upserted,
+
+        @Schema(description = "since 이후 삭제된 장소 ID")
+        List<Long> deletedIds,
+
+        @Schema(description = "다음 호출의 since 값 (변경이 없어도 항상 새 값으로 저장)")
+        String nextToken,
+
+        @Schema(description = "남은 변경이 있으면 true (nextToken으로 바로 이어서 호출)")
+        boolean hasMore
+) {
+}
@@ -0,0 +1,11 @@
+package com.mysite.sbb.aitrip.place.dto;
+
+import java.math.BigDecimal;
+
+// 공간 인덱스 적재용 좌표 프로젝션
+public record PlaceCoordinate(
+        Long id,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
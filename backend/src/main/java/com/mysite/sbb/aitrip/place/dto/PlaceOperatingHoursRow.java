@@ -0,0 +1,8 @@
+package com.mysite.sbb.aitrip.place.dto;
+
+// 운영시간 저장소 적재용 프로젝션
+public record PlaceOperatingHoursRow(
+        Long id,
+        String operatingHours
+) {
+}
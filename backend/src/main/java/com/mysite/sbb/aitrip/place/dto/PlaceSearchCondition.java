@@ -0,0 +1,28 @@
+package com.mysite.sbb.aitrip.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "장소 검색 조건")
+public record PlaceSearchCondition(
+        @Schema(description = "지역", example = "서울")
+        String region,
+
+        @Schema(description = "카테고리", example = "카페")
+        String category,
+
+        @Schema(description = "최소 체류시간(분)", example = "30")
+        Integer minStayTime,
+
+        @Schema(description = "최대 체류시간(분)", example = "120")
+        Integer maxStayTime,
+
+        @Schema(description = "현재 영업 중인 장소만", example = "true")
+        Boolean openNow,
+
+        @Schema(description = "이전 응답의 nextCursor")
+        String cursor,
+
+        @Schema(description = "페이지 크기 (최대 100)", example = "20")
+        Integer size
+) {
+}
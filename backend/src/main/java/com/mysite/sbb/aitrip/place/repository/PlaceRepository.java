@@ -1,11 +1,91 @@
 package com.mysite.sbb.aitrip.place.repository;
 
 import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.dto.PlaceCoordinate;
+import com.mysite.sbb.aitrip.place.dto.PlaceOperatingHoursRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
     List<Place> findByRegion(String region);
+
+    // 키셋 페이지 조회: id > cursorId 이후부터 pageable 크기만큼 (count 쿼리 없음)
+    @Query("""
+            select p from Place p
+            where p.id > :cursorId
+              and (:region is null or p.region = :region)
+              and (:category is null or p.category = :category)
+              and (:minStayTime is null or p.estimatedStayTime >= :minStayTime)
+              and (:maxStayTime is null or p.estimatedStayTime <= :maxStayTime)
+            order by p.id asc
+            """)
+    List<Place> searchAfter(@Param("cursorId") Long cursorId,
+                            @Param("region") String region,
+                            @Param("category") String category,
+                            @Param("minStayTime") Integer minStayTime,
+                            @Param("maxStayTime") Integer maxStayTime,
+                            Pageable pageable);
+
+    // 증분 동기화: (수정 시각, id) 키셋 이후 until까지 추가/수정된 장소 (idx_place_modified_at_id 범위 스캔)
+    @Query("""
+            select p from Place p
+            where (p.modifiedAt > :since or (p.modifiedAt = :since and p.id > :afterId))
+              and p.modifiedAt <= :until
+            order by p.modifiedAt asc, p.id asc
+            """)
+    List<Place> findModifiedAfter(@Param("since") LocalDateTime since,
+                                  @Param("afterId") Long afterId,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable pageable);
+
+    // 좌표가 있는 장소만 (id, 위도, 경도) 프로젝션으로 조회
+    @Query("""
+            select new com.mysite.sbb.aitrip.place.dto.PlaceCoordinate(p.id, p.latitude, p.longitude)
+            from Place p
+            where p.latitude is not null and p.longitude is not null
+            """)
+    List<PlaceCoordinate> findAllCoordinates();
+
+    // since 이후 등록/수정된 장소 좌표 (좌표가 지워진 장소도 포함, 공간 인덱스 증분 반영용)
+    @Query("""
+            select new com.mysite.sbb.aitrip.place.dto.PlaceCoordinate(p.id, p.latitude, p.longitude)
+            from Place p
+            where p.modifiedAt >= :since
+            """)
+    List<PlaceCoordinate> findCoordinatesModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("select p.id from Place p")
+    List<Long> findAllIds();
+
+    @Query("select p.id from Place p where p.region = :region order by p.id asc")
+    List<Long> findIdsByRegion(@Param("region") String region);
+
+    @Query("""
+            select new com.mysite.sbb.aitrip.place.dto.PlaceCoordinate(p.id, p.latitude, p.longitude)
+            from Place p
+            where p.id in :ids and p.latitude is not null and p.longitude is not null
+            """)
+    List<PlaceCoordinate> findCoordinatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.mysite.sbb.aitrip.place.dto.PlaceOperatingHoursRow(p.id, p.operatingHours)
+            from Place p
+            where p.operatingHours is not null
+            """)
+    List<PlaceOperatingHoursRow> findAllOperatingHours();
+
+    // since 이후 등록/수정된 장소 운영시간 (운영시간이 지워진 장소도 포함, 운영시간 저장소 증분 반영용)
+    @Query("""
+            select new com.mysite.sbb.aitrip.place.dto.PlaceOperatingHoursRow(p.id, p.operatingHours)
+            from Place p
+            where p.modifiedAt >= :since
+            """)
+    List<PlaceOperatingHoursRow> findOperatingHoursModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,34 @@
+package com.mysite.sbb.aitrip.place.repository;
+
+import com.mysite.sbb.aitrip.place.domain.PlaceTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PlaceTombstoneRepository extends JpaRepository<PlaceTombstone, Long> {
+
+    // (삭제 시각, 장소 ID) 키셋 이후 until까지의 삭제 기록 (idx_place_tombstone_deleted_at_place_id 범위 스캔)
+    @Query("""
+            select t from PlaceTombstone t
+            where (t.deletedAt > :since or (t.deletedAt = :since and t.placeId > :afterId))
+              and t.deletedAt <= :until
+            order by t.deletedAt asc, t.placeId asc
+            """)
+    List<PlaceTombstone> findDeletedAfter(@Param("since") LocalDateTime since,
+                                          @Param("afterId") Long afterId,
+                                          @Param("until") LocalDateTime until,
+                                          Pageable pageable);
+
+    // since 이후 삭제된 장소 ID (인메모리 저장소 증분 반영용)
+    @Query("select t.placeId from PlaceTombstone t where t.deletedAt >= :since")
+    List<Long> findPlaceIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from PlaceTombstone t where t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,110 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.place.domain.OperatingHours;
+import com.mysite.sbb.aitrip.place.dto.PlaceOperatingHoursRow;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 장소별 해석된 운영시간 인메모리 저장소
+ * 운영시간 문자열은 적재/변경 시에만 해석해 두고, 영업 여부 조회를 할당 없는 맵 조회 + 이진 탐색으로 처리합니다.
+ * 정보가 없는 장소는 종일 운영으로 봅니다.
+ * 다른 인스턴스의 변경은 PlaceCrowdStore와 같이 modifiedAt 워터마크와 삭제 기록으로 주기적으로 반영합니다.
+ */
+@Slf4j
+@Component
+public class PlaceOperatingHoursStore {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PlaceRepository placeRepository;
+    private final PlaceTombstoneRepository placeTombstoneRepository;
+    private final Duration settle;
+
+    // 풀링 채번이라 장소 ID가 조밀하지 않으므로 배열 인덱스 대신 맵으로 보관, 없으면 종일 운영
+    private final Map<Long, OperatingHours> hoursById = new ConcurrentHashMap<>();
+    private volatile LocalDateTime watermark;
+
+    public PlaceOperatingHoursStore(PlaceRepository placeRepository,
+                                    PlaceTombstoneRepository placeTombstoneRepository,
+                                    @Value("${operating-hours-store.settle-seconds:5}") long settleSeconds) {
+        this.placeRepository = placeRepository;
+        this.placeTombstoneRepository = placeTombstoneRepository;
+        this.settle = Duration.ofSeconds(settleSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        int parsed = 0;
+        for (PlaceOperatingHoursRow row : placeRepository.findAllOperatingHours()) {
+            put(row.id(), OperatingHours.parse(row.operatingHours()));
+            parsed++;
+        }
+        watermark = loadStartedAt.minus(settle);
+        log.info("운영시간 저장소 적재 완료: {}건", parsed);
+    }
+
+    // 다른 인스턴스에서 변경/삭제된 장소를 워터마크 이후분만 반영 (settle 구간은 다시 읽어도 멱등)
+    @Scheduled(fixedDelayString = "${operating-hours-store.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime refreshStartedAt = LocalDateTime.now();
+        List<PlaceOperatingHoursRow> changed = placeRepository.findOperatingHoursModifiedSince(since);
+        changed.forEach(row -> put(row.id(), OperatingHours.parse(row.operatingHours())));
+        List<Long> deleted = placeTombstoneRepository.findPlaceIdsDeletedSince(since);
+        deleted.forEach(this::remove);
+        watermark = refreshStartedAt.minus(settle);
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            log.debug("운영시간 저장소 증분 반영: 변경 {}건, 삭제 {}건", changed.size(), deleted.size());
+        }
+    }
+
+    public void put(long placeId, OperatingHours hours) {
+        if (hours.isAlwaysOpen()) {
+            hoursById.remove(placeId);
+        } else {
+            hoursById.put(placeId, hours);
+        }
+    }
+
+    public void remove(long placeId) {
+        hoursById.remove(placeId);
+    }
+
+    public OperatingHours get(long placeId) {
+        return hoursById.getOrDefault(placeId, OperatingHours.ALWAYS_OPEN);
+    }
+
+    // 요일(일=0) / 분(0~1439) 시점 영업 여부
+    public boolean isOpen(long placeId, int dayOfWeek, int minute) {
+        OperatingHours hours = hoursById.get(placeId);
+        return hours == null || hours.isOpen(dayOfWeek, minute);
+    }
+
+    // 현재 시각(서울) 기준 영업 여부 필터, 요일/분은 생성 시 한 번만 계산
+    public LongPredicate openNowFilter() {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        int dayOfWeek = now.getDayOfWeek().getValue() % OperatingHours.DAYS_PER_WEEK;
+        int minute = now.getHour() * 60 + now.getMinute();
+        return placeId -> isOpen(placeId, dayOfWeek, minute);
+    }
+}
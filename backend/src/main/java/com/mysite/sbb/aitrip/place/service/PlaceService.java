@@ -1,29 +1,124 @@
 package com.mysite.sbb.aitrip.place.service;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.CursorResponse;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
+import com.mysite.sbb.aitrip.global.util.CursorCodec;
+import com.mysite.sbb.aitrip.global.util.GeoUtils;
+import com.mysite.sbb.aitrip.place.domain.OperatingHours;
 import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.domain.PlaceTombstone;
+import com.mysite.sbb.aitrip.place.dto.NearbyPlaceResponse;
 import com.mysite.sbb.aitrip.place.dto.PlaceRequest;
 import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceSearchCondition;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import com.mysite.sbb.aitrip.placecrowddata.service.PlaceCrowdStore;
+import com.mysite.sbb.aitrip.placemovingtime.service.TravelTimeMatrixService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PlaceService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double DEFAULT_RADIUS_KM = 3.0;
+    private static final double MAX_RADIUS_KM = 50.0;
+    private static final int DEFAULT_NEARBY_LIMIT = 20;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    // 영업 중 필터 시 한 페이지를 채우기 위해 더 읽는 최대 횟수
+    private static final int MAX_FILTER_SCAN_ROUNDS = 10;
+
     private final PlaceRepository placeRepository;
+    private final PlaceTombstoneRepository placeTombstoneRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceOperatingHoursStore placeOperatingHoursStore;
+    private final TravelTimeMatrixService travelTimeMatrixService;
+    private final PlaceCrowdStore placeCrowdStore;
+    private final ContentVersions contentVersions;
+
+    // 장소 목록 조회 (키셋 페이지네이션)
+    public CursorResponse<PlaceResponse> searchPlaces(PlaceSearchCondition condition) {
+        long[] cursor = CursorCodec.decode(condition.cursor(), 1);
+        long scanAfter = cursor == null ? 0L : cursor[0];
+        int size = resolvePageSize(condition.size());
+        LongPredicate filter = Boolean.TRUE.equals(condition.openNow())
+                ? placeOperatingHoursStore.openNowFilter() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 모으고, 필터가 있으면 찰 때까지 이어서 조회
+        List<Place> places = new ArrayList<>(size + 1);
+        boolean exhausted = false;
+        for (int round = 0; round < MAX_FILTER_SCAN_ROUNDS && places.size() <= size; round++) {
+            List<Place> batch = placeRepository.searchAfter(scanAfter,
+                    condition.region(), condition.category(),
+                    condition.minStayTime(), condition.maxStayTime(),
+                    PageRequest.of(0, size + 1));
+            for (Place place : batch) {
+                if ((filter == null || filter.test(place.getId())) && places.size() <= size) {
+                    places.add(place);
+                }
+            }
+            exhausted = batch.size() <= size;
+            if (exhausted || filter == null) {
+                break;
+            }
+            scanAfter = batch.get(batch.size() - 1).getId();
+        }
 
-    // 장소 목록 조회
-    public List<PlaceResponse> getAllPlaces() {
-        return placeRepository.findAll().stream()
+        boolean filled = places.size() > size;
+        List<PlaceResponse> content = places.stream()
+                .limit(size)
                 .map(PlaceResponse::from)
                 .toList();
+        String nextCursor = null;
+        if (filled) {
+            nextCursor = CursorCodec.encode(content.get(size - 1).id());
+        } else if (!exhausted) {
+            // 스캔 한도에 걸린 경우 마지막으로 읽은 위치부터 이어서 조회
+            nextCursor = CursorCodec.encode(scanAfter);
+        }
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    // 주변 장소 조회 (가까운 순)
+    public List<NearbyPlaceResponse> getNearbyPlaces(double latitude, double longitude,
+                                                     Double radiusKm, Integer limit, Boolean openNow) {
+        if (!GeoUtils.isValidCoordinate(latitude, longitude)) {
+            throw new BusinessException(ErrorCode.INVALID_COORDINATE);
+        }
+        double radius = radiusKm == null || radiusKm <= 0 ? DEFAULT_RADIUS_KM : Math.min(radiusKm, MAX_RADIUS_KM);
+        int k = limit == null || limit <= 0 ? DEFAULT_NEARBY_LIMIT : Math.min(limit, MAX_NEARBY_LIMIT);
+
+        List<PlaceSpatialIndex.Neighbor> neighbors = Boolean.TRUE.equals(openNow)
+                ? placeSpatialIndex.nearest(latitude, longitude, radius, k, placeOperatingHoursStore.openNowFilter())
+                : placeSpatialIndex.nearest(latitude, longitude, radius, k);
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Place> places = placeRepository.findAllById(
+                        neighbors.stream().map(PlaceSpatialIndex.Neighbor::placeId).toList()).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+        return neighbors.stream()
+                .filter(neighbor -> places.containsKey(neighbor.placeId()))
+                .map(neighbor -> NearbyPlaceResponse.of(places.get(neighbor.placeId()), neighbor.distanceKm()))
+                .toList();
     }
 
     // 장소 상세 조회
@@ -38,6 +133,14 @@ public class PlaceService {
     public PlaceResponse createPlace(PlaceRequest request) {
         Place place = request.toEntity();
         Place savedPlace = placeRepository.save(place);
+        OperatingHours hours = OperatingHours.parse(savedPlace.getOperatingHours());
+        AfterCommit.run(() -> {
+            placeSpatialIndex.put(savedPlace.getId(), savedPlace.getLatitude(), savedPlace.getLongitude());
+            placeOperatingHoursStore.put(savedPlace.getId(), hours);
+            // 이동시간 행렬은 지역의 장소 목록으로 만들므로 함께 무효화 (다른 인스턴스는 버전으로 반영)
+            travelTimeMatrixService.evict(savedPlace.getRegion());
+            contentVersions.bump(ContentGroup.PLACES, ContentGroup.MOVING_TIMES);
+        });
         return PlaceResponse.from(savedPlace);
     }
 
@@ -46,17 +149,45 @@ public class PlaceService {
     public PlaceResponse updatePlace(Long id, PlaceRequest request) {
         Place place = placeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
+        String oldRegion = place.getRegion();
         place.update(request.name(), request.region(), request.category(), request.address(),
                 request.latitude(), request.longitude(), request.operatingHours(),
                 request.estimatedStayTime(), request.imageUrl(), request.source());
+        OperatingHours hours = OperatingHours.parse(request.operatingHours());
+        AfterCommit.run(() -> {
+            placeSpatialIndex.put(id, request.latitude(), request.longitude());
+            placeOperatingHoursStore.put(id, hours);
+            // 지역이 바뀌면 이전 지역 행렬에서도 빠져야 함
+            travelTimeMatrixService.evict(oldRegion);
+            travelTimeMatrixService.evict(request.region());
+            contentVersions.bump(ContentGroup.PLACES, ContentGroup.MOVING_TIMES);
+        });
         return PlaceResponse.from(place);
     }
 
-    // 장소 삭제 (관리자)
+    // 장소 삭제 (관리자), 증분 동기화 클라이언트에 삭제를 알리도록 같은 트랜잭션에서 삭제 기록을 남김
     @Transactional
     public void deletePlace(Long id) {
         Place place = placeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
         placeRepository.delete(place);
+        placeTombstoneRepository.save(PlaceTombstone.builder()
+                .placeId(id)
+                .deletedAt(LocalDateTime.now())
+                .build());
+        AfterCommit.run(() -> {
+            placeSpatialIndex.remove(id);
+            placeOperatingHoursStore.remove(id);
+            placeCrowdStore.remove(id);
+            travelTimeMatrixService.evict(place.getRegion());
+            contentVersions.bump(ContentGroup.values());
+        });
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 }
@@ -0,0 +1,375 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.global.util.GeoUtils;
+import com.mysite.sbb.aitrip.place.dto.PlaceCoordinate;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 장소 좌표 인메모리 격자 인덱스
+ * 위경도를 고정 크기 셀(약 5.5km)로 나누고, 셀마다 좌표를 원시 배열로 보관합니다.
+ * 조회는 기준 셀에서 링 단위로 넓혀가며 k개를 찾으면 더 먼 링을 건너뜁니다.
+ * 셀은 copy-on-write로 교체하므로 조회 시 락이 없습니다.
+ * 다른 인스턴스의 등록/수정/삭제는 PlaceCrowdStore와 같이 modifiedAt 워터마크와 삭제 기록으로 주기적으로 반영합니다.
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceTombstoneRepository placeTombstoneRepository;
+    private final Duration settle;
+
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellKeyByPlaceId = new ConcurrentHashMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재구성 중 들어온 로컬 변경 (스냅샷 교체 후 다시 적용, 좌표가 null이면 삭제), this로 보호
+    private Map<Long, PlaceCoordinate> pendingDuringRebuild;
+    private volatile LocalDateTime watermark;
+
+    public record Neighbor(long placeId, double distanceKm) {
+    }
+
+    public PlaceSpatialIndex(PlaceRepository placeRepository,
+                             PlaceTombstoneRepository placeTombstoneRepository,
+                             @Value("${spatial-index.settle-seconds:5}") long settleSeconds) {
+        this.placeRepository = placeRepository;
+        this.placeTombstoneRepository = placeTombstoneRepository;
+        this.settle = Duration.ofSeconds(settleSeconds);
+    }
+
+    // 애플리케이션 시작 후(초기 데이터 적재 이후) 전체 좌표로 인덱스 구성
+    // 스냅샷을 읽는 동안 커밋된 put/remove는 기록해 두었다가 교체 직후 다시 적용해 되돌려지지 않게 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            LocalDateTime rebuildStartedAt = LocalDateTime.now();
+            synchronized (this) {
+                pendingDuringRebuild = new HashMap<>();
+            }
+            List<PlaceCoordinate> coordinates;
+            try {
+                coordinates = placeRepository.findAllCoordinates();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+                throw e;
+            }
+            Map<Long, CellBuilder> builders = new HashMap<>();
+            Map<Long, Long> keys = new HashMap<>();
+            for (PlaceCoordinate coordinate : coordinates) {
+                double lat = coordinate.latitude().doubleValue();
+                double lng = coordinate.longitude().doubleValue();
+                long key = cellKey(lat, lng);
+                builders.computeIfAbsent(key, k -> new CellBuilder()).add(coordinate.id(), lat, lng);
+                keys.put(coordinate.id(), key);
+            }
+            synchronized (this) {
+                cells.clear();
+                cellKeyByPlaceId.clear();
+                builders.forEach((key, builder) -> cells.put(key, builder.build()));
+                cellKeyByPlaceId.putAll(keys);
+                pendingDuringRebuild.values().forEach(this::apply);
+                pendingDuringRebuild = null;
+            }
+            watermark = rebuildStartedAt.minus(settle);
+            log.info("장소 공간 인덱스 구성 완료: {}개 장소, {}개 셀", keys.size(), builders.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 다른 인스턴스에서 등록/수정/삭제된 장소를 워터마크 이후분만 반영 (settle 구간은 다시 읽어도 멱등)
+    @Scheduled(fixedDelayString = "${spatial-index.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime refreshStartedAt = LocalDateTime.now();
+        List<PlaceCoordinate> changed = placeRepository.findCoordinatesModifiedSince(since);
+        changed.forEach(coordinate -> put(coordinate.id(), coordinate.latitude(), coordinate.longitude()));
+        List<Long> deleted = placeTombstoneRepository.findPlaceIdsDeletedSince(since);
+        deleted.forEach(this::remove);
+        watermark = refreshStartedAt.minus(settle);
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            log.debug("장소 공간 인덱스 증분 반영: 변경 {}건, 삭제 {}건", changed.size(), deleted.size());
+        }
+    }
+
+    // 장소 좌표 등록/갱신 (좌표가 없으면 인덱스에서 제거)
+    public synchronized void put(Long placeId, BigDecimal latitude, BigDecimal longitude) {
+        PlaceCoordinate coordinate = new PlaceCoordinate(placeId, latitude, longitude);
+        record(coordinate);
+        apply(coordinate);
+    }
+
+    public synchronized void remove(Long placeId) {
+        PlaceCoordinate removal = new PlaceCoordinate(placeId, null, null);
+        record(removal);
+        apply(removal);
+    }
+
+    // 재구성 중이면 스냅샷 교체 후 다시 적용하도록 마지막 변경을 기록
+    private void record(PlaceCoordinate coordinate) {
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.put(coordinate.id(), coordinate);
+        }
+    }
+
+    private void apply(PlaceCoordinate coordinate) {
+        Long placeId = coordinate.id();
+        Long previousKey = cellKeyByPlaceId.remove(placeId);
+        if (previousKey != null) {
+            cells.computeIfPresent(previousKey, (k, cell) -> cell.without(placeId));
+        }
+        if (coordinate.latitude() == null || coordinate.longitude() == null) {
+            return;
+        }
+        double lat = coordinate.latitude().doubleValue();
+        double lng = coordinate.longitude().doubleValue();
+        long key = cellKey(lat, lng);
+        cells.compute(key, (k, cell) -> cell == null ? Cell.of(placeId, lat, lng) : cell.with(placeId, lat, lng));
+        cellKeyByPlaceId.put(placeId, key);
+    }
+
+    public int size() {
+        return cellKeyByPlaceId.size();
+    }
+
+    // 반경 내 가까운 순으로 최대 limit개
+    public List<Neighbor> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        return nearest(latitude, longitude, radiusKm, limit, null);
+    }
+
+    // filter를 통과한 장소만 후보로 삼아 반경 내 가까운 순으로 최대 limit개
+    public List<Neighbor> nearest(double latitude, double longitude, double radiusKm, int limit,
+                                  LongPredicate filter) {
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        // 경도 방향 셀 폭이 가장 좁아지는 위도를 기준으로 링 수를 보수적으로 계산
+        double worstLat = Math.min(89.0, Math.abs(latitude) + radiusKm / GeoUtils.KM_PER_DEGREE);
+        double cellKm = CELL_DEGREES * GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(worstLat));
+        int maxRing = (int) Math.ceil(radiusKm / cellKm);
+
+        BoundedMaxHeap heap = new BoundedMaxHeap(limit);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerCol - ring; c <= centerCol + ring; c += step) {
+                    Cell cell = cells.get(key(r, c));
+                    if (cell != null) {
+                        cell.collect(latitude, longitude, radiusKm, filter, heap);
+                    }
+                }
+            }
+            // 다음 링의 점은 최소 ring * cellKm 이상 떨어져 있음
+            if (heap.isFull() && heap.maxDistance() <= ring * cellKm) {
+                break;
+            }
+        }
+        return heap.toSortedList();
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return key(row(latitude), col(longitude));
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int col(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // 불변 셀: 교체 시 새 배열을 만들어 조회 중인 스레드에 영향이 없도록 함
+    private static final class Cell {
+        private final long[] ids;
+        private final double[] lats;
+        private final double[] lngs;
+
+        private Cell(long[] ids, double[] lats, double[] lngs) {
+            this.ids = ids;
+            this.lats = lats;
+            this.lngs = lngs;
+        }
+
+        static Cell of(long id, double lat, double lng) {
+            return new Cell(new long[]{id}, new double[]{lat}, new double[]{lng});
+        }
+
+        Cell with(long id, double lat, double lng) {
+            int n = ids.length;
+            long[] newIds = Arrays.copyOf(ids, n + 1);
+            double[] newLats = Arrays.copyOf(lats, n + 1);
+            double[] newLngs = Arrays.copyOf(lngs, n + 1);
+            newIds[n] = id;
+            newLats[n] = lat;
+            newLngs[n] = lng;
+            return new Cell(newIds, newLats, newLngs);
+        }
+
+        // 마지막 원소를 빼야 하는 경우 null을 반환해 셀 자체를 제거
+        Cell without(long id) {
+            int n = ids.length;
+            for (int i = 0; i < n; i++) {
+                if (ids[i] == id) {
+                    if (n == 1) {
+                        return null;
+                    }
+                    long[] newIds = new long[n - 1];
+                    double[] newLats = new double[n - 1];
+                    double[] newLngs = new double[n - 1];
+                    System.arraycopy(ids, 0, newIds, 0, i);
+                    System.arraycopy(ids, i + 1, newIds, i, n - i - 1);
+                    System.arraycopy(lats, 0, newLats, 0, i);
+                    System.arraycopy(lats, i + 1, newLats, i, n - i - 1);
+                    System.arraycopy(lngs, 0, newLngs, 0, i);
+                    System.arraycopy(lngs, i + 1, newLngs, i, n - i - 1);
+                    return new Cell(newIds, newLats, newLngs);
+                }
+            }
+            return this;
+        }
+
+        void collect(double lat, double lng, double radiusKm, LongPredicate filter, BoundedMaxHeap heap) {
+            for (int i = 0; i < ids.length; i++) {
+                double distance = GeoUtils.haversineKm(lat, lng, lats[i], lngs[i]);
+                if (distance <= radiusKm && (filter == null || filter.test(ids[i]))) {
+                    heap.offer(ids[i], distance);
+                }
+            }
+        }
+    }
+
+    private static final class CellBuilder {
+        private final List<double[]> points = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+
+        void add(long id, double lat, double lng) {
+            ids.add(id);
+            points.add(new double[]{lat, lng});
+        }
+
+        Cell build() {
+            int n = ids.size();
+            long[] idArray = new long[n];
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            for (int i = 0; i < n; i++) {
+                idArray[i] = ids.get(i);
+                lats[i] = points.get(i)[0];
+                lngs[i] = points.get(i)[1];
+            }
+            return new Cell(idArray, lats, lngs);
+        }
+    }
+
+    // 거리 기준 최대 힙: 가장 먼 후보를 루트에 두고 k개만 유지
+    private static final class BoundedMaxHeap {
+        private final long[] ids;
+        private final double[] distances;
+        private int size;
+
+        BoundedMaxHeap(int capacity) {
+            this.ids = new long[capacity];
+            this.distances = new double[capacity];
+        }
+
+        boolean isFull() {
+            return size == ids.length;
+        }
+
+        double maxDistance() {
+            return distances[0];
+        }
+
+        void offer(long id, double distance) {
+            if (size < ids.length) {
+                ids[size] = id;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                ids[0] = id;
+                distances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        List<Neighbor> toSortedList() {
+            Neighbor[] result = new Neighbor[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = new Neighbor(ids[i], distances[i]);
+            }
+            Arrays.sort(result, (a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+            return List.of(result);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distances[parent] >= distances[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int largest = i;
+                if (left < size && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < size && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.CursorCodec;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.domain.PlaceTombstone;
+import com.mysite.sbb.aitrip.place.dto.PlaceChangesResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 장소 카탈로그 증분 동기화
+ * 토큰은 (수정 시각, 장소 ID)와 (삭제 시각, 장소 ID) 두 키셋 위치이며, 각각 modified_at / deleted_at 인덱스로
+ * 위치 이후만 읽으므로 비용이 카탈로그 크기가 아니라 변경 건수에 비례합니다.
+ * 수정 시각은 커밋 전에 정해지므로 최근 settle 구간은 다음 호출로 미뤄, 늦게 커밋된 변경을 건너뛰지 않게 합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PlaceSyncService {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1_000;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceTombstoneRepository placeTombstoneRepository;
+    private final Duration settle;
+    private final Duration tombstoneRetention;
+
+    public PlaceSyncService(PlaceRepository placeRepository,
+                            PlaceTombstoneRepository placeTombstoneRepository,
+                            @Value("${place-sync.settle-seconds:5}") long settleSeconds,
+                            @Value("${place-sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.placeRepository = placeRepository;
+        this.placeTombstoneRepository = placeTombstoneRepository;
+        this.settle = Duration.ofSeconds(settleSeconds);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    // since 이후 변경분 (since가 없으면 전체를 처음부터 페이지 단위로)
+    public PlaceChangesResponse getChanges(String since, Integer size) {
+        int limit = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(settle);
+
+        long[] token = CursorCodec.decode(since, 4);
+        Position placeFrom;
+        Position tombstoneFrom;
+        if (token == null) {
+            // 전체 동기화 중에 삭제된 장소만 알려주면 되므로 삭제 기록은 현재 시점부터
+            placeFrom = new Position(BEGINNING, 0L);
+            tombstoneFrom = new Position(until, Long.MAX_VALUE);
+        } else {
+            placeFrom = new Position(fromMicros(token[0]), token[1]);
+            tombstoneFrom = new Position(fromMicros(token[2]), token[3]);
+            if (tombstoneFrom.at().isBefore(now.minus(tombstoneRetention))) {
+                throw new BusinessException(ErrorCode.EXPIRED_SYNC_TOKEN);
+            }
+        }
+
+        List<Place> places = placeRepository.findModifiedAfter(
+                placeFrom.at(), placeFrom.id(), until, PageRequest.of(0, limit + 1));
+        List<PlaceTombstone> tombstones = placeTombstoneRepository.findDeletedAfter(
+                tombstoneFrom.at(), tombstoneFrom.id(), until, PageRequest.of(0, limit + 1));
+        boolean morePlaces = places.size() > limit;
+        boolean moreTombstones = tombstones.size() > limit;
+        places = morePlaces ? places.subList(0, limit) : places;
+        tombstones = moreTombstones ? tombstones.subList(0, limit) : tombstones;
+
+        // 끝까지 읽은 쪽은 until로 위치를 당겨, 변경이 없어도 토큰이 보관 기간을 넘겨 만료되지 않게 함
+        Position placeNext = morePlaces
+                ? new Position(places.get(limit - 1).getModifiedAt(), places.get(limit - 1).getId())
+                : placeFrom.drainedTo(until);
+        Position tombstoneNext = moreTombstones
+                ? new Position(tombstones.get(limit - 1).getDeletedAt(), tombstones.get(limit - 1).getPlaceId())
+                : tombstoneFrom.drainedTo(until);
+
+        String nextToken = CursorCodec.encode(toMicros(placeNext.at()), placeNext.id(),
+                toMicros(tombstoneNext.at()), tombstoneNext.id());
+        return new PlaceChangesResponse(
+                places.stream().map(PlaceResponse::from).toList(),
+                tombstones.stream().map(PlaceTombstone::getPlaceId).toList(),
+                nextToken,
+                morePlaces || moreTombstones);
+    }
+
+    // 보관 기간이 지난 삭제 기록 정리 (그보다 오래된 토큰은 EXPIRED_SYNC_TOKEN으로 전체 동기화 유도)
+    @Transactional
+    @Scheduled(fixedDelayString = "${place-sync.purge-interval-ms:3600000}")
+    public void purgeTombstones() {
+        int purged = placeTombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("장소 삭제 기록 정리: {}건", purged);
+        }
+    }
+
+    private record Position(LocalDateTime at, long id) {
+
+        Position drainedTo(LocalDateTime until) {
+            return until.isAfter(at) ? new Position(until, Long.MAX_VALUE) : this;
+        }
+    }
+
+    // DB 컬럼 정밀도(마이크로초)에 맞춰 토큰에 보관
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,21 +1,31 @@
 package com.mysite.sbb.aitrip.placecrowddata.controller;
 
 import com.mysite.sbb.aitrip.global.response.ApiResponse;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataBulkResponse;
 import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataRequest;
 import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataResponse;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdLookupResponse;
+import com.mysite.sbb.aitrip.placecrowddata.service.PlaceCrowdDataBulkService;
 import com.mysite.sbb.aitrip.placecrowddata.service.PlaceCrowdDataService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -23,7 +33,10 @@ import java.util.List;
 @Tag(name = "PlaceCrowdData", description = "장소 혼잡도 API")
 public class PlaceCrowdDataController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final PlaceCrowdDataService placeCrowdDataService;
+    private final PlaceCrowdDataBulkService placeCrowdDataBulkService;
 
     // 혼잡도 조회 API
     @GetMapping("/api/place-crowd-data")
@@ -33,6 +46,17 @@ public class PlaceCrowdDataController {
                 .body(ApiResponse.success(placeCrowdDataService.getAllCrowdData()));
     }
 
+    // 특정 요일/시간 혼잡도 조회 API
+    @GetMapping("/api/place-crowd-data/places/{placeId}")
+    @Operation(summary = "특정 요일/시간 혼잡도 조회")
+    public ResponseEntity<ApiResponse<PlaceCrowdLookupResponse>> getCrowdAt(
+            @PathVariable Long placeId,
+            @RequestParam int dayOfWeek,
+            @RequestParam int hour) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(placeCrowdDataService.getCrowdAt(placeId, dayOfWeek, hour)));
+    }
+
     // 혼잡도 등록 API
     @PostMapping("/api/place-crowd-data")
     @Operation(summary = "혼잡도 등록", security = @SecurityRequirement(name = "bearerAuth"))
@@ -41,4 +65,20 @@ public class PlaceCrowdDataController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(placeCrowdDataService.createCrowdData(request)));
     }
+
+    // 혼잡도 대량 등록 API (CSV 또는 NDJSON 스트림)
+    @PostMapping(value = "/api/place-crowd-data/bulk", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "혼잡도 대량 등록 (관리자)",
+            description = "CSV(placeId,dayOfWeek,hour,crowdLevel,waitingRiskScore,avgWaitingMin) 또는 NDJSON 스트림을 "
+                    + "(장소, 요일, 시간) 기준으로 upsert",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<PlaceCrowdDataBulkResponse>> bulkUpsertCrowdData(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        PlaceCrowdDataBulkService.Format format = TEXT_CSV.equalsTypeAndSubtype(MediaType.parseMediaType(contentType))
+                ? PlaceCrowdDataBulkService.Format.CSV
+                : PlaceCrowdDataBulkService.Format.NDJSON;
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(placeCrowdDataBulkService.ingest(body, format)));
+    }
 }
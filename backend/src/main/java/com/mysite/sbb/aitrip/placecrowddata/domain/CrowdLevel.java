@@ -0,0 +1,45 @@
+package com.mysite.sbb.aitrip.placecrowddata.domain;
+
+import lombok.Getter;
+
+/**
+ * 혼잡도 단계
+ * 인메모리 혼잡도 저장소에서는 code(byte)로 압축해 보관합니다.
+ */
+@Getter
+public enum CrowdLevel {
+    LOW((byte) 1, "낮음"),
+    MEDIUM((byte) 2, "중간"),
+    HIGH((byte) 3, "높음"),
+    UNKNOWN((byte) 4, null);
+
+    // 데이터 없음
+    public static final byte NO_DATA = 0;
+
+    private static final CrowdLevel[] BY_CODE = {null, LOW, MEDIUM, HIGH, UNKNOWN};
+
+    private final byte code;
+    private final String label;
+
+    CrowdLevel(byte code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public static CrowdLevel fromLabel(String label) {
+        if (label == null) {
+            return UNKNOWN;
+        }
+        for (CrowdLevel level : values()) {
+            if (label.equals(level.label) || label.equalsIgnoreCase(level.name())) {
+                return level;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    // NO_DATA면 null
+    public static CrowdLevel fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -1,24 +1,34 @@
 package com.mysite.sbb.aitrip.placecrowddata.domain;
 
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "place_crowd_data",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"place_id", "day_of_week", "crowd_hour"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"place_id", "day_of_week", "crowd_hour"}),
+        indexes = @Index(name = "idx_crowd_modified_at", columnList = "modified_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLACE_CROWD_DATA)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlaceCrowdData extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_crowd_data_id")
+    @TableGenerator(name = "place_crowd_data_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.PLACE_CROWD_DATA,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
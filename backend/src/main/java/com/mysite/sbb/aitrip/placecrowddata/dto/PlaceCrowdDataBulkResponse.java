@@ -0,0 +1,27 @@
+package com.mysite.sbb.aitrip.placecrowddata.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "혼잡도 대량 등록 결과")
+public record PlaceCrowdDataBulkResponse(
+        @Schema(description = "수신 행 수", example = "1680000")
+        long received,
+
+        @Schema(description = "반영(upsert) 행 수", example = "1679990")
+        long upserted,
+
+        @Schema(description = "거부 행 수", example = "10")
+        long rejected,
+
+        @Schema(description = "처리 시간(ms)", example = "42000")
+        long elapsedMs,
+
+        @Schema(description = "초당 처리 행 수", example = "40000.0")
+        double rowsPerSecond,
+
+        @Schema(description = "거부 사유 (최대 20건)")
+        List<String> errors
+) {
+}
@@ -0,0 +1,25 @@
+package com.mysite.sbb.aitrip.placecrowddata.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "특정 요일/시간 혼잡도 응답")
+public record PlaceCrowdLookupResponse(
+        @Schema(description = "장소 ID", example = "1")
+        Long placeId,
+
+        @Schema(description = "요일 (0~6, 일~토)", example = "2")
+        int dayOfWeek,
+
+        @Schema(description = "시간 (0~23)", example = "14")
+        int hour,
+
+        @Schema(description = "혼잡도", example = "높음")
+        String crowdLevel,
+
+        @Schema(description = "대기 위험도 (0~1)", example = "0.75")
+        Float waitingRiskScore,
+
+        @Schema(description = "평균 대기시간(분)", example = "30")
+        Integer avgWaitingMin
+) {
+}
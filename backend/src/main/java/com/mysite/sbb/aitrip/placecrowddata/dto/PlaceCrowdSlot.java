@@ -0,0 +1,17 @@
+package com.mysite.sbb.aitrip.placecrowddata.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 혼잡도 저장소 적재용 프로젝션 (Place 조인 없이 place_id만 조회)
+public record PlaceCrowdSlot(
+        Long id,
+        Long placeId,
+        Integer dayOfWeek,
+        Integer hour,
+        String crowdLevel,
+        BigDecimal waitingRiskScore,
+        Integer avgWaitingMin,
+        LocalDateTime modifiedAt
+) {
+}
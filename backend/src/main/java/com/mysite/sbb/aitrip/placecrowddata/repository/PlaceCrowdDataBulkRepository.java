@@ -0,0 +1,110 @@
+package com.mysite.sbb.aitrip.placecrowddata.repository;
+
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequenceAllocator;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
+import com.mysite.sbb.aitrip.placecrowddata.domain.PlaceCrowdData;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataRequest;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 혼잡도 대량 upsert 전용 JDBC 저장소
+ * (place_id, day_of_week, crowd_hour) 유니크 키 기준으로 배치 upsert 합니다.
+ * MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, 그 외(H2)는 MERGE ... USING 구문을 사용합니다.
+ * ID는 배치마다 IdSequenceAllocator에서 블록으로 받으며, 기존 행과 겹쳐 갱신된 행의 ID는 버려집니다.
+ * Hibernate를 거치지 않으므로 반영 후 혼잡도 2차 캐시 영역을 통째로 비웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceCrowdDataBulkRepository {
+
+    private static final String MYSQL_UPSERT = """
+            INSERT INTO place_crowd_data
+                (id, place_id, day_of_week, crowd_hour, crowd_level, waiting_risk_score, avg_waiting_min,
+                 created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                crowd_level = VALUES(crowd_level),
+                waiting_risk_score = VALUES(waiting_risk_score),
+                avg_waiting_min = VALUES(avg_waiting_min),
+                modified_at = VALUES(modified_at)
+            """;
+
+    // MERGE ... KEY는 일치한 행의 id/created_at까지 덮어쓰므로 갱신 컬럼을 지정하는 표준 MERGE 사용
+    private static final String MERGE_UPSERT = """
+            MERGE INTO place_crowd_data t
+            USING (SELECT CAST(? AS BIGINT) id, CAST(? AS BIGINT) place_id, CAST(? AS INT) day_of_week,
+                          CAST(? AS INT) crowd_hour, CAST(? AS VARCHAR(20)) crowd_level,
+                          CAST(? AS DECIMAL(3, 2)) waiting_risk_score, CAST(? AS INT) avg_waiting_min,
+                          CAST(? AS TIMESTAMP) created_at, CAST(? AS TIMESTAMP) modified_at) s
+            ON t.place_id = s.place_id AND t.day_of_week = s.day_of_week AND t.crowd_hour = s.crowd_hour
+            WHEN MATCHED THEN UPDATE SET
+                crowd_level = s.crowd_level,
+                waiting_risk_score = s.waiting_risk_score,
+                avg_waiting_min = s.avg_waiting_min,
+                modified_at = s.modified_at
+            WHEN NOT MATCHED THEN INSERT
+                (id, place_id, day_of_week, crowd_hour, crowd_level, waiting_risk_score, avg_waiting_min,
+                 created_at, modified_at)
+            VALUES (s.id, s.place_id, s.day_of_week, s.crowd_hour, s.crowd_level, s.waiting_risk_score,
+                    s.avg_waiting_min, s.created_at, s.modified_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private volatile String upsertSql;
+
+    public void upsert(List<PlaceCrowdDataRequest> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        long firstId = idSequenceAllocator.allocate(IdSequences.PLACE_CROWD_DATA, rows.size());
+        jdbcTemplate.batchUpdate(upsertSql(), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PlaceCrowdDataRequest row = rows.get(i);
+                ps.setLong(1, firstId + i);
+                ps.setLong(2, row.placeId());
+                ps.setInt(3, row.dayOfWeek());
+                ps.setInt(4, row.hour());
+                ps.setString(5, row.crowdLevel());
+                ps.setBigDecimal(6, row.waitingRiskScore());
+                if (row.avgWaitingMin() == null) {
+                    ps.setNull(7, Types.INTEGER);
+                } else {
+                    ps.setInt(7, row.avgWaitingMin());
+                }
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        entityManagerFactory.getCache().evict(PlaceCrowdData.class);
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "MySQL".equalsIgnoreCase(product) ? MYSQL_UPSERT : MERGE_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
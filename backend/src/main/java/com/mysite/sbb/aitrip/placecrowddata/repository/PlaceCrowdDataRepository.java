@@ -1,8 +1,13 @@
 package com.mysite.sbb.aitrip.placecrowddata.repository;
 
 import com.mysite.sbb.aitrip.placecrowddata.domain.PlaceCrowdData;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdSlot;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PlaceCrowdDataRepository extends JpaRepository<PlaceCrowdData, Long> {
@@ -10,4 +15,25 @@ public interface PlaceCrowdDataRepository extends JpaRepository<PlaceCrowdData,
     List<PlaceCrowdData> findByPlaceId(Long placeId);
 
     List<PlaceCrowdData> findByPlaceIdAndDayOfWeek(Long placeId, Integer dayOfWeek);
+
+    // 전체 적재용 키셋 배치 조회
+    @Query("""
+            select new com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdSlot(
+                c.id, c.place.id, c.dayOfWeek, c.hour, c.crowdLevel,
+                c.waitingRiskScore, c.avgWaitingMin, c.modifiedAt)
+            from PlaceCrowdData c
+            where c.id > :afterId
+            order by c.id asc
+            """)
+    List<PlaceCrowdSlot> findSlotsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 증분 갱신용: 워터마크 이후 변경분
+    @Query("""
+            select new com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdSlot(
+                c.id, c.place.id, c.dayOfWeek, c.hour, c.crowdLevel,
+                c.waitingRiskScore, c.avgWaitingMin, c.modifiedAt)
+            from PlaceCrowdData c
+            where c.modifiedAt >= :since
+            """)
+    List<PlaceCrowdSlot> findSlotsModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,176 @@
+package com.mysite.sbb.aitrip.placecrowddata.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placecrowddata.domain.CrowdLevel;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataBulkResponse;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataRequest;
+import com.mysite.sbb.aitrip.placecrowddata.repository.PlaceCrowdDataBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 혼잡도 대량 적재
+ * CSV/NDJSON 스트림을 한 줄씩 읽어 배치 단위로 upsert 합니다.
+ * 배치마다 커밋되므로 중간에 실패하면 앞선 배치는 반영된 상태로 남습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceCrowdDataBulkService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final String CSV_HEADER_PREFIX = "placeId";
+    // place_crowd_data.waiting_risk_score DECIMAL(3,2)
+    private static final BigDecimal MAX_WAITING_RISK_SCORE = new BigDecimal("9.99");
+    private static final int WAITING_RISK_SCORE_SCALE = 2;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceCrowdDataBulkRepository placeCrowdDataBulkRepository;
+    private final PlaceCrowdStore placeCrowdStore;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
+
+    // CSV 컬럼: placeId,dayOfWeek,hour,crowdLevel,waitingRiskScore,avgWaitingMin (헤더 선택)
+    public PlaceCrowdDataBulkResponse ingest(InputStream body, Format format) throws IOException {
+        long startedAt = System.nanoTime();
+        Set<Long> placeIds = loadPlaceIds();
+        ObjectReader jsonReader = objectMapper.readerFor(PlaceCrowdDataRequest.class);
+
+        long received = 0;
+        long upserted = 0;
+        List<String> errors = new ArrayList<>();
+        List<PlaceCrowdDataRequest> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()
+                        || (format == Format.CSV && lineNumber == 1 && line.startsWith(CSV_HEADER_PREFIX))) {
+                    continue;
+                }
+                received++;
+
+                PlaceCrowdDataRequest row;
+                try {
+                    row = format == Format.CSV ? parseCsv(line) : jsonReader.readValue(line);
+                } catch (IOException | RuntimeException e) {
+                    addError(errors, lineNumber, "형식 오류");
+                    continue;
+                }
+                String error = validate(row, placeIds);
+                if (error != null) {
+                    addError(errors, lineNumber, error);
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    upserted += flush(batch);
+                }
+            }
+        }
+        upserted += flush(batch);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : upserted * 1_000_000_000.0 / elapsedNanos;
+        log.info("혼잡도 대량 적재 완료: 수신 {}건, 반영 {}건, {}rows/s", received, upserted, (long) rowsPerSecond);
+        return new PlaceCrowdDataBulkResponse(received, upserted, received - upserted,
+                elapsedNanos / 1_000_000, rowsPerSecond, errors);
+    }
+
+    private int flush(List<PlaceCrowdDataRequest> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        placeCrowdDataBulkRepository.upsert(batch, LocalDateTime.now());
+        for (PlaceCrowdDataRequest row : batch) {
+            placeCrowdStore.put(row.placeId(), row.dayOfWeek(), row.hour(),
+                    row.crowdLevel(), row.waitingRiskScore(), row.avgWaitingMin());
+        }
+        // 배치마다 커밋되므로 중간에 실패해도 반영된 배치까지는 무효화
+        contentVersions.bump(ContentGroup.CROWD_DATA);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    // 장소 ID 존재 여부를 요청마다 DB에 묻지 않도록 한 번에 적재 (풀링 ID는 연속적이지 않음)
+    private Set<Long> loadPlaceIds() {
+        return new HashSet<>(placeRepository.findAllIds());
+    }
+
+    // 컬럼 제약(crowd_level 라벨, waiting_risk_score DECIMAL(3,2))을 행 단위로 검사
+    private String validate(PlaceCrowdDataRequest row, Set<Long> placeIds) {
+        if (row.placeId() == null || row.dayOfWeek() == null || row.hour() == null) {
+            return "필수 값 누락";
+        }
+        if (!placeIds.contains(row.placeId())) {
+            return "존재하지 않는 장소 " + row.placeId();
+        }
+        if (!PlaceCrowdStore.isValidSlot(row.dayOfWeek(), row.hour())) {
+            return "요일/시간 범위 오류";
+        }
+        if (row.crowdLevel() != null && CrowdLevel.fromLabel(row.crowdLevel()) == CrowdLevel.UNKNOWN) {
+            return "알 수 없는 혼잡도 " + row.crowdLevel();
+        }
+        BigDecimal score = row.waitingRiskScore();
+        if (score != null && (score.signum() < 0 || score.compareTo(MAX_WAITING_RISK_SCORE) > 0
+                || score.stripTrailingZeros().scale() > WAITING_RISK_SCORE_SCALE)) {
+            return "대기 위험도 범위 오류 " + score.toPlainString();
+        }
+        if (row.avgWaitingMin() != null && row.avgWaitingMin() < 0) {
+            return "평균 대기시간 범위 오류";
+        }
+        return null;
+    }
+
+    private PlaceCrowdDataRequest parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("column count");
+        }
+        return new PlaceCrowdDataRequest(
+                Long.valueOf(fields[0].trim()),
+                Integer.valueOf(fields[1].trim()),
+                Integer.valueOf(fields[2].trim()),
+                emptyToNull(fields[3]),
+                fields[4].isBlank() ? null : new BigDecimal(fields[4].trim()),
+                fields[5].isBlank() ? null : Integer.valueOf(fields[5].trim())
+        );
+    }
+
+    private String emptyToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private void addError(List<String> errors, long lineNumber, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(lineNumber + "행: " + message);
+        }
+    }
+}
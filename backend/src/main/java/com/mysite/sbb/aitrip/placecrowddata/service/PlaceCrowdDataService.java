@@ -1,10 +1,15 @@
 package com.mysite.sbb.aitrip.placecrowddata.service;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placecrowddata.domain.CrowdLevel;
 import com.mysite.sbb.aitrip.placecrowddata.domain.PlaceCrowdData;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdLookupResponse;
 import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataRequest;
 import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataResponse;
 import com.mysite.sbb.aitrip.placecrowddata.repository.PlaceCrowdDataRepository;
@@ -21,6 +26,8 @@ public class PlaceCrowdDataService {
 
     private final PlaceCrowdDataRepository placeCrowdDataRepository;
     private final PlaceRepository placeRepository;
+    private final PlaceCrowdStore placeCrowdStore;
+    private final ContentVersions contentVersions;
 
     // 혼잡도 목록 조회
     public List<PlaceCrowdDataResponse> getAllCrowdData() {
@@ -29,6 +36,27 @@ public class PlaceCrowdDataService {
                 .toList();
     }
 
+    // 특정 장소/요일/시간 혼잡도 조회 (인메모리 저장소)
+    public PlaceCrowdLookupResponse getCrowdAt(Long placeId, int dayOfWeek, int hour) {
+        if (!PlaceCrowdStore.isValidSlot(dayOfWeek, hour)) {
+            throw new BusinessException(ErrorCode.INVALID_CROWD_TIME);
+        }
+        byte levelCode = placeCrowdStore.levelCode(placeId, dayOfWeek, hour);
+        if (levelCode == CrowdLevel.NO_DATA) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_PLACE_CROWD_DATA);
+        }
+        short waitingMinutes = placeCrowdStore.waitingMinutes(placeId, dayOfWeek, hour);
+        float risk = placeCrowdStore.waitingRisk(placeId, dayOfWeek, hour);
+        return new PlaceCrowdLookupResponse(
+                placeId,
+                dayOfWeek,
+                hour,
+                CrowdLevel.fromCode(levelCode).getLabel(),
+                Float.isNaN(risk) ? null : risk,
+                waitingMinutes == PlaceCrowdStore.NO_WAITING_DATA ? null : (int) waitingMinutes
+        );
+    }
+
     // 혼잡도 등록
     @Transactional
     public PlaceCrowdDataResponse createCrowdData(PlaceCrowdDataRequest request) {
@@ -45,6 +73,11 @@ public class PlaceCrowdDataService {
                 .build();
 
         PlaceCrowdData saved = placeCrowdDataRepository.save(crowdData);
+        AfterCommit.run(() -> {
+            placeCrowdStore.put(place.getId(), request.dayOfWeek(), request.hour(),
+                    request.crowdLevel(), request.waitingRiskScore(), request.avgWaitingMin());
+            contentVersions.bump(ContentGroup.CROWD_DATA);
+        });
         return PlaceCrowdDataResponse.from(saved);
     }
 }
@@ -0,0 +1,158 @@
+package com.mysite.sbb.aitrip.placecrowddata.service;
+
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import com.mysite.sbb.aitrip.placecrowddata.domain.CrowdLevel;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdSlot;
+import com.mysite.sbb.aitrip.placecrowddata.repository.PlaceCrowdDataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장소별 7x24 혼잡도 인메모리 저장소
+ * 장소마다 168칸 원시 배열(byte 혼잡도 코드, short 대기시간, float 위험도)로 압축해 보관합니다.
+ * 시작 시 전체 적재 후 modifiedAt 워터마크로 주기적으로 변경분과 삭제된 장소만 반영하며,
+ * 수정 시각은 커밋 전에 정해지므로 워터마크를 settle 구간만큼 늦춰 늦게 커밋된 변경을 놓치지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class PlaceCrowdStore {
+
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+    public static final int SLOTS = DAYS * HOURS;
+    public static final short NO_WAITING_DATA = -1;
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final PlaceCrowdDataRepository placeCrowdDataRepository;
+    private final PlaceTombstoneRepository placeTombstoneRepository;
+    private final Duration settle;
+
+    // 풀링 채번이라 장소 ID가 조밀하지 않으므로 배열 인덱스 대신 맵으로 보관
+    private final Map<Long, CrowdGrid> grids = new ConcurrentHashMap<>();
+    private volatile LocalDateTime watermark;
+
+    public PlaceCrowdStore(PlaceCrowdDataRepository placeCrowdDataRepository,
+                           PlaceTombstoneRepository placeTombstoneRepository,
+                           @Value("${crowd-store.settle-seconds:5}") long settleSeconds) {
+        this.placeCrowdDataRepository = placeCrowdDataRepository;
+        this.placeTombstoneRepository = placeTombstoneRepository;
+        this.settle = Duration.ofSeconds(settleSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<PlaceCrowdSlot> batch = placeCrowdDataRepository.findSlotsAfter(
+                    afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            batch.forEach(this::apply);
+            loaded += batch.size();
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        }
+        watermark = loadStartedAt.minus(settle);
+        log.info("혼잡도 저장소 적재 완료: {}건", loaded);
+    }
+
+    // 다른 인스턴스나 대량 적재로 변경된 행과 삭제된 장소를 워터마크 이후분만 반영 (settle 구간은 다시 읽어도 멱등)
+    @Scheduled(fixedDelayString = "${crowd-store.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime refreshStartedAt = LocalDateTime.now();
+        List<PlaceCrowdSlot> changed = placeCrowdDataRepository.findSlotsModifiedSince(since);
+        changed.forEach(this::apply);
+        List<Long> deleted = placeTombstoneRepository.findPlaceIdsDeletedSince(since);
+        deleted.forEach(this::remove);
+        watermark = refreshStartedAt.minus(settle);
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            log.debug("혼잡도 저장소 증분 반영: 변경 {}건, 삭제 장소 {}건", changed.size(), deleted.size());
+        }
+    }
+
+    public void apply(PlaceCrowdSlot slot) {
+        put(slot.placeId(), slot.dayOfWeek(), slot.hour(),
+                slot.crowdLevel(), slot.waitingRiskScore(), slot.avgWaitingMin());
+    }
+
+    public void put(long placeId, int dayOfWeek, int hour, String crowdLevel,
+                    BigDecimal waitingRiskScore, Integer avgWaitingMin) {
+        if (!isValidSlot(dayOfWeek, hour)) {
+            return;
+        }
+        int slot = slot(dayOfWeek, hour);
+        CrowdGrid grid = grids.computeIfAbsent(placeId, id -> new CrowdGrid());
+        grid.levels[slot] = CrowdLevel.fromLabel(crowdLevel).getCode();
+        grid.waitingMinutes[slot] = avgWaitingMin == null
+                ? NO_WAITING_DATA : (short) Math.min(avgWaitingMin, Short.MAX_VALUE);
+        grid.risks[slot] = waitingRiskScore == null ? Float.NaN : waitingRiskScore.floatValue();
+    }
+
+    // 삭제된 장소
+    public void remove(long placeId) {
+        grids.remove(placeId);
+    }
+
+    // 혼잡도 코드 (데이터 없으면 CrowdLevel.NO_DATA)
+    public byte levelCode(long placeId, int dayOfWeek, int hour) {
+        CrowdGrid grid = grids.get(placeId);
+        return grid == null ? CrowdLevel.NO_DATA : grid.levels[slot(dayOfWeek, hour)];
+    }
+
+    // 평균 대기시간(분) (데이터 없으면 NO_WAITING_DATA)
+    public short waitingMinutes(long placeId, int dayOfWeek, int hour) {
+        CrowdGrid grid = grids.get(placeId);
+        return grid == null ? NO_WAITING_DATA : grid.waitingMinutes[slot(dayOfWeek, hour)];
+    }
+
+    // 대기 위험도 (데이터 없으면 NaN)
+    public float waitingRisk(long placeId, int dayOfWeek, int hour) {
+        CrowdGrid grid = grids.get(placeId);
+        return grid == null ? Float.NaN : grid.risks[slot(dayOfWeek, hour)];
+    }
+
+    public static boolean isValidSlot(int dayOfWeek, int hour) {
+        return dayOfWeek >= 0 && dayOfWeek < DAYS && hour >= 0 && hour < HOURS;
+    }
+
+    // java.time.DayOfWeek(월=1 ~ 일=7) -> 저장 형식(일=0 ~ 토=6)
+    public static int dayIndex(DayOfWeek dayOfWeek) {
+        return dayOfWeek.getValue() % DAYS;
+    }
+
+    private static int slot(int dayOfWeek, int hour) {
+        return dayOfWeek * HOURS + hour;
+    }
+
+    private static final class CrowdGrid {
+        private final byte[] levels = new byte[SLOTS];
+        private final short[] waitingMinutes = new short[SLOTS];
+        private final float[] risks = new float[SLOTS];
+
+        private CrowdGrid() {
+            Arrays.fill(waitingMinutes, NO_WAITING_DATA);
+            Arrays.fill(risks, Float.NaN);
+        }
+    }
+}
@@ -3,7 +3,12 @@ package com.mysite.sbb.aitrip.placemovingtime.controller;
 import com.mysite.sbb.aitrip.global.response.ApiResponse;
 import com.mysite.sbb.aitrip.placemovingtime.dto.PlaceMovingTimeRequest;
 import com.mysite.sbb.aitrip.placemovingtime.dto.PlaceMovingTimeResponse;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateRequest;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateResponse;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeMatrixResponse;
 import com.mysite.sbb.aitrip.placemovingtime.service.PlaceMovingTimeService;
+import com.mysite.sbb.aitrip.placemovingtime.service.TravelTimeEstimateService;
+import com.mysite.sbb.aitrip.placemovingtime.service.TravelTimeMatrixService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -24,6 +30,8 @@ import java.util.List;
 public class PlaceMovingTimeController {
 
     private final PlaceMovingTimeService placeMovingTimeService;
+    private final TravelTimeMatrixService travelTimeMatrixService;
+    private final TravelTimeEstimateService travelTimeEstimateService;
 
     // 이동시간 조회 API
     @GetMapping("/api/place-moving-times")
@@ -33,6 +41,25 @@ public class PlaceMovingTimeController {
                 .body(ApiResponse.success(placeMovingTimeService.getAllMovingTimes()));
     }
 
+    // 장소 간 이동시간 행렬 조회 API
+    @GetMapping("/api/place-moving-times/matrix")
+    @Operation(summary = "이동시간 행렬 조회", description = "측정값이 없는 쌍은 최단 경로로 채워 반환")
+    public ResponseEntity<ApiResponse<TravelTimeMatrixResponse>> getMatrix(
+            @RequestParam List<Long> placeIds) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(travelTimeMatrixService.getMatrixFor(placeIds)));
+    }
+
+    // 출발 x 도착 이동시간 배치 조회 API (측정값 없으면 좌표 기반 추정)
+    @PostMapping("/api/place-moving-times/estimate")
+    @Operation(summary = "이동시간 배치 추정", security = @SecurityRequirement(name = "bearerAuth"),
+            description = "최대 500 x 500, measured=false인 값은 좌표 기반 추정값")
+    public ResponseEntity<ApiResponse<TravelTimeEstimateResponse>> estimate(
+            @Valid @RequestBody TravelTimeEstimateRequest request) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(travelTimeEstimateService.estimate(request)));
+    }
+
     // 이동시간 등록 API
     @PostMapping("/api/place-moving-times")
     @Operation(summary = "이동시간 등록", security = @SecurityRequirement(name = "bearerAuth"))
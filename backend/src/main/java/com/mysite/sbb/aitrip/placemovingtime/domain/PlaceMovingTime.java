@@ -1,6 +1,7 @@
 package com.mysite.sbb.aitrip.placemovingtime.domain;
 
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -18,7 +19,10 @@ import java.math.BigDecimal;
 public class PlaceMovingTime extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_moving_times_id")
+    @TableGenerator(name = "place_moving_times_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.PLACE_MOVING_TIMES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
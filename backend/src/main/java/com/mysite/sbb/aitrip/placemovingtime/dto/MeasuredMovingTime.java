@@ -0,0 +1,13 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import java.math.BigDecimal;
+
+// 이동시간 배치 조회용 측정값 프로젝션
+public record MeasuredMovingTime(
+        Long fromPlaceId,
+        Long toPlaceId,
+        String transportType,
+        Integer timeMinutes,
+        BigDecimal distanceKm
+) {
+}
@@ -0,0 +1,12 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import java.math.BigDecimal;
+
+// 이동시간 행렬 구성용 프로젝션
+public record MovingTimeEdge(
+        Long fromPlaceId,
+        Long toPlaceId,
+        Integer timeMinutes,
+        BigDecimal distanceKm
+) {
+}
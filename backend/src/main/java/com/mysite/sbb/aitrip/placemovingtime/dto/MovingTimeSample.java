@@ -0,0 +1,15 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import java.math.BigDecimal;
+
+// 이동시간 추정 보정용 프로젝션 (측정값 + 양 끝 좌표)
+public record MovingTimeSample(
+        String transportType,
+        BigDecimal fromLatitude,
+        BigDecimal fromLongitude,
+        BigDecimal toLatitude,
+        BigDecimal toLongitude,
+        Integer timeMinutes,
+        BigDecimal distanceKm
+) {
+}
@@ -0,0 +1,24 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "이동시간 배치 추정 요청")
+public record TravelTimeEstimateRequest(
+        @Schema(description = "출발 장소 ID 목록 (최대 500개)", example = "[1, 2, 3]")
+        @NotEmpty(message = "출발 장소 ID는 필수입니다.")
+        @Size(max = 500, message = "출발 장소는 최대 500개까지 요청할 수 있습니다.")
+        List<Long> fromPlaceIds,
+
+        @Schema(description = "도착 장소 ID 목록 (최대 500개)", example = "[4, 5]")
+        @NotEmpty(message = "도착 장소 ID는 필수입니다.")
+        @Size(max = 500, message = "도착 장소는 최대 500개까지 요청할 수 있습니다.")
+        List<Long> toPlaceIds,
+
+        @Schema(description = "이동수단 (미입력 시 대중교통 기준)", example = "도보")
+        String transportType
+) {
+}
@@ -0,0 +1,27 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "이동시간 배치 추정 응답")
+public record TravelTimeEstimateResponse(
+        @Schema(description = "행 순서의 출발 장소 ID")
+        List<Long> fromPlaceIds,
+
+        @Schema(description = "열 순서의 도착 장소 ID")
+        List<Long> toPlaceIds,
+
+        @Schema(description = "적용된 이동수단", example = "도보")
+        String transportType,
+
+        @Schema(description = "이동시간(분) 행렬, 좌표와 측정값이 모두 없으면 null")
+        Integer[][] minutes,
+
+        @Schema(description = "거리(km) 행렬, 좌표와 측정값이 모두 없으면 null")
+        Float[][] distanceKm,
+
+        @Schema(description = "측정값 여부 행렬 (false면 좌표 기반 추정값)")
+        boolean[][] measured
+) {
+}
@@ -0,0 +1,18 @@
+package com.mysite.sbb.aitrip.placemovingtime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장소 간 이동시간 행렬 응답")
+public record TravelTimeMatrixResponse(
+        @Schema(description = "행/열 순서의 장소 ID", example = "[1, 2, 3]")
+        List<Long> placeIds,
+
+        @Schema(description = "이동시간(분) 행렬, 경로가 없으면 null")
+        Integer[][] minutes,
+
+        @Schema(description = "거리(km) 행렬, 경로가 없으면 null")
+        Float[][] distanceKm
+) {
+}
@@ -1,8 +1,14 @@
 package com.mysite.sbb.aitrip.placemovingtime.repository;
 
 import com.mysite.sbb.aitrip.placemovingtime.domain.PlaceMovingTime;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MeasuredMovingTime;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeEdge;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeSample;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,35 @@ public interface PlaceMovingTimeRepository extends JpaRepository<PlaceMovingTime
     Optional<PlaceMovingTime> findByFromPlaceIdAndToPlaceId(Long fromPlaceId, Long toPlaceId);
 
     List<PlaceMovingTime> findByFromPlaceId(Long fromPlaceId);
+
+    // 같은 지역 내 장소 간 이동시간 (행렬 구성용)
+    @Query("""
+            select new com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeEdge(
+                m.fromPlace.id, m.toPlace.id, m.timeMinutes, m.distanceKm)
+            from PlaceMovingTime m
+            where m.fromPlace.region = :region and m.toPlace.region = :region
+            """)
+    List<MovingTimeEdge> findEdgesByRegion(@Param("region") String region);
+
+    // 양 끝 좌표가 있는 측정값 전체 (추정기 보정용)
+    @Query("""
+            select new com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeSample(
+                m.transportType, f.latitude, f.longitude, t.latitude, t.longitude, m.timeMinutes, m.distanceKm)
+            from PlaceMovingTime m join m.fromPlace f join m.toPlace t
+            where m.timeMinutes is not null
+              and f.latitude is not null and f.longitude is not null
+              and t.latitude is not null and t.longitude is not null
+            """)
+    List<MovingTimeSample> findSamples();
+
+    // 출발 x 도착 조합 중 측정값이 있는 쌍만 조회
+    @Query("""
+            select new com.mysite.sbb.aitrip.placemovingtime.dto.MeasuredMovingTime(
+                m.fromPlace.id, m.toPlace.id, m.transportType, m.timeMinutes, m.distanceKm)
+            from PlaceMovingTime m
+            where m.fromPlace.id in :fromPlaceIds and m.toPlace.id in :toPlaceIds
+              and m.timeMinutes is not null
+            """)
+    List<MeasuredMovingTime> findMeasuredBetween(@Param("fromPlaceIds") Collection<Long> fromPlaceIds,
+                                                 @Param("toPlaceIds") Collection<Long> toPlaceIds);
 }
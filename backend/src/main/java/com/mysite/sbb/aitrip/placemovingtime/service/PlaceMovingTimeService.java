@@ -1,7 +1,10 @@
 package com.mysite.sbb.aitrip.placemovingtime.service;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
 import com.mysite.sbb.aitrip.placemovingtime.domain.PlaceMovingTime;
@@ -21,6 +24,8 @@ public class PlaceMovingTimeService {
 
     private final PlaceMovingTimeRepository placeMovingTimeRepository;
     private final PlaceRepository placeRepository;
+    private final TravelTimeMatrixService travelTimeMatrixService;
+    private final ContentVersions contentVersions;
 
     // 이동시간 목록 조회
     public List<PlaceMovingTimeResponse> getAllMovingTimes() {
@@ -46,6 +51,11 @@ public class PlaceMovingTimeService {
                 .build();
 
         PlaceMovingTime saved = placeMovingTimeRepository.save(movingTime);
+        AfterCommit.run(() -> {
+            travelTimeMatrixService.evict(fromPlace.getRegion());
+            travelTimeMatrixService.evict(toPlace.getRegion());
+            contentVersions.bump(ContentGroup.MOVING_TIMES);
+        });
         return PlaceMovingTimeResponse.from(saved);
     }
 }
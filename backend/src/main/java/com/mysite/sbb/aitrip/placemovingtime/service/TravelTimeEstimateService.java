@@ -0,0 +1,125 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.place.dto.PlaceCoordinate;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MeasuredMovingTime;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateRequest;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateResponse;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TravelTimeEstimateService {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceMovingTimeRepository placeMovingTimeRepository;
+    private final TravelTimeEstimator travelTimeEstimator;
+
+    // 출발 x 도착 이동시간 배치 조회 (측정값 우선, 없으면 좌표 기반 추정)
+    public TravelTimeEstimateResponse estimate(TravelTimeEstimateRequest request) {
+        List<Long> fromIds = request.fromPlaceIds();
+        List<Long> toIds = request.toPlaceIds();
+        String transportType = TravelTimeEstimator.normalize(request.transportType());
+        int n = fromIds.size();
+        int m = toIds.size();
+
+        Set<Long> allIds = new HashSet<>(fromIds);
+        allIds.addAll(toIds);
+        Map<Long, PlaceCoordinate> coordinates = new HashMap<>();
+        for (PlaceCoordinate coordinate : placeRepository.findCoordinatesByIdIn(allIds)) {
+            coordinates.put(coordinate.id(), coordinate);
+        }
+
+        int[] minutes = new int[n * m];
+        float[] km = new float[n * m];
+        travelTimeEstimator.estimate(latitudes(fromIds, coordinates), longitudes(fromIds, coordinates),
+                latitudes(toIds, coordinates), longitudes(toIds, coordinates), transportType, minutes, km);
+
+        boolean[][] measured = new boolean[n][m];
+        applyMeasured(fromIds, toIds, transportType, minutes, km, measured);
+
+        Integer[][] minutesMatrix = new Integer[n][m];
+        Float[][] kmMatrix = new Float[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                int cell = i * m + j;
+                if (fromIds.get(i).equals(toIds.get(j))) {
+                    minutesMatrix[i][j] = 0;
+                    kmMatrix[i][j] = 0f;
+                    continue;
+                }
+                minutesMatrix[i][j] = minutes[cell] != TravelTimeEstimator.UNKNOWN ? minutes[cell] : null;
+                kmMatrix[i][j] = Float.isNaN(km[cell]) ? null : km[cell];
+            }
+        }
+        return new TravelTimeEstimateResponse(fromIds, toIds, transportType, minutesMatrix, kmMatrix, measured);
+    }
+
+    // 측정값이 있는 쌍은 추정값을 덮어씀 (정규화된 같은 이동수단만, 여러 건이면 가장 짧은 값)
+    // 미지정이면 기본 수단(대중교통)으로 응답하므로 측정값도 그 수단만 사용
+    private void applyMeasured(List<Long> fromIds, List<Long> toIds, String transportType,
+                               int[] minutes, float[] km, boolean[][] measured) {
+        Map<Long, int[]> fromIndexes = indexesOf(fromIds);
+        Map<Long, int[]> toIndexes = indexesOf(toIds);
+        int m = toIds.size();
+        List<MeasuredMovingTime> rows = placeMovingTimeRepository.findMeasuredBetween(
+                fromIndexes.keySet(), toIndexes.keySet());
+        for (MeasuredMovingTime row : rows) {
+            if (!transportType.equals(TravelTimeEstimator.normalize(row.transportType()))) {
+                continue;
+            }
+            for (int i : fromIndexes.get(row.fromPlaceId())) {
+                for (int j : toIndexes.get(row.toPlaceId())) {
+                    int cell = i * m + j;
+                    if (measured[i][j] && minutes[cell] <= row.timeMinutes()) {
+                        continue;
+                    }
+                    minutes[cell] = row.timeMinutes();
+                    km[cell] = row.distanceKm() != null ? row.distanceKm().floatValue() : km[cell];
+                    measured[i][j] = true;
+                }
+            }
+        }
+    }
+
+    // 같은 ID가 여러 번 요청될 수 있으므로 ID별 위치 목록
+    private Map<Long, int[]> indexesOf(List<Long> ids) {
+        Map<Long, int[]> indexes = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            int[] previous = indexes.get(ids.get(i));
+            int[] next = previous == null ? new int[1] : Arrays.copyOf(previous, previous.length + 1);
+            next[next.length - 1] = i;
+            indexes.put(ids.get(i), next);
+        }
+        return indexes;
+    }
+
+    private double[] latitudes(List<Long> ids, Map<Long, PlaceCoordinate> coordinates) {
+        double[] values = new double[ids.size()];
+        for (int i = 0; i < values.length; i++) {
+            PlaceCoordinate coordinate = coordinates.get(ids.get(i));
+            values[i] = coordinate != null ? coordinate.latitude().doubleValue() : Double.NaN;
+        }
+        return values;
+    }
+
+    private double[] longitudes(List<Long> ids, Map<Long, PlaceCoordinate> coordinates) {
+        double[] values = new double[ids.size()];
+        for (int i = 0; i < values.length; i++) {
+            PlaceCoordinate coordinate = coordinates.get(ids.get(i));
+            values[i] = coordinate != null ? coordinate.longitude().doubleValue() : Double.NaN;
+        }
+        return values;
+    }
+}
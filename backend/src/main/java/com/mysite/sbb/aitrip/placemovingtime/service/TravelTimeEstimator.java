@@ -0,0 +1,204 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.global.util.GeoUtils;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeSample;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌표 기반 이동시간 추정기
+ * 직선거리(haversine)를 이동수단별 속도 프로파일(고정 소요 + 분/km, 우회 계수)로 분/도로거리로 환산합니다.
+ * 프로파일은 기존 PlaceMovingTime 측정값에 대한 최소제곱 회귀로 보정하고, 표본이 부족하면 기본값을 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelTimeEstimator {
+
+    public static final String DEFAULT_TRANSPORT_TYPE = "대중교통";
+    public static final int UNKNOWN = -1;
+
+    static final int MIN_SAMPLES = 5;
+    static final double MAX_OVERHEAD_MINUTES = 60.0;
+
+    private static final double EARTH_DIAMETER_KM = 2.0 * GeoUtils.EARTH_RADIUS_KM;
+
+    private static final Map<String, SpeedProfile> DEFAULT_PROFILES = Map.of(
+            "도보", new SpeedProfile(0.0, 60.0 / 4.5, 1.25, 0),
+            "대중교통", new SpeedProfile(8.0, 60.0 / 18.0, 1.3, 0),
+            "자동차", new SpeedProfile(5.0, 60.0 / 25.0, 1.3, 0),
+            "택시", new SpeedProfile(5.0, 60.0 / 25.0, 1.3, 0)
+    );
+
+    private final PlaceMovingTimeRepository placeMovingTimeRepository;
+
+    private volatile Map<String, SpeedProfile> profiles = DEFAULT_PROFILES;
+
+    /**
+     * 이동수단별 환산 계수
+     * minutes = overheadMinutes + minutesPerKm * 직선거리, 도로거리 = detourFactor * 직선거리
+     */
+    public record SpeedProfile(double overheadMinutes, double minutesPerKm, double detourFactor, int samples) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${travel-estimator.calibrate-interval-ms:3600000}",
+            initialDelayString = "${travel-estimator.calibrate-interval-ms:3600000}")
+    public void calibrate() {
+        Map<String, List<MovingTimeSample>> byType = new HashMap<>();
+        for (MovingTimeSample sample : placeMovingTimeRepository.findSamples()) {
+            byType.computeIfAbsent(normalize(sample.transportType()), key -> new ArrayList<>()).add(sample);
+        }
+
+        Map<String, SpeedProfile> calibrated = new HashMap<>(DEFAULT_PROFILES);
+        byType.forEach((type, samples) -> {
+            SpeedProfile fitted = fit(samples, DEFAULT_PROFILES.getOrDefault(type, defaultProfile()));
+            calibrated.put(type, fitted);
+            log.debug("이동시간 추정 보정: {} → {}", type, fitted);
+        });
+        profiles = Map.copyOf(calibrated);
+        log.info("이동시간 추정기 보정 완료: {}개 이동수단", byType.size());
+    }
+
+    public SpeedProfile profileOf(String transportType) {
+        SpeedProfile profile = profiles.get(normalize(transportType));
+        return profile != null ? profile : defaultProfile();
+    }
+
+    /**
+     * 출발 n개 x 도착 m개 좌표의 이동시간/도로거리를 행 우선(row-major) 배열에 채웁니다.
+     * 좌표가 없으면(NaN) UNKNOWN / NaN을 씁니다. 삼각함수는 점마다 한 번만 계산하고
+     * 내부 루프는 곱셈/덧셈과 sqrt만 수행합니다.
+     */
+    public void estimate(double[] fromLat, double[] fromLng, double[] toLat, double[] toLng,
+                         String transportType, int[] minutesOut, float[] kmOut) {
+        SpeedProfile profile = profileOf(transportType);
+        int n = fromLat.length;
+        int m = toLat.length;
+
+        double[] sinToLat = new double[m];
+        double[] cosToLat = new double[m];
+        double[] sinToLng = new double[m];
+        double[] cosToLng = new double[m];
+        for (int j = 0; j < m; j++) {
+            double lat = Math.toRadians(toLat[j]);
+            double lng = Math.toRadians(toLng[j]);
+            sinToLat[j] = Math.sin(lat);
+            cosToLat[j] = Math.cos(lat);
+            sinToLng[j] = Math.sin(lng);
+            cosToLng[j] = Math.cos(lng);
+        }
+
+        double overhead = profile.overheadMinutes();
+        double perKm = profile.minutesPerKm();
+        double detour = profile.detourFactor();
+        for (int i = 0; i < n; i++) {
+            int row = i * m;
+            if (!isFinite(fromLat[i], fromLng[i])) {
+                Arrays.fill(minutesOut, row, row + m, UNKNOWN);
+                Arrays.fill(kmOut, row, row + m, Float.NaN);
+                continue;
+            }
+            double lat = Math.toRadians(fromLat[i]);
+            double lng = Math.toRadians(fromLng[i]);
+            double sinLat = Math.sin(lat);
+            double cosLat = Math.cos(lat);
+            double sinLng = Math.sin(lng);
+            double cosLng = Math.cos(lng);
+            for (int j = 0; j < m; j++) {
+                // hav(Δ) = (1 - cos Δ) / 2, cos Δ는 합차 공식으로 계산
+                double cosDLat = cosLat * cosToLat[j] + sinLat * sinToLat[j];
+                double cosDLng = cosLng * cosToLng[j] + sinLng * sinToLng[j];
+                double h = 0.5 * ((1.0 - cosDLat) + cosLat * cosToLat[j] * (1.0 - cosDLng));
+                double km = EARTH_DIAMETER_KM * asin(Math.sqrt(Math.min(1.0, Math.max(0.0, h))));
+                minutesOut[row + j] = (int) (overhead + perKm * km + 0.5);
+                kmOut[row + j] = (float) (km * detour);
+            }
+        }
+
+        // 도착 좌표가 없는 열은 마지막에 한 번에 표시
+        for (int j = 0; j < m; j++) {
+            if (!isFinite(toLat[j], toLng[j])) {
+                for (int cell = j; cell < n * m; cell += m) {
+                    minutesOut[cell] = UNKNOWN;
+                    kmOut[cell] = Float.NaN;
+                }
+            }
+        }
+    }
+
+    private static boolean isFinite(double latitude, double longitude) {
+        return Double.isFinite(latitude) && Double.isFinite(longitude);
+    }
+
+    // 약 1,270km 이내(x < 0.1)는 테일러 급수(오차 1e-10 미만), 그 이상만 Math.asin
+    private static double asin(double x) {
+        if (x >= 0.1) {
+            return Math.asin(x);
+        }
+        double x2 = x * x;
+        return x + x * x2 * (1.0 / 6.0 + x2 * (3.0 / 40.0 + x2 * (15.0 / 336.0 + x2 * (105.0 / 3456.0))));
+    }
+
+    // 직선거리 대비 측정 이동시간의 최소제곱 직선, 도로거리는 비율 평균
+    static SpeedProfile fit(List<MovingTimeSample> samples, SpeedProfile fallback) {
+        int n = samples.size();
+        if (n < MIN_SAMPLES) {
+            return fallback;
+        }
+        double sumX = 0;
+        double sumY = 0;
+        double sumXX = 0;
+        double sumXY = 0;
+        double sumStraight = 0;
+        double sumRoad = 0;
+        for (MovingTimeSample sample : samples) {
+            double x = GeoUtils.haversineKm(
+                    sample.fromLatitude().doubleValue(), sample.fromLongitude().doubleValue(),
+                    sample.toLatitude().doubleValue(), sample.toLongitude().doubleValue());
+            double y = sample.timeMinutes();
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+            if (sample.distanceKm() != null && x > 0) {
+                sumStraight += x;
+                sumRoad += sample.distanceKm().doubleValue();
+            }
+        }
+        double varianceX = n * sumXX - sumX * sumX;
+        if (varianceX <= 1e-9) {
+            return fallback;
+        }
+        double slope = (n * sumXY - sumX * sumY) / varianceX;
+        if (slope <= 0) {
+            return fallback;
+        }
+        double intercept = (sumY - slope * sumX) / n;
+        intercept = Math.min(MAX_OVERHEAD_MINUTES, Math.max(0.0, intercept));
+        double detour = sumStraight > 0 && sumRoad >= sumStraight ? sumRoad / sumStraight : fallback.detourFactor();
+        return new SpeedProfile(intercept, slope, detour, n);
+    }
+
+    static String normalize(String transportType) {
+        if (transportType == null || transportType.isBlank()) {
+            return DEFAULT_TRANSPORT_TYPE;
+        }
+        return transportType.strip();
+    }
+
+    private SpeedProfile defaultProfile() {
+        return profiles.getOrDefault(DEFAULT_TRANSPORT_TYPE, DEFAULT_PROFILES.get(DEFAULT_TRANSPORT_TYPE));
+    }
+}
@@ -0,0 +1,217 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeEdge;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 한 지역의 장소 간 이동시간/거리 전체 쌍 행렬 (불변)
+ * 장소 ID를 정렬된 조밀 서수(0..n-1)로 바꿔 n*n 원시 배열(int 분, float km)에 담습니다.
+ * 측정값이 없는 쌍은 이동시간 기준 최단 경로(출발점마다 Dijkstra)로 채웁니다.
+ */
+public final class TravelTimeMatrix {
+
+    public static final int UNREACHABLE = -1;
+    public static final int NOT_IN_MATRIX = -1;
+
+    private final long[] placeIds;
+    private final int[] minutes;
+    private final float[] distanceKm;
+    private final BitSet measured;
+
+    private TravelTimeMatrix(long[] placeIds, int[] minutes, float[] distanceKm, BitSet measured) {
+        this.placeIds = placeIds;
+        this.minutes = minutes;
+        this.distanceKm = distanceKm;
+        this.measured = measured;
+    }
+
+    public static TravelTimeMatrix build(long[] sortedPlaceIds, List<MovingTimeEdge> edges) {
+        int n = sortedPlaceIds.length;
+        Graph graph = Graph.of(sortedPlaceIds, edges);
+
+        int[] minutes = new int[n * n];
+        float[] distanceKm = new float[n * n];
+        BitSet measured = new BitSet(n * n);
+
+        int[] dist = new int[n];
+        float[] km = new float[n];
+        long[] heap = new long[graph.edgeCount() + 1];
+        for (int source = 0; source < n; source++) {
+            graph.shortestFrom(source, dist, km, heap);
+            int row = source * n;
+            for (int target = 0; target < n; target++) {
+                boolean reachable = dist[target] != Integer.MAX_VALUE;
+                minutes[row + target] = reachable ? dist[target] : UNREACHABLE;
+                distanceKm[row + target] = reachable ? km[target] : Float.NaN;
+            }
+            // 직접 측정된 쌍은 우회 경로보다 측정값을 우선
+            for (int e = graph.offsets[source]; e < graph.offsets[source + 1]; e++) {
+                int cell = row + graph.targets[e];
+                if (!measured.get(cell) || graph.weights[e] < minutes[cell]) {
+                    minutes[cell] = graph.weights[e];
+                    distanceKm[cell] = graph.kms[e];
+                }
+                measured.set(cell);
+            }
+        }
+        return new TravelTimeMatrix(sortedPlaceIds, minutes, distanceKm, measured);
+    }
+
+    public int size() {
+        return placeIds.length;
+    }
+
+    public long placeIdAt(int ordinal) {
+        return placeIds[ordinal];
+    }
+
+    // 장소 ID → 서수, 행렬에 없으면 NOT_IN_MATRIX
+    public int ordinalOf(long placeId) {
+        int ordinal = Arrays.binarySearch(placeIds, placeId);
+        return ordinal >= 0 ? ordinal : NOT_IN_MATRIX;
+    }
+
+    // 서수 기반 O(1) 조회, 경로가 없으면 UNREACHABLE
+    public int minutesAt(int from, int to) {
+        return minutes[from * placeIds.length + to];
+    }
+
+    // 서수 기반 O(1) 조회, 경로가 없으면 NaN
+    public float distanceKmAt(int from, int to) {
+        return distanceKm[from * placeIds.length + to];
+    }
+
+    public boolean isMeasuredAt(int from, int to) {
+        return measured.get(from * placeIds.length + to);
+    }
+
+    public int minutes(long fromPlaceId, long toPlaceId) {
+        int from = ordinalOf(fromPlaceId);
+        int to = ordinalOf(toPlaceId);
+        return from == NOT_IN_MATRIX || to == NOT_IN_MATRIX ? UNREACHABLE : minutesAt(from, to);
+    }
+
+    public float distanceKm(long fromPlaceId, long toPlaceId) {
+        int from = ordinalOf(fromPlaceId);
+        int to = ordinalOf(toPlaceId);
+        return from == NOT_IN_MATRIX || to == NOT_IN_MATRIX ? Float.NaN : distanceKmAt(from, to);
+    }
+
+    // 출발 서수별로 간선을 모은 CSR 인접 리스트
+    private record Graph(int[] offsets, int[] targets, int[] weights, float[] kms) {
+
+        static Graph of(long[] sortedPlaceIds, List<MovingTimeEdge> edges) {
+            int n = sortedPlaceIds.length;
+            int[] from = new int[edges.size()];
+            int[] to = new int[edges.size()];
+            int[] source = new int[edges.size()];
+            int count = 0;
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < edges.size(); i++) {
+                MovingTimeEdge edge = edges.get(i);
+                if (edge.timeMinutes() == null || edge.timeMinutes() < 0) {
+                    continue;
+                }
+                int f = Arrays.binarySearch(sortedPlaceIds, edge.fromPlaceId());
+                int t = Arrays.binarySearch(sortedPlaceIds, edge.toPlaceId());
+                if (f < 0 || t < 0 || f == t) {
+                    continue;
+                }
+                from[count] = f;
+                to[count] = t;
+                source[count] = i;
+                offsets[f + 1]++;
+                count++;
+            }
+            for (int i = 0; i < n; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            int[] targets = new int[count];
+            int[] weights = new int[count];
+            float[] kms = new float[count];
+            int[] cursor = Arrays.copyOf(offsets, n);
+            for (int i = 0; i < count; i++) {
+                MovingTimeEdge edge = edges.get(source[i]);
+                int slot = cursor[from[i]]++;
+                targets[slot] = to[i];
+                weights[slot] = edge.timeMinutes();
+                kms[slot] = edge.distanceKm() != null ? edge.distanceKm().floatValue() : Float.NaN;
+            }
+            return new Graph(offsets, targets, weights, kms);
+        }
+
+        int edgeCount() {
+            return targets.length;
+        }
+
+        // (거리 << 32 | 서수)를 long 최소 힙에 넣는 지연 삭제 Dijkstra
+        void shortestFrom(int source, int[] dist, float[] km, long[] heap) {
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            Arrays.fill(km, Float.NaN);
+            dist[source] = 0;
+            km[source] = 0f;
+            int heapSize = 0;
+            heap[heapSize++] = source;
+            while (heapSize > 0) {
+                long top = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize);
+                int d = (int) (top >>> 32);
+                int u = (int) top;
+                if (d > dist[u]) {
+                    continue;
+                }
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long nd = (long) d + weights[e];
+                    if (nd < dist[v]) {
+                        dist[v] = (int) nd;
+                        km[v] = km[u] + kms[e];
+                        heap[heapSize] = (nd << 32) | v;
+                        siftUp(heap, heapSize++);
+                    }
+                }
+            }
+        }
+
+        private static void siftUp(long[] heap, int index) {
+            long value = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = value;
+        }
+
+        private static void siftDown(long[] heap, int size) {
+            if (size == 0) {
+                return;
+            }
+            long value = heap[0];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (value <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = value;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeMatrixResponse;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지역별 이동시간 행렬 캐시
+ * 지역 단위로 처음 요청될 때 한 번에 적재/계산하고, 이 인스턴스에서 장소/이동시간이 바뀌면 해당 지역만 바로 무효화합니다.
+ * 다른 인스턴스의 쓰기는 적재 시점의 이동시간 콘텐츠 버전과 현재 버전이 다르면 다시 적재하는 것으로 반영하고,
+ * 버전 동기화가 끊긴 경우에 대비해 적재 후 일정 시간(matrix-ttl-ms)이 지나도 다시 적재합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TravelTimeMatrixService {
+
+    // n*n 행렬이므로 지역당 장소 수 상한 (2,000개 ≈ 32MB)
+    static final int MAX_MATRIX_PLACES = 2_000;
+    static final int MAX_REQUEST_PLACES = 100;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceMovingTimeRepository placeMovingTimeRepository;
+    private final ContentVersions contentVersions;
+    private final long ttlNanos;
+
+    private final Map<String, CachedMatrix> matrices = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+
+    private record CachedMatrix(TravelTimeMatrix matrix, long version, long loadedAtNanos) {
+    }
+
+    public TravelTimeMatrixService(PlaceRepository placeRepository,
+                                   PlaceMovingTimeRepository placeMovingTimeRepository,
+                                   ContentVersions contentVersions,
+                                   @Value("${travel-time.matrix-ttl-ms:600000}") long ttlMs) {
+        this.placeRepository = placeRepository;
+        this.placeMovingTimeRepository = placeMovingTimeRepository;
+        this.contentVersions = contentVersions;
+        this.ttlNanos = ttlMs * 1_000_000;
+    }
+
+    /**
+     * 지역 행렬 조회 (없으면 적재 후 캐시)
+     * 적재는 DB 조회를 포함하므로 computeIfAbsent(버킷 synchronized) 안이 아니라 지역별 ReentrantLock 아래에서 수행합니다.
+     * 가상 스레드가 synchronized 안에서 블로킹되면 캐리어 스레드에 고정(pinning)되기 때문입니다.
+     */
+    public TravelTimeMatrix getMatrix(String region) {
+        CachedMatrix cached = matrices.get(region);
+        if (isFresh(cached)) {
+            return cached.matrix();
+        }
+        ReentrantLock lock = loadLocks.computeIfAbsent(region, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            cached = matrices.get(region);
+            if (!isFresh(cached)) {
+                // 버전을 먼저 읽어야 적재 중에 커밋된 쓰기가 있으면 다음 조회에서 다시 적재됨
+                long version = contentVersions.current(ContentGroup.MOVING_TIMES);
+                cached = new CachedMatrix(load(region), version, System.nanoTime());
+                matrices.put(region, cached);
+            }
+            return cached.matrix();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 적재 중인 행렬이 무효화 이후에 캐시되지 않도록 같은 잠금 아래에서 제거
+    public void evict(String region) {
+        if (region == null) {
+            return;
+        }
+        ReentrantLock lock = loadLocks.computeIfAbsent(region, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            matrices.remove(region);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 요청한 장소들 간의 이동시간 부분 행렬 조회
+    public TravelTimeMatrixResponse getMatrixFor(List<Long> placeIds) {
+        List<Long> ids = placeIds.stream().distinct().toList();
+        if (ids.isEmpty() || ids.size() > MAX_REQUEST_PLACES) {
+            throw new BusinessException(ErrorCode.INVALID_MATRIX_REQUEST);
+        }
+        Map<Long, Place> places = placeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+        if (places.size() != ids.size()) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_PLACE);
+        }
+
+        int n = ids.size();
+        Integer[][] minutes = new Integer[n][n];
+        Float[][] distanceKm = new Float[n][n];
+        for (int i = 0; i < n; i++) {
+            String region = places.get(ids.get(i)).getRegion();
+            TravelTimeMatrix matrix = region != null ? getMatrix(region) : null;
+            int from = matrix != null ? matrix.ordinalOf(ids.get(i)) : TravelTimeMatrix.NOT_IN_MATRIX;
+            for (int j = 0; j < n; j++) {
+                if (from == TravelTimeMatrix.NOT_IN_MATRIX) {
+                    continue;
+                }
+                int to = matrix.ordinalOf(ids.get(j));
+                if (to == TravelTimeMatrix.NOT_IN_MATRIX) {
+                    continue;
+                }
+                int value = matrix.minutesAt(from, to);
+                if (value != TravelTimeMatrix.UNREACHABLE) {
+                    minutes[i][j] = value;
+                    float km = matrix.distanceKmAt(from, to);
+                    distanceKm[i][j] = Float.isNaN(km) ? null : km;
+                }
+            }
+        }
+        return new TravelTimeMatrixResponse(ids, minutes, distanceKm);
+    }
+
+    private boolean isFresh(CachedMatrix cached) {
+        return cached != null
+                && cached.version() == contentVersions.current(ContentGroup.MOVING_TIMES)
+                && System.nanoTime() - cached.loadedAtNanos() < ttlNanos;
+    }
+
+    // 상한을 넘는 지역은 일부 장소만 담으면 빠진 장소가 "경로 없음"으로 보이므로 거절
+    private TravelTimeMatrix load(String region) {
+        long startedAt = System.nanoTime();
+        List<Long> ids = placeRepository.findIdsByRegion(region);
+        if (ids.size() > MAX_MATRIX_PLACES) {
+            log.warn("이동시간 행렬 상한 초과: {} 지역 장소 {}개 (상한 {})", region, ids.size(), MAX_MATRIX_PLACES);
+            throw new BusinessException(ErrorCode.TOO_LARGE_MATRIX_REGION);
+        }
+        long[] placeIds = ids.stream().mapToLong(Long::longValue).toArray();
+        TravelTimeMatrix matrix = TravelTimeMatrix.build(
+                placeIds, placeMovingTimeRepository.findEdgesByRegion(region));
+        log.info("이동시간 행렬 계산 완료: {} 지역 {}개 장소, {}ms",
+                region, placeIds.length, (System.nanoTime() - startedAt) / 1_000_000);
+        return matrix;
+    }
+}
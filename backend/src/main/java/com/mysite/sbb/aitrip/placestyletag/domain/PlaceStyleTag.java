@@ -1,23 +1,32 @@
 package com.mysite.sbb.aitrip.placestyletag.domain;
 
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "place_style_tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLACE_STYLE_TAG)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlaceStyleTag extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_style_tags_id")
+    @TableGenerator(name = "place_style_tags_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.PLACE_STYLE_TAGS,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,11 +1,16 @@
 package com.mysite.sbb.aitrip.placestyletag.repository;
 
 import com.mysite.sbb.aitrip.placestyletag.domain.PlaceStyleTag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface PlaceStyleTagRepository extends JpaRepository<PlaceStyleTag, Long> {
 
+    // 결과 ID 목록은 쿼리 캐시, 각 태그는 엔티티 캐시에서 읽음 (place_style_tags 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<PlaceStyleTag> findByPlaceId(Long placeId);
 }
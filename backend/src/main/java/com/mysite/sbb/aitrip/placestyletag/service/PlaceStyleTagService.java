@@ -1,7 +1,10 @@
 package com.mysite.sbb.aitrip.placestyletag.service;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
 import com.mysite.sbb.aitrip.placestyletag.domain.PlaceStyleTag;
@@ -21,6 +24,7 @@ public class PlaceStyleTagService {
 
     private final PlaceStyleTagRepository placeStyleTagRepository;
     private final PlaceRepository placeRepository;
+    private final ContentVersions contentVersions;
 
     // 장소의 스타일 태그 조회
     public List<PlaceStyleTagResponse> getTagsByPlaceId(Long placeId) {
@@ -36,6 +40,8 @@ public class PlaceStyleTagService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
         PlaceStyleTag tag = request.toEntity(place);
         PlaceStyleTag savedTag = placeStyleTagRepository.save(tag);
+        // 태그 조회(/api/places/{id}/tags)는 장소 그룹 응답 캐시에 포함
+        AfterCommit.run(() -> contentVersions.bump(ContentGroup.PLACES));
         return PlaceStyleTagResponse.from(savedTag);
     }
 }
@@ -2,6 +2,7 @@ package com.mysite.sbb.aitrip.schedule.controller;
 
 import com.mysite.sbb.aitrip.global.response.ApiResponse;
 import com.mysite.sbb.aitrip.global.security.CustomUserDetails;
+import com.mysite.sbb.aitrip.schedule.dto.ScheduleOptimizeResponse;
 import com.mysite.sbb.aitrip.schedule.dto.ScheduleRequest;
 import com.mysite.sbb.aitrip.schedule.dto.ScheduleResponse;
 import com.mysite.sbb.aitrip.schedule.service.ScheduleService;
@@ -45,6 +46,17 @@ public class ScheduleController {
                 .body(ApiResponse.success(scheduleService.createSchedule(tripId, userDetails.getUserId(), request)));
     }
 
+    // 일정 자동 최적화 API
+    @PostMapping("/api/trips/{tripId}/schedules/optimize")
+    @Operation(summary = "일정 자동 최적화", security = @SecurityRequirement(name = "bearerAuth"),
+            description = "선택된 여행 장소를 운영시간, 이동시간, 혼잡도를 고려해 일차별로 배치하고 기존 일정을 교체")
+    public ResponseEntity<ApiResponse<ScheduleOptimizeResponse>> optimizeSchedules(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long tripId) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(scheduleService.optimizeSchedules(tripId, userDetails.getUserId())));
+    }
+
     // 일정 수정 API
     @PutMapping("/api/schedules/{id}")
     @Operation(summary = "일정 수정", security = @SecurityRequirement(name = "bearerAuth"))
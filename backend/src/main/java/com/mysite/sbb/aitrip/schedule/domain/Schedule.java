@@ -1,6 +1,7 @@
 package com.mysite.sbb.aitrip.schedule.domain;
 
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
 import jakarta.persistence.*;
@@ -20,7 +21,10 @@ import java.time.LocalTime;
 public class Schedule extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedules_id")
+    @TableGenerator(name = "schedules_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.SCHEDULES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,27 @@
+package com.mysite.sbb.aitrip.schedule.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "일정 최적화 응답")
+public record ScheduleOptimizeResponse(
+        @Schema(description = "생성된 일정 (일차, 방문 순서 순)")
+        List<ScheduleResponse> schedules,
+
+        @Schema(description = "운영시간/일정 시간 안에 넣지 못한 장소 ID")
+        List<Long> unscheduledPlaceIds,
+
+        @Schema(description = "총 이동시간(분)", example = "145")
+        int totalTravelMinutes,
+
+        @Schema(description = "총 예상 대기시간(분)", example = "40")
+        int totalWaitingMinutes,
+
+        @Schema(description = "탐색 반복 횟수", example = "3000")
+        int iterations,
+
+        @Schema(description = "최적화 소요 시간(ms)", example = "35")
+        long elapsedMs
+) {
+}
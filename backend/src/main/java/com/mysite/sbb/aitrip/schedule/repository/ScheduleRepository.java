@@ -1,13 +1,32 @@
 package com.mysite.sbb.aitrip.schedule.repository;
 
 import com.mysite.sbb.aitrip.schedule.domain.Schedule;
+import com.mysite.sbb.aitrip.schedule.dto.ScheduleResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
-    List<Schedule> findByTripIdOrderByDayNumberAscVisitOrderAsc(Long tripId);
+    // 장소명까지 단일 쿼리로 응답 DTO에 프로젝션 (장소 지연 로딩 N+1 방지)
+    @Query("""
+            select new com.mysite.sbb.aitrip.schedule.dto.ScheduleResponse(
+                s.id, s.trip.id, p.id, p.name, s.dayNumber, s.visitOrder, s.startTime, s.endTime,
+                s.estimatedWaitingTime, s.travelTimeFromPrev, s.stayDuration, s.notes, s.createdAt, s.modifiedAt)
+            from Schedule s
+            join s.place p
+            where s.trip.id = :tripId
+            order by s.dayNumber asc, s.visitOrder asc
+            """)
+    List<ScheduleResponse> findResponsesByTripId(@Param("tripId") Long tripId);
 
     void deleteByTripId(Long tripId);
+
+    // 엔티티 로딩 없이 단일 DELETE로 여행 일정 전체 삭제
+    @Modifying
+    @Query("delete from Schedule s where s.trip.id = :tripId")
+    int bulkDeleteByTripId(@Param("tripId") Long tripId);
 }
@@ -0,0 +1,308 @@
+package com.mysite.sbb.aitrip.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 여러 날에 걸친 시간창 제약 방문 순서 최적화 (multi-day TSP with time windows)
+ * 모든 장소를 가장 싼 위치에 끼워 넣는 탐욕 삽입으로 초기해를 만들고,
+ * 일부 방문을 빼고 다시 끼워 넣는 대규모 이웃 탐색(LNS)으로 개선합니다.
+ * 난수 시드와 반복 횟수가 고정이라 같은 입력이면 같은 결과를 내며,
+ * 벽시계 예산은 느린 환경에서의 안전장치로만 쓰이고 그때까지의 최선해를 반환합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleOptimizer {
+
+    static final int UNASSIGNED_PENALTY = 100_000;
+
+    private static final int INFEASIBLE = Integer.MAX_VALUE;
+    private static final long SEED = 0x5EED_7219L;
+    private static final int DEADLINE_CHECK_INTERVAL = 32;
+
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+
+    public ScheduleOptimizer(@Value("${schedule-optimizer.max-iterations:3000}") int maxIterations,
+                             @Value("${schedule-optimizer.time-budget-ms:120}") long timeBudgetMs) {
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = timeBudgetMs * 1_000_000L;
+    }
+
+    /**
+     * 최적화 입력 (장소는 0..places-1 서수, 일차는 0..days-1)
+     *
+     * @param travelMinutes  places*places 이동시간(분)
+     * @param stayMinutes    장소별 체류시간(분)
+     * @param openWindows    places*days 일차별 영업 구간 [시작, 끝) 쌍(분), 휴무면 빈 배열
+     * @param waitingMinutes places*days*24 일차/시각별 예상 대기시간(분)
+     */
+    public record Problem(int places, int days, int[] travelMinutes, int[] stayMinutes,
+                          int[][] openWindows, int[] waitingMinutes,
+                          int dayStartMinute, int dayEndMinute, int bufferMinutes) {
+    }
+
+    public record Visit(int place, int day, int order, int startMinute, int endMinute,
+                        int waitingMinutes, Integer travelFromPrev) {
+    }
+
+    public record Plan(List<Visit> visits, int[] unassigned, long cost, int iterations) {
+    }
+
+    public Plan optimize(Problem problem) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        Solution current = new Solution(problem);
+        int[] all = new int[problem.places()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        current.insertAll(all);
+        Solution best = current.copy();
+
+        int iterations = 0;
+        while (iterations < maxIterations && problem.places() > 1) {
+            if (iterations % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                break;
+            }
+            iterations++;
+            Solution candidate = current.copy();
+            int[] removed = candidate.ruin(random);
+            candidate.insertAll(removed);
+            if (candidate.cost() <= current.cost()) {
+                current = candidate;
+                if (candidate.cost() < best.cost()) {
+                    best = candidate.copy();
+                }
+            }
+        }
+        log.debug("일정 최적화: 장소 {}개, {}일, 반복 {}회, 비용 {}",
+                problem.places(), problem.days(), iterations, best.cost());
+        return best.toPlan(iterations);
+    }
+
+    // 일차별 방문 순서와 비용을 원시 배열로 들고 있는 해
+    private static final class Solution {
+
+        private final Problem problem;
+        private final int[][] routes;
+        private final int[] lengths;
+        private final int[] dayCosts;
+        private final int[] unassigned;
+        private int unassignedCount;
+
+        Solution(Problem problem) {
+            this.problem = problem;
+            this.routes = new int[problem.days()][problem.places()];
+            this.lengths = new int[problem.days()];
+            this.dayCosts = new int[problem.days()];
+            this.unassigned = new int[problem.places()];
+        }
+
+        private Solution(Solution source) {
+            this.problem = source.problem;
+            this.routes = new int[source.routes.length][];
+            for (int d = 0; d < routes.length; d++) {
+                routes[d] = source.routes[d].clone();
+            }
+            this.lengths = source.lengths.clone();
+            this.dayCosts = source.dayCosts.clone();
+            this.unassigned = source.unassigned.clone();
+            this.unassignedCount = source.unassignedCount;
+        }
+
+        Solution copy() {
+            return new Solution(this);
+        }
+
+        long cost() {
+            long total = (long) unassignedCount * UNASSIGNED_PENALTY;
+            for (int dayCost : dayCosts) {
+                total += dayCost;
+            }
+            return total;
+        }
+
+        int assignedCount() {
+            int count = 0;
+            for (int length : lengths) {
+                count += length;
+            }
+            return count;
+        }
+
+        // 무작위로 1~3개 방문(및 기존 미배정 장소)을 빼서 재삽입 대상으로 반환
+        int[] ruin(SplittableRandom random) {
+            int assigned = assignedCount();
+            int removeCount = assigned == 0 ? 0 : 1 + random.nextInt(Math.min(3, assigned));
+            int[] removed = new int[removeCount + unassignedCount];
+            System.arraycopy(unassigned, 0, removed, 0, unassignedCount);
+            int size = unassignedCount;
+            unassignedCount = 0;
+
+            for (int r = 0; r < removeCount; r++) {
+                int target = random.nextInt(assignedCount());
+                for (int d = 0; d < routes.length; d++) {
+                    if (target < lengths[d]) {
+                        removed[size++] = routes[d][target];
+                        System.arraycopy(routes[d], target + 1, routes[d], target, lengths[d] - target - 1);
+                        lengths[d]--;
+                        dayCosts[d] = evaluate(d, -1, -1);
+                        break;
+                    }
+                    target -= lengths[d];
+                }
+            }
+            // 재삽입 순서를 섞어 같은 이웃만 반복하지 않도록 함
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = removed[i];
+                removed[i] = removed[j];
+                removed[j] = tmp;
+            }
+            return removed;
+        }
+
+        // 남은 장소 중 비용 증가가 가장 작은 (장소, 일차, 위치)를 반복 선택
+        void insertAll(int[] candidates) {
+            int[] pending = candidates.clone();
+            int pendingCount = pending.length;
+            while (pendingCount > 0) {
+                int bestIndex = -1;
+                int bestDay = -1;
+                int bestPosition = -1;
+                int bestCost = INFEASIBLE;
+                long bestDelta = Long.MAX_VALUE;
+                for (int k = 0; k < pendingCount; k++) {
+                    int place = pending[k];
+                    for (int d = 0; d < routes.length; d++) {
+                        for (int pos = 0; pos <= lengths[d]; pos++) {
+                            int cost = evaluate(d, pos, place);
+                            if (cost == INFEASIBLE) {
+                                continue;
+                            }
+                            long delta = (long) cost - dayCosts[d];
+                            if (delta < bestDelta) {
+                                bestDelta = delta;
+                                bestIndex = k;
+                                bestDay = d;
+                                bestPosition = pos;
+                                bestCost = cost;
+                            }
+                        }
+                    }
+                }
+                if (bestIndex < 0) {
+                    System.arraycopy(pending, 0, unassigned, unassignedCount, pendingCount);
+                    unassignedCount += pendingCount;
+                    return;
+                }
+                int place = pending[bestIndex];
+                int[] route = routes[bestDay];
+                System.arraycopy(route, bestPosition, route, bestPosition + 1, lengths[bestDay] - bestPosition);
+                route[bestPosition] = place;
+                lengths[bestDay]++;
+                dayCosts[bestDay] = bestCost;
+                pending[bestIndex] = pending[--pendingCount];
+            }
+        }
+
+        /**
+         * 일차 d의 경로(선택적으로 pos 위치에 place 삽입)를 시뮬레이션해
+         * 이동 + 대기 + 개점 전 공백 시간(분)을 반환하고, 시간창을 어기면 INFEASIBLE
+         */
+        int evaluate(int day, int insertPosition, int insertPlace) {
+            Problem p = problem;
+            int n = p.places();
+            int days = p.days();
+            int[] route = routes[day];
+            int length = lengths[day] + (insertPosition >= 0 ? 1 : 0);
+            if (length == 0) {
+                return 0;
+            }
+            int time = p.dayStartMinute();
+            int firstStart = -1;
+            int stays = 0;
+            int prev = -1;
+            for (int k = 0; k < length; k++) {
+                int place;
+                if (insertPosition < 0 || k < insertPosition) {
+                    place = route[k];
+                } else if (k == insertPosition) {
+                    place = insertPlace;
+                } else {
+                    place = route[k - 1];
+                }
+                if (prev >= 0) {
+                    time += p.travelMinutes()[prev * n + place] + p.bufferMinutes();
+                }
+                int window = place * days + day;
+                int start = startMinute(window, place, time);
+                if (start < 0) {
+                    return INFEASIBLE;
+                }
+                if (firstStart < 0) {
+                    firstStart = start;
+                }
+                time = start + waitingAt(window, start) + p.stayMinutes()[place];
+                stays += p.stayMinutes()[place];
+                prev = place;
+            }
+            return time - firstStart - stays;
+        }
+
+        /**
+         * time 이후 도착했을 때 대기 + 체류를 마칠 수 있는 첫 영업 구간의 시작 시각(분)
+         * 브레이크타임처럼 구간이 나뉘면 다음 구간까지 기다리며, 넣을 곳이 없으면 -1
+         */
+        int startMinute(int window, int place, int time) {
+            int[] windows = problem.openWindows()[window];
+            for (int i = 0; i < windows.length; i += 2) {
+                int start = Math.max(time, windows[i]);
+                int end = start + waitingAt(window, start) + problem.stayMinutes()[place];
+                if (end <= windows[i + 1] && end <= problem.dayEndMinute()) {
+                    return start;
+                }
+            }
+            return -1;
+        }
+
+        int waitingAt(int window, int minute) {
+            return problem.waitingMinutes()[window * 24 + Math.min(23, minute / 60)];
+        }
+
+        Plan toPlan(int iterations) {
+            Problem p = problem;
+            int n = p.places();
+            List<Visit> visits = new ArrayList<>(assignedCount());
+            for (int d = 0; d < routes.length; d++) {
+                int time = p.dayStartMinute();
+                int prev = -1;
+                for (int k = 0; k < lengths[d]; k++) {
+                    int place = routes[d][k];
+                    int window = place * p.days() + d;
+                    Integer travel = null;
+                    if (prev >= 0) {
+                        travel = p.travelMinutes()[prev * n + place];
+                        time += travel + p.bufferMinutes();
+                    }
+                    int start = startMinute(window, place, time);
+                    int waiting = waitingAt(window, start);
+                    time = start + waiting + p.stayMinutes()[place];
+                    visits.add(new Visit(place, d, k + 1, start, time, waiting, travel));
+                    prev = place;
+                }
+            }
+            int[] skipped = Arrays.copyOf(unassigned, unassignedCount);
+            Arrays.sort(skipped);
+            return new Plan(visits, skipped, cost(), iterations);
+        }
+    }
+}
@@ -2,18 +2,33 @@ package com.mysite.sbb.aitrip.schedule.service;
 
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.place.domain.OperatingHours;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.service.PlaceOperatingHoursStore;
+import com.mysite.sbb.aitrip.placecrowddata.service.PlaceCrowdStore;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateRequest;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateResponse;
+import com.mysite.sbb.aitrip.placemovingtime.service.TravelTimeEstimateService;
 import com.mysite.sbb.aitrip.schedule.domain.Schedule;
+import com.mysite.sbb.aitrip.schedule.dto.ScheduleOptimizeResponse;
 import com.mysite.sbb.aitrip.schedule.dto.ScheduleRequest;
 import com.mysite.sbb.aitrip.schedule.dto.ScheduleResponse;
 import com.mysite.sbb.aitrip.schedule.repository.ScheduleRepository;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
-import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.trip.domain.TripStyle;
+import com.mysite.sbb.aitrip.trip.service.TripAccessChecker;
+import com.mysite.sbb.aitrip.tripplace.domain.TripPlace;
+import com.mysite.sbb.aitrip.tripplace.repository.TripPlaceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
@@ -21,22 +36,30 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ScheduleService {
 
+    static final int MAX_OPTIMIZE_PLACES = 60;
+    static final int MAX_OPTIMIZE_DAYS = 14;
+    static final int DEFAULT_STAY_MINUTES = 60;
+    static final int DEFAULT_TRAVEL_MINUTES = 30;
+
     private final ScheduleRepository scheduleRepository;
-    private final TripRepository tripRepository;
+    private final TripAccessChecker tripAccessChecker;
     private final PlaceRepository placeRepository;
+    private final TripPlaceRepository tripPlaceRepository;
+    private final TravelTimeEstimateService travelTimeEstimateService;
+    private final PlaceCrowdStore placeCrowdStore;
+    private final PlaceOperatingHoursStore placeOperatingHoursStore;
+    private final ScheduleOptimizer scheduleOptimizer;
 
     // 여행 일정 조회
     public List<ScheduleResponse> getSchedules(Long tripId, Long userId) {
-        validateTripOwner(tripId, userId);
-        return scheduleRepository.findByTripIdOrderByDayNumberAscVisitOrderAsc(tripId).stream()
-                .map(ScheduleResponse::from)
-                .toList();
+        tripAccessChecker.validateOwner(tripId, userId);
+        return scheduleRepository.findResponsesByTripId(tripId);
     }
 
     // 일정 생성
     @Transactional
     public ScheduleResponse createSchedule(Long tripId, Long userId, ScheduleRequest request) {
-        Trip trip = validateTripOwner(tripId, userId);
+        Trip trip = tripAccessChecker.getOwnedTripReference(tripId, userId);
         Place place = placeRepository.findById(request.placeId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
 
@@ -53,7 +76,7 @@ public class ScheduleService {
                 .notes(request.notes())
                 .build();
 
-        Schedule saved = scheduleRepository.save(schedule);
+        Schedule saved = tripAccessChecker.saveUnderTrip(tripId, () -> scheduleRepository.saveAndFlush(schedule));
         return ScheduleResponse.from(saved);
     }
 
@@ -63,9 +86,7 @@ public class ScheduleService {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_SCHEDULE));
 
-        if (!schedule.getTrip().getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
-        }
+        tripAccessChecker.validateOwner(schedule.getTrip().getId(), userId);
 
         schedule.update(request.dayNumber(), request.visitOrder(), request.startTime(),
                 request.endTime(), request.estimatedWaitingTime(), request.travelTimeFromPrev(),
@@ -77,16 +98,101 @@ public class ScheduleService {
     // 여행 일정 전체 삭제
     @Transactional
     public void deleteSchedulesByTripId(Long tripId, Long userId) {
-        validateTripOwner(tripId, userId);
+        tripAccessChecker.validateOwner(tripId, userId);
         scheduleRepository.deleteByTripId(tripId);
     }
 
-    private Trip validateTripOwner(Long tripId, Long userId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_TRIP));
-        if (!trip.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
+    // 선택된 여행 장소로 일차별 방문 순서를 최적화해 기존 일정을 교체
+    @Transactional
+    public ScheduleOptimizeResponse optimizeSchedules(Long tripId, Long userId) {
+        long startedAt = System.nanoTime();
+        Trip trip = tripAccessChecker.getOwnedTrip(tripId, userId);
+        List<Place> places = tripPlaceRepository.findSelectedWithPlace(tripId).stream()
+                .map(TripPlace::getPlace)
+                .toList();
+        if (places.isEmpty()) {
+            throw new BusinessException(ErrorCode.NO_SELECTED_TRIP_PLACE);
+        }
+        int days = (int) ChronoUnit.DAYS.between(trip.getStartDate(), trip.getEndDate()) + 1;
+        if (places.size() > MAX_OPTIMIZE_PLACES || days < 1 || days > MAX_OPTIMIZE_DAYS) {
+            throw new BusinessException(ErrorCode.TOO_LARGE_SCHEDULE_OPTIMIZATION);
+        }
+
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(buildProblem(trip, places, days));
+
+        scheduleRepository.bulkDeleteByTripId(tripId);
+        List<Schedule> schedules = new ArrayList<>(plan.visits().size());
+        int totalTravel = 0;
+        int totalWaiting = 0;
+        for (ScheduleOptimizer.Visit visit : plan.visits()) {
+            Place place = places.get(visit.place());
+            schedules.add(Schedule.builder()
+                    .trip(trip)
+                    .place(place)
+                    .dayNumber(visit.day() + 1)
+                    .visitOrder(visit.order())
+                    .startTime(toLocalTime(visit.startMinute()))
+                    .endTime(toLocalTime(visit.endMinute()))
+                    .estimatedWaitingTime(visit.waitingMinutes())
+                    .travelTimeFromPrev(visit.travelFromPrev())
+                    .stayDuration(stayMinutes(place))
+                    .build());
+            totalTravel += visit.travelFromPrev() != null ? visit.travelFromPrev() : 0;
+            totalWaiting += visit.waitingMinutes();
+        }
+        List<ScheduleResponse> responses = scheduleRepository.saveAll(schedules).stream()
+                .map(ScheduleResponse::from)
+                .toList();
+        List<Long> unscheduled = Arrays.stream(plan.unassigned())
+                .mapToObj(index -> places.get(index).getId())
+                .toList();
+        return new ScheduleOptimizeResponse(responses, unscheduled, totalTravel, totalWaiting,
+                plan.iterations(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private ScheduleOptimizer.Problem buildProblem(Trip trip, List<Place> places, int days) {
+        int n = places.size();
+        List<Long> ids = places.stream().map(Place::getId).toList();
+
+        TravelTimeEstimateResponse estimate = travelTimeEstimateService.estimate(
+                new TravelTimeEstimateRequest(ids, ids, null));
+        int[] travel = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                Integer minutes = estimate.minutes()[i][j];
+                travel[i * n + j] = minutes != null ? minutes : (i == j ? 0 : DEFAULT_TRAVEL_MINUTES);
+            }
+        }
+
+        int[] stay = new int[n];
+        int[][] windows = new int[n * days][];
+        int[] waiting = new int[n * days * 24];
+        for (int i = 0; i < n; i++) {
+            Place place = places.get(i);
+            stay[i] = stayMinutes(place);
+            OperatingHours hours = placeOperatingHoursStore.get(place.getId());
+            for (int d = 0; d < days; d++) {
+                LocalDate date = trip.getStartDate().plusDays(d);
+                int dayIndex = PlaceCrowdStore.dayIndex(date.getDayOfWeek());
+                int window = i * days + d;
+                windows[window] = hours.intervalsOf(dayIndex);
+                for (int hour = 0; hour < 24; hour++) {
+                    waiting[window * 24 + hour] = Math.max(0, placeCrowdStore.waitingMinutes(place.getId(), dayIndex, hour));
+                }
+            }
         }
-        return trip;
+
+        TripStyle pace = trip.getTripStyle() != null ? trip.getTripStyle() : TripStyle.NORMAL;
+        return new ScheduleOptimizer.Problem(n, days, travel, stay, windows, waiting,
+                pace.getDayStartMinute(), pace.getDayEndMinute(), pace.getBufferMinutes());
+    }
+
+    private int stayMinutes(Place place) {
+        Integer stay = place.getEstimatedStayTime();
+        return stay != null && stay > 0 ? stay : DEFAULT_STAY_MINUTES;
+    }
+
+    private LocalTime toLocalTime(int minute) {
+        return minute >= OperatingHours.MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minute / 60, minute % 60);
     }
 }
@@ -1,5 +1,17 @@
 package com.mysite.sbb.aitrip.trip.domain;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 여행 페이스: 하루 일정 시작/종료 시각(분)과 방문 사이 여유시간(분)
+@Getter
+@RequiredArgsConstructor
 public enum TripStyle {
-    RELAXED, NORMAL, TIGHT
+    RELAXED(10 * 60, 19 * 60, 20),
+    NORMAL(9 * 60, 20 * 60, 10),
+    TIGHT(8 * 60, 22 * 60, 0);
+
+    private final int dayStartMinute;
+    private final int dayEndMinute;
+    private final int bufferMinutes;
 }
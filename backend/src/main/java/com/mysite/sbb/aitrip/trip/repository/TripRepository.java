@@ -8,4 +8,6 @@ import java.util.List;
 public interface TripRepository extends JpaRepository<Trip, Long> {
 
     List<Trip> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
 }
@@ -0,0 +1,107 @@
+package com.mysite.sbb.aitrip.trip.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.trip.domain.Trip;
+import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 여행 소유자 검증 공용 컴포넌트
+ * 엔티티를 읽지 않고 (user_id, id) 인덱스 존재 조회 한 번으로 검증하며,
+ * 확인된 (여행, 소유자) 쌍은 크기 상한이 있는 Caffeine 캐시에 짧은 TTL 동안 기억해 같은 사용자의 연속 요청에서는 쿼리를 생략합니다.
+ * 여행 소유자는 바뀌지 않으므로 삭제 시에만 무효화하고, 다른 인스턴스에서 삭제된 여행은 하위 행 저장 시 외래키 위반으로 드러납니다.
+ */
+@Component
+public class TripAccessChecker {
+
+    static final int MAX_ENTRIES = 50_000;
+    // 부모 행 없음 외래키 위반: MySQL 오류 코드 1452, H2 SQLState 23506
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+    private static final String H2_REFERENCED_ROW_MISSING = "23506";
+
+    private final TripRepository tripRepository;
+
+    // 여행 ID -> 소유자 ID (가득 차면 오래 쓰지 않은 항목부터 제거)
+    private final Cache<Long, Long> owners;
+
+    public TripAccessChecker(TripRepository tripRepository,
+                             @Value("${trip-access.cache-ttl-ms:60000}") long ttlMs) {
+        this.tripRepository = tripRepository;
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    // 소유자가 아니면 예외 (캐시 적중 시 쿼리 없음, 아니면 인덱스 조회 1회)
+    public void validateOwner(Long tripId, Long userId) {
+        Long ownerId = owners.getIfPresent(tripId);
+        if (ownerId != null) {
+            if (ownerId.equals(userId)) {
+                return;
+            }
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
+        }
+        if (tripRepository.existsByIdAndUserId(tripId, userId)) {
+            remember(tripId, userId);
+            return;
+        }
+        // 실패 경로에서만 존재 여부를 한 번 더 확인해 404/403 구분
+        if (!tripRepository.existsById(tripId)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_TRIP);
+        }
+        throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
+    }
+
+    // 엔티티가 필요한 경우: 여행 조회 1회 후 외래키로 소유자 비교 (사용자 로딩 없음)
+    public Trip getOwnedTrip(Long tripId, Long userId) {
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_TRIP));
+        if (!trip.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
+        }
+        remember(tripId, userId);
+        return trip;
+    }
+
+    // 연관관계 설정용 참조만 필요한 경우 (검증 후 프록시 반환, 추가 쿼리 없음)
+    public Trip getOwnedTripReference(Long tripId, Long userId) {
+        validateOwner(tripId, userId);
+        return tripRepository.getReferenceById(tripId);
+    }
+
+    // 검증 후 여행 하위 행 저장 (그 사이 여행이 삭제돼 외래키 위반이면 NOT_FOUND_TRIP)
+    public <T> T saveUnderTrip(Long tripId, Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isReferencedRowMissing(e)) {
+                evict(tripId);
+                throw new BusinessException(ErrorCode.NOT_FOUND_TRIP);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isReferencedRowMissing(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql
+                && (sql.getErrorCode() == MYSQL_NO_REFERENCED_ROW || H2_REFERENCED_ROW_MISSING.equals(sql.getSQLState()));
+    }
+
+    public void remember(Long tripId, Long userId) {
+        owners.put(tripId, userId);
+    }
+
+    public void evict(Long tripId) {
+        owners.invalidate(tripId);
+    }
+}
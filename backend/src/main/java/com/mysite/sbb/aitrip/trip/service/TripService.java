@@ -2,6 +2,7 @@ package com.mysite.sbb.aitrip.trip.service;
 
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.AfterCommit;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
 import com.mysite.sbb.aitrip.trip.domain.TripStatus;
 import com.mysite.sbb.aitrip.trip.dto.TripRequest;
@@ -22,6 +23,7 @@ public class TripService {
 
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
+    private final TripAccessChecker tripAccessChecker;
 
     // 여행 생성
     @Transactional
@@ -30,6 +32,7 @@ public class TripService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         Trip trip = request.toEntity(user);
         Trip savedTrip = tripRepository.save(trip);
+        AfterCommit.run(() -> tripAccessChecker.remember(savedTrip.getId(), userId));
         return TripResponse.from(savedTrip);
     }
 
@@ -42,14 +45,14 @@ public class TripService {
 
     // 여행 상세 조회
     public TripResponse getTrip(Long tripId, Long userId) {
-        Trip trip = findTripByIdAndValidateOwner(tripId, userId);
+        Trip trip = tripAccessChecker.getOwnedTrip(tripId, userId);
         return TripResponse.from(trip);
     }
 
     // 여행 수정
     @Transactional
     public TripResponse updateTrip(Long tripId, Long userId, TripRequest request) {
-        Trip trip = findTripByIdAndValidateOwner(tripId, userId);
+        Trip trip = tripAccessChecker.getOwnedTrip(tripId, userId);
         trip.update(request.title(), request.region(), request.style(),
                 request.tripStyle(), request.startDate(), request.endDate());
         return TripResponse.from(trip);
@@ -58,24 +61,16 @@ public class TripService {
     // 여행 삭제
     @Transactional
     public void deleteTrip(Long tripId, Long userId) {
-        Trip trip = findTripByIdAndValidateOwner(tripId, userId);
+        Trip trip = tripAccessChecker.getOwnedTrip(tripId, userId);
         tripRepository.delete(trip);
+        AfterCommit.run(() -> tripAccessChecker.evict(tripId));
     }
 
     // 여행 상태 변경
     @Transactional
     public TripResponse updateTripStatus(Long tripId, Long userId, TripStatus status) {
-        Trip trip = findTripByIdAndValidateOwner(tripId, userId);
+        Trip trip = tripAccessChecker.getOwnedTrip(tripId, userId);
         trip.updateStatus(status);
         return TripResponse.from(trip);
     }
-
-    private Trip findTripByIdAndValidateOwner(Long tripId, Long userId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_TRIP));
-        if (!trip.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS);
-        }
-        return trip;
-    }
 }
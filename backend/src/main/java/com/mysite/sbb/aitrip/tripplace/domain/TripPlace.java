@@ -1,6 +1,7 @@
 package com.mysite.sbb.aitrip.tripplace.domain;
 
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.jpa.id.IdSequences;
 import com.mysite.sbb.aitrip.place.domain.Place;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
 import jakarta.persistence.*;
@@ -17,7 +18,10 @@ import lombok.NoArgsConstructor;
 public class TripPlace extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "trip_places_id")
+    @TableGenerator(name = "trip_places_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = IdSequences.TRIP_PLACES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
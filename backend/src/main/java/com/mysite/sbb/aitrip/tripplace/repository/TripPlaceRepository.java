@@ -1,16 +1,32 @@
 package com.mysite.sbb.aitrip.tripplace.repository;
 
 import com.mysite.sbb.aitrip.tripplace.domain.TripPlace;
+import com.mysite.sbb.aitrip.tripplace.dto.TripPlaceResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface TripPlaceRepository extends JpaRepository<TripPlace, Long> {
 
-    List<TripPlace> findByTripId(Long tripId);
+    // 장소명까지 단일 쿼리로 응답 DTO에 프로젝션 (장소 지연 로딩 N+1 방지)
+    @Query("""
+            select new com.mysite.sbb.aitrip.tripplace.dto.TripPlaceResponse(
+                tp.id, tp.trip.id, p.id, p.name, tp.isSelected, tp.createdAt, tp.modifiedAt)
+            from TripPlace tp
+            join tp.place p
+            where tp.trip.id = :tripId
+            order by tp.id asc
+            """)
+    List<TripPlaceResponse> findResponsesByTripId(@Param("tripId") Long tripId);
 
     Optional<TripPlace> findByTripIdAndPlaceId(Long tripId, Long placeId);
 
     boolean existsByTripIdAndPlaceId(Long tripId, Long placeId);
+
+    // 선택된 여행 장소를 장소와 함께 조회 (일정 최적화용)
+    @Query("select tp from TripPlace tp join fetch tp.place where tp.trip.id = :tripId and tp.isSelected = true order by tp.id asc")
+    List<TripPlace> findSelectedWithPlace(@Param("tripId") Long tripId);
 }
@@ -1,6 +1,7 @@
 package com.mysite.sbb.aitrip.user.domain;
 
 import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.security.PrincipalEvictionListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalEvictionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
@@ -38,6 +40,11 @@ public class User extends BaseEntity {
         this.role = role;
     }
 
+    // 비밀번호 해시 변경
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public enum Role {
         ROLE_ADMIN, ROLE_USER
     }
@@ -2,7 +2,12 @@ package com.mysite.sbb.aitrip.user.repository;
 
 import com.mysite.sbb.aitrip.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +15,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 비밀번호 해시 교체 (읽은 뒤 다른 요청이 바꿨으면 덮어쓰지 않음), 단독 호출 시 UPDATE 한 건짜리 트랜잭션
+    @Transactional
+    @Modifying
+    @Query("""
+            update User u set u.password = :newPassword, u.modifiedAt = :now
+            where u.id = :id and u.password = :oldPassword
+            """)
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword,
+                                  @Param("now") LocalDateTime now);
 }
@@ -5,7 +5,10 @@ import com.mysite.sbb.aitrip.auth.dto.SignupRequest;
 import com.mysite.sbb.aitrip.auth.dto.TokenResponse;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.security.PasswordHasher;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
 import com.mysite.sbb.aitrip.global.security.jwt.JwtTokenProvider;
+import com.mysite.sbb.aitrip.global.security.jwt.VerifiedToken;
 import com.mysite.sbb.aitrip.user.domain.User;
 import com.mysite.sbb.aitrip.user.dto.UserResponse;
 import com.mysite.sbb.aitrip.user.repository.UserRepository;
@@ -15,15 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthService 테스트")
@@ -36,7 +43,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -44,13 +51,16 @@ class AuthServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @Test
     @DisplayName("회원가입 - 성공")
     void signup_success() {
         // given
         SignupRequest request = new SignupRequest("test@example.com", "Password1!", "홍길동");
         given(userRepository.existsByEmail("test@example.com")).willReturn(false);
-        given(passwordEncoder.encode("Password1!")).willReturn("encoded");
+        given(passwordHasher.encode("Password1!")).willReturn("encoded");
 
         User savedUser = createUser(1L, "test@example.com", "홍길동");
         given(userRepository.save(any(User.class))).willReturn(savedUser);
@@ -86,7 +96,7 @@ class AuthServiceTest {
         User user = createUser(1L, "test@example.com", "홍길동");
 
         given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("Password1!", user.getPassword())).willReturn(true);
+        given(passwordHasher.matches("Password1!", user.getPassword())).willReturn(true);
         given(jwtTokenProvider.createAccessToken(anyString())).willReturn("access-token");
         given(jwtTokenProvider.createRefreshToken(anyString())).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshTokenExpiration()).willReturn(604800000L);
@@ -99,6 +109,29 @@ class AuthServiceTest {
         assertThat(result.refreshToken()).isEqualTo("refresh-token");
     }
 
+    @Test
+    @DisplayName("로그인 - BCrypt 비용이 바뀌었으면 재해시")
+    void login_rehash() {
+        // given
+        LoginRequest request = new LoginRequest("test@example.com", "Password1!");
+        User user = createUser(1L, "test@example.com", "홍길동");
+
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("Password1!", "encoded_password")).willReturn(true);
+        given(passwordHasher.needsRehash("encoded_password")).willReturn(true);
+        given(passwordHasher.encode("Password1!")).willReturn("rehashed_password");
+        given(userRepository.updatePasswordIfUnchanged(eq(1L), eq("encoded_password"), eq("rehashed_password"),
+                any(LocalDateTime.class))).willReturn(1);
+        given(jwtTokenProvider.createAccessToken(anyString())).willReturn("access-token");
+        given(jwtTokenProvider.createRefreshToken(anyString())).willReturn("refresh-token");
+
+        // when
+        authService.login(request);
+
+        // then
+        verify(principalCache).evict("test@example.com");
+    }
+
     @Test
     @DisplayName("로그인 - 잘못된 비밀번호")
     void login_invalidPassword() {
@@ -107,7 +140,7 @@ class AuthServiceTest {
         User user = createUser(1L, "test@example.com", "홍길동");
 
         given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("WrongPass1!", user.getPassword())).willReturn(false);
+        given(passwordHasher.matches("WrongPass1!", user.getPassword())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> authService.login(request))
@@ -118,6 +151,23 @@ class AuthServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("로그아웃 - 검증된 토큰의 남은 만료 시간으로 블랙리스트 등록")
+    void logout_success() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        VerifiedToken accessToken = new VerifiedToken("access_token", "test@example.com", expiresAt);
+
+        // when
+        authService.logout(accessToken, "test@example.com");
+
+        // then
+        verify(tokenService).addToBlacklist(eq("access_token"), longThat(ms -> ms > 0 && ms <= 60_000L));
+        verify(tokenService).deleteRefreshToken("test@example.com");
+        verify(principalCache).evict("test@example.com");
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
     private User createUser(Long id, String email, String name) {
         User user = User.builder()
                 .email(email)
@@ -0,0 +1,96 @@
+package com.mysite.sbb.aitrip.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistFilter 테스트")
+class TokenBlacklistFilterTest {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 50;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklistFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenBlacklistFilter(redisTemplate, listenerContainer, 1_000, HEARTBEAT_INTERVAL_MS);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 모든 토큰을 '있을 수도 있음'으로 보고 Redis 확인으로 넘김")
+    void mightContain_beforeSync() {
+        // when & then
+        assertThat(filter.mightContain(TokenBlacklistFilter.hash("never-logged-out"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독 실패 시 재구성해도 필터를 쓰지 않음 (Redis 장애 중 시작)")
+    void mightContain_subscribeFailed() {
+        // given
+        willThrow(new IllegalStateException("connection refused"))
+                .given(listenerContainer).addMessageListener(any(), any(Topic.class));
+
+        // when
+        filter.subscribe();
+        filter.rebuild();
+
+        // then
+        assertThat(filter.mightContain(TokenBlacklistFilter.hash("never-logged-out"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("하트비트 수신 후 재구성하면 필터 사용, 하트비트가 끊기면 다시 Redis 확인")
+    void mightContain_heartbeat() throws InterruptedException {
+        // given
+        Cursor<String> keys = emptyCursor();
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(keys);
+        filter.subscribe();
+        filter.onMessage(message(TokenBlacklistFilter.HEARTBEAT), null);
+        filter.heartbeat();
+        String loggedOut = TokenBlacklistFilter.hash("logged-out");
+        filter.onMessage(message(loggedOut), null);
+
+        // when & then
+        assertThat(filter.mightContain(TokenBlacklistFilter.hash("never-logged-out"))).isFalse();
+        assertThat(filter.mightContain(loggedOut)).isTrue();
+
+        Thread.sleep(HEARTBEAT_INTERVAL_MS * 4);
+        assertThat(filter.mightContain(TokenBlacklistFilter.hash("never-logged-out"))).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> emptyCursor() {
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willReturn(false);
+        return cursor;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TokenBlacklistFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
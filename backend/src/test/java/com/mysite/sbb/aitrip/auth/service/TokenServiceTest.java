@@ -0,0 +1,48 @@
+package com.mysite.sbb.aitrip.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenService 테스트")
+class TokenServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        // 구독/재구성 전 상태의 필터 (다른 인스턴스의 로그아웃을 아직 모름)
+        TokenBlacklistFilter filter = new TokenBlacklistFilter(redisTemplate, listenerContainer, 1_000, 5_000);
+        tokenService = new TokenService(redisTemplate, filter, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("필터 동기화 전에는 Redis로 확인해 다른 인스턴스에서 로그아웃한 토큰을 거부")
+    void isBlacklisted_fallsBackToRedis() {
+        // given
+        String token = "access-token-logged-out-elsewhere";
+        given(redisTemplate.hasKey("BL:" + TokenBlacklistFilter.hash(token))).willReturn(true);
+
+        // when
+        boolean blacklisted = tokenService.isBlacklisted(token);
+
+        // then
+        assertThat(blacklisted).isTrue();
+    }
+}
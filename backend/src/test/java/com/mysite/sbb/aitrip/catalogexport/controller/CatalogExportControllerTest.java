@@ -0,0 +1,80 @@
+package com.mysite.sbb.aitrip.catalogexport.controller;
+
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import com.mysite.sbb.aitrip.catalogexport.service.CatalogExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("CatalogExportController 테스트")
+class CatalogExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogExportService catalogExportService;
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    @DisplayName("GET /api/admin/exports/{table} - 일반 사용자는 403")
+    void export_forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/exports/places"))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("A010"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("GET /api/admin/exports/{table} - 관리자는 NDJSON 스트리밍 응답")
+    void export() throws Exception {
+        // given
+        given(catalogExportService.export(eq(ExportTable.PLACE_CROWD_DATA), eq(false), any()))
+                .willReturn(out -> out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        MvcResult started = mockMvc.perform(get("/api/admin/exports/place-crowd-data"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("GET /api/admin/exports/{table} - 허용되지 않은 테이블은 404")
+    void export_unknownTable() throws Exception {
+        mockMvc.perform(get("/api/admin/exports/users"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("E001"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.mysite.sbb.aitrip.catalogexport.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CatalogExportRepository.class, JacksonAutoConfiguration.class})
+@DisplayName("CatalogExportRepository 테스트")
+class CatalogExportRepositoryTest {
+
+    @Autowired
+    private CatalogExportRepository catalogExportRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("테이블 전체를 id 순 NDJSON으로 출력 (컬럼명은 camelCase)")
+    void export() throws Exception {
+        // given
+        Place first = placeRepository.saveAndFlush(Place.builder()
+                .name("블루보틀").region("서울").category("카페").address("강남구").estimatedStayTime(45).build());
+        Place second = placeRepository.saveAndFlush(Place.builder()
+                .name("해운대").region("부산").category("관광지").address("해운대구").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = catalogExportRepository.export(ExportTable.PLACES, out);
+
+        // then
+        String body = out.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode firstRow = objectMapper.readTree(lines[0]);
+        assertThat(firstRow.path("id").asLong()).isEqualTo(first.getId());
+        assertThat(firstRow.path("name").asText()).isEqualTo("블루보틀");
+        assertThat(firstRow.path("estimatedStayTime").asInt()).isEqualTo(45);
+        assertThat(firstRow.path("imageUrl").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).path("id").asLong()).isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("빈 테이블은 빈 본문")
+    void export_empty() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = catalogExportRepository.export(ExportTable.PLACE_STYLE_TAGS, out);
+
+        // then
+        assertThat(rows).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
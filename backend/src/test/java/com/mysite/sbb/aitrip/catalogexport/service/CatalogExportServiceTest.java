@@ -0,0 +1,90 @@
+package com.mysite.sbb.aitrip.catalogexport.service;
+
+import com.mysite.sbb.aitrip.catalogexport.domain.ExportTable;
+import com.mysite.sbb.aitrip.catalogexport.repository.CatalogExportRepository;
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import jakarta.servlet.AsyncEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogExportService 테스트")
+class CatalogExportServiceTest {
+
+    @Mock
+    private CatalogExportRepository catalogExportRepository;
+
+    private CatalogExportService catalogExportService;
+
+    @BeforeEach
+    void setUp() {
+        catalogExportService = new CatalogExportService(catalogExportRepository, 1);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘으면 503, 스트리밍이 끝나면 허가 반납")
+    void export_releasesAfterStreaming() throws Exception {
+        // given
+        StreamingResponseBody body = catalogExportService.export(ExportTable.PLACES, false, newRequest());
+        assertThatThrownBy(() -> catalogExportService.export(ExportTable.PLACES, false, newRequest()))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+
+        // when
+        body.writeTo(new ByteArrayOutputStream());
+
+        // then
+        assertThat(catalogExportService.export(ExportTable.PLACES, false, newRequest())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("본문이 실행되지 않고 비동기 요청이 끝나도(타임아웃 등) 허가 반납")
+    void export_releasesWhenBodyNeverRuns() throws Exception {
+        // given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAsyncSupported(true);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest, servletResponse);
+        StandardServletAsyncWebRequest asyncWebRequest =
+                new StandardServletAsyncWebRequest(servletRequest, servletResponse);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.setAsyncWebRequest(asyncWebRequest);
+        // 작업을 받기만 하고 실행하지 않는 실행기 (대기 중 타임아웃된 상황)
+        asyncManager.setTaskExecutor((AsyncTaskExecutor) task -> {
+        });
+
+        StreamingResponseBody body = catalogExportService.export(ExportTable.PLACES, false, webRequest);
+        asyncManager.startCallableProcessing(() -> {
+            body.writeTo(servletResponse.getOutputStream());
+            return null;
+        });
+
+        // when
+        asyncWebRequest.onComplete(new AsyncEvent(servletRequest.getAsyncContext()));
+
+        // then
+        assertThat(catalogExportService.export(ExportTable.PLACES, false, newRequest())).isNotNull();
+    }
+
+    private ServletWebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+}
@@ -0,0 +1,104 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalGetFilter 테스트")
+class ConditionalGetFilterTest {
+
+    @InjectMocks
+    private ConditionalGetFilter filter;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 컨트롤러 실행 없이 304")
+    void doFilter_notModified() throws Exception {
+        // given
+        given(contentVersions.reliable()).willReturn(true);
+        given(contentVersions.current(ContentGroup.CROWD_DATA)).willReturn(7L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/place-crowd-data");
+        request.addHeader("If-None-Match", "W/\"crowd-data-7-gzip\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> calls.incrementAndGet());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"crowd-data-7\"");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기로 버전이 올라가면 이전 ETag로는 304가 아니라 새 ETag와 함께 본문 응답")
+    void doFilter_modifiedAfterWrite() throws Exception {
+        // given
+        given(contentVersions.reliable()).willReturn(true);
+        given(contentVersions.current(ContentGroup.PLACES)).willReturn(8L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/places/1");
+        request.addHeader("If-None-Match", "\"places-7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> calls.incrementAndGet());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"places-8\"");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인스턴스 메모리 저장소로 응답하는 조회는 버전 ETag를 붙이지도, 304로 끝내지도 않음")
+    void doFilter_skipsLocalStoreRoutes() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/place-crowd-data/places/1");
+        request.addHeader("If-None-Match", "\"crowd-data-7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> calls.incrementAndGet());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+        verifyNoInteractions(contentVersions);
+    }
+
+    @Test
+    @DisplayName("버전 동기화 전에는 ETag를 내보내지 않음")
+    void doFilter_skipsWhenNotSynced() throws Exception {
+        // given
+        given(contentVersions.reliable()).willReturn(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/places");
+        request.addHeader("If-None-Match", "\"places-0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+}
@@ -0,0 +1,126 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentVersions 테스트")
+class ContentVersionsTest {
+
+    @InjectMocks
+    private ContentVersions contentVersions;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    // EntityManagerFactory 자리에 주입됨
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("다른 인스턴스의 버전 메시지를 받으면 그룹의 2차 캐시 영역을 비운 뒤 버전 반영")
+    void onMessage_evictsSecondLevelCache() {
+        // given
+        given(sessionFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+
+        // when
+        contentVersions.onMessage(message("PLACES:3"), null);
+
+        // then
+        assertThat(contentVersions.current(ContentGroup.PLACES)).isEqualTo(3);
+        var order = inOrder(cache);
+        order.verify(cache).evictRegion(CacheRegions.PLACE);
+        order.verify(cache).evictRegion(CacheRegions.PLACE_STYLE_TAG);
+        order.verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("자기 쓰기로 이미 반영된 버전의 메시지는 2차 캐시를 비우지 않음")
+    void onMessage_ownWrite() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment("CV:CROWD_DATA")).willReturn(5L);
+        contentVersions.bump(ContentGroup.CROWD_DATA);
+
+        // when
+        contentVersions.onMessage(message("CROWD_DATA:5"), null);
+
+        // then
+        assertThat(contentVersions.current(ContentGroup.CROWD_DATA)).isEqualTo(5);
+        verify(sessionFactory, never()).unwrap(SessionFactory.class);
+    }
+
+    @Test
+    @DisplayName("버전 갱신 실패는 진행 중인 동기화를 기다리지 않고 기록되며, 다음 동기화에서 다시 올린 뒤 신뢰 상태로 복귀")
+    void bump_failureDuringSync() throws Exception {
+        // given - 동기화가 Redis 응답을 기다리는 중에 다른 요청의 버전 갱신이 실패
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        CountDownLatch inSync = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            inSync.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of("0", "0", "0");
+        }).given(valueOperations).multiGet(anyCollection());
+        given(valueOperations.increment("CV:PLACES"))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(1L);
+        Thread sync = Thread.ofVirtual().start(contentVersions::sync);
+        assertThat(inSync.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        long startedAt = System.nanoTime();
+        contentVersions.bump(ContentGroup.PLACES);
+        long bumpMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+        sync.join();
+        boolean reliableAfterFailure = contentVersions.reliable();
+        contentVersions.sync();
+
+        // then
+        assertThat(bumpMillis).isLessThan(1_000);
+        assertThat(reliableAfterFailure).isFalse();
+        assertThat(contentVersions.reliable()).isTrue();
+        assertThat(contentVersions.current(ContentGroup.PLACES)).isEqualTo(1);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(ContentVersions.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,181 @@
+package com.mysite.sbb.aitrip.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseCacheFilter 테스트")
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"code\":\"200\",\"data\":{\"content\":[{\"name\":\"블루보틀\"}]}}";
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    private ResponseCacheFilter filter;
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCacheFilter(binaryRedisTemplate, contentVersions, new SimpleMeterRegistry(),
+                600, 5_000, 2_000, 4_194_304, 5_000);
+        given(contentVersions.reliable()).willReturn(true);
+        given(binaryRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class))).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("미스는 압축해 저장하고, 쿼리 순서만 다른 다음 요청은 조회 없이 압축 본문 그대로 응답")
+    void doFilter_storesThenServesCompressed() throws Exception {
+        // given
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/places");
+        first.addParameter("region", "서울");
+        first.addParameter("size", "20");
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        filter.doFilter(first, firstResponse, renderChain(null, null));
+
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(key.capture(), stored.capture(), eq(Duration.ofSeconds(600)));
+        given(valueOperations.get(key.getValue())).willReturn(stored.getValue());
+
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/places");
+        second.addParameter("size", "20");
+        second.addParameter("region", "서울");
+        second.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(second, secondResponse, renderChain(null, null));
+
+        // then
+        assertThat(key.getValue()).isEqualTo("RC:PLACES:0:/api/places?region=%EC%84%9C%EC%9A%B8&size=20");
+        assertThat(firstResponse.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(secondResponse.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(secondResponse.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(new String(ResponseCacheFilter.gunzip(secondResponse.getContentAsByteArray()),
+                StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 요청만 조회하고 나머지는 그 결과를 받음")
+    void doFilter_coalescesConcurrentMisses() throws Exception {
+        // given - 첫 요청이 조회 중인 동안 두 번째 요청 진입
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondLookedUp = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (lookups.incrementAndGet() == 2) {
+                secondLookedUp.countDown();
+            }
+            return null;
+        }).given(valueOperations).get(anyString());
+        MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+
+        // when
+        Thread leader = Thread.ofVirtual().start(() -> doFilterQuietly(leaderResponse, renderChain(entered, release)));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = Thread.ofVirtual().start(() -> doFilterQuietly(followerResponse, renderChain(null, null)));
+        assertThat(secondLookedUp.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(followerResponse.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("COALESCED");
+        assertThat(followerResponse.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(leaderResponse.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("인스턴스 메모리 저장소로 응답하는 조회(주변 장소, 혼잡도 단건)는 공유 캐시에 저장하지 않음")
+    void doFilter_skipsLocalStoreRoutes() throws Exception {
+        // given
+        MockHttpServletRequest nearby = new MockHttpServletRequest("GET", "/api/places/nearby");
+        nearby.addParameter("latitude", "37.5");
+        nearby.addParameter("longitude", "127.0");
+        MockHttpServletRequest crowd = new MockHttpServletRequest("GET", "/api/place-crowd-data/places/1");
+        crowd.addParameter("dayOfWeek", "1");
+        crowd.addParameter("hour", "12");
+        MockHttpServletResponse nearbyResponse = new MockHttpServletResponse();
+        MockHttpServletResponse crowdResponse = new MockHttpServletResponse();
+        MockHttpServletResponse listResponse = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(nearby, nearbyResponse, renderChain(null, null));
+        filter.doFilter(crowd, crowdResponse, renderChain(null, null));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/places"), listResponse, renderChain(null, null));
+
+        // then
+        assertThat(nearbyResponse.getHeader(ResponseCacheFilter.CACHE_HEADER)).isNull();
+        assertThat(crowdResponse.getHeader(ResponseCacheFilter.CACHE_HEADER)).isNull();
+        assertThat(listResponse.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        verify(valueOperations).set(startsWith("RC:PLACES:0:/api/places"), any(byte[].class), any(Duration.class));
+        verify(valueOperations, never()).set(contains("nearby"), any(byte[].class), any(Duration.class));
+        verify(valueOperations, never()).set(contains("place-crowd-data"), any(byte[].class), any(Duration.class));
+    }
+
+    // 컨트롤러 대신 JSON을 쓰는 체인, release가 있으면 진입을 알리고 풀릴 때까지 대기
+    private FilterChain renderChain(CountDownLatch entered, CountDownLatch release) {
+        return (request, response) -> {
+            renders.incrementAndGet();
+            if (release != null) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private void doFilterQuietly(MockHttpServletResponse response, FilterChain chain) {
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/places/1"), response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
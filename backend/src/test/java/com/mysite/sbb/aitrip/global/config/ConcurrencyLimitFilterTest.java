@@ -0,0 +1,51 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter 테스트")
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    @DisplayName("상한 이내 요청은 통과하고 끝나면 허가 반환")
+    void doFilter_passesAndReleases() throws Exception {
+        // given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 0, new ObjectMapper());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        int[] inFlight = new int[1];
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/places"), response,
+                (req, res) -> inFlight[0] = filter.inFlight());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(inFlight[0]).isEqualTo(1);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 동시 요청은 503으로 거절")
+    void doFilter_rejectsWhenSaturated() throws Exception {
+        // given - 허가 1개를 바깥 요청이 쥔 상태에서 안쪽 요청 시도
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 0, new ObjectMapper());
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/trips"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/trips"), inner,
+                        (innerReq, innerRes) -> {
+                        }));
+
+        // then
+        assertThat(inner.getStatus()).isEqualTo(503);
+        assertThat(inner.getContentAsString()).contains("C001");
+        assertThat(filter.rejectedCount()).isEqualTo(1);
+        assertThat(filter.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import com.mysite.sbb.aitrip.global.jpa.cache.CacheRegions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SecondLevelCacheConfig 테스트")
+class SecondLevelCacheConfigTest {
+
+    @Test
+    @DisplayName("영역 적중/미스와 적중률을 Hibernate 통계 없이 Caffeine 통계로 집계")
+    void secondLevelCacheMetrics_nativeStatistics() {
+        // given
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+        CacheManager cacheManager = config.hibernateCacheManager();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        config.secondLevelCacheMetrics(cacheManager).bindTo(registry);
+        Cache<Object, Object> cache = cacheManager.getCache(CacheRegions.PLACE_STYLE_TAG);
+        cache.clear();
+        double hitsBefore = requests(registry, "hit");
+        double missesBefore = requests(registry, "miss");
+
+        // when
+        cache.put("metrics-test", "value");
+        cache.get("metrics-test");
+        cache.get("metrics-test");
+        cache.get("metrics-test-missing");
+
+        // then
+        assertThat(requests(registry, "hit") - hitsBefore).isEqualTo(2);
+        assertThat(requests(registry, "miss") - missesBefore).isEqualTo(1);
+        assertThat(registry.get("aitrip.cache.hit.ratio").tag("region", CacheRegions.PLACE_STYLE_TAG)
+                .gauge().value()).isPositive();
+    }
+
+    private double requests(SimpleMeterRegistry registry, String result) {
+        return registry.get("aitrip.cache.requests")
+                .tag("region", CacheRegions.PLACE_STYLE_TAG)
+                .tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mysite.sbb.aitrip.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("SecurityConfig 테스트")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - 공개 포트에서는 인증 없이 접근 불가")
+    void prometheus_notPublic() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    @DisplayName("POST /api/place-crowd-data/bulk - 일반 사용자는 403")
+    void crowdDataBulk_forbidden() throws Exception {
+        mockMvc.perform(post("/api/place-crowd-data/bulk")
+                        .contentType("text/csv")
+                        .content("placeId,dayOfWeek,hour,crowdLevel,waitingRiskScore,avgWaitingMin\n"))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("A010"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.mysite.sbb.aitrip.global.jpa.id;
+
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Hibernate 생성기는 별도 커넥션으로 시퀀스 행을 잠그므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IdSequences 테스트")
+class IdSequencesTest {
+
+    private static final String REGION = "시퀀스";
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM places WHERE region = ?", REGION);
+    }
+
+    @Test
+    @DisplayName("JDBC로 예약한 ID 블록은 Hibernate가 채번하는 ID와 겹치지 않음")
+    void allocate_doesNotOverlapHibernate() throws SQLException {
+        // given
+        Place before = placeRepository.save(place("이전"));
+
+        // when
+        long first = allocate(10);
+        Place after = placeRepository.save(place("이후"));
+
+        // then
+        assertThat(first).isGreaterThan(before.getId());
+        assertThat(after.getId()).satisfiesAnyOf(
+                id -> assertThat(id).isLessThan(first),
+                id -> assertThat(id).isGreaterThan(first + 9));
+    }
+
+    @Test
+    @DisplayName("시퀀스보다 큰 기존 ID가 있으면 그 뒤부터 예약")
+    void allocate_afterExistingMaxId() throws SQLException {
+        // given
+        jdbcTemplate.update("INSERT INTO places (id, name, region, category, address) VALUES (?, ?, ?, ?, ?)",
+                1_000_000L, "기존", REGION, "카페", "주소");
+
+        // when
+        long first = allocate(5);
+
+        // then
+        assertThat(first).isGreaterThan(1_000_000L);
+    }
+
+    private long allocate(int count) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long first = IdSequences.allocate(connection, IdSequences.PLACES, count);
+            connection.commit();
+            return first;
+        }
+    }
+
+    private Place place(String name) {
+        return Place.builder().name(name).region(REGION).category("카페").address("주소").build();
+    }
+}
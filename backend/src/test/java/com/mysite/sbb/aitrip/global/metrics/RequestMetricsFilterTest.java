@@ -0,0 +1,53 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestMetricsFilter 테스트")
+class RequestMetricsFilterTest {
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 문장 수를 경로 템플릿별로 기록")
+    void doFilter_recordsStatementsPerRoute() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestMetricsFilter filter = new RequestMetricsFilter(registry, new SqlMonitor(registry, 5, 200, 50, 60_000));
+        StatementCounter inspector = new StatementCounter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips/1");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select * from trips where id = ?");
+            inspector.inspect("select * from users where id = ?");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/trips/{id}");
+        });
+
+        // then
+        DistributionSummary summary = registry.get(RequestMetricsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/api/trips/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 세지 않음")
+    void inspect_outsideRequest() {
+        // given
+        StatementCounter inspector = new StatementCounter();
+
+        // when
+        inspector.inspect("select 1");
+
+        // then
+        assertThat(SqlProfile.end().statements()).isZero();
+    }
+}
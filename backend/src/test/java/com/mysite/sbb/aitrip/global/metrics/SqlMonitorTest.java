@@ -0,0 +1,77 @@
+package com.mysite.sbb.aitrip.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlMonitor 테스트")
+class SqlMonitorTest {
+
+    private static final String URI = "/api/trips/{tripId}/places";
+
+    @Test
+    @DisplayName("바인드 값만 다른 같은 문장이 임계치 이상 반복되면 N+1 경고")
+    void inspect_nPlusOne() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlMonitor sqlMonitor = new SqlMonitor(registry, 5, 200, 50, 60_000);
+        SqlProfile profile = profile("select * from trip_places where trip_id = ?",
+                "select * from places where id = ?", 5);
+
+        // when
+        sqlMonitor.inspect("GET", URI, profile);
+        sqlMonitor.inspect("GET", URI, profile);
+
+        // then - 로그는 간격당 한 번이지만 카운터는 매번 증가
+        assertThat(registry.get(SqlMonitor.ALERT_METRIC).tag("type", SqlMonitor.N_PLUS_ONE).counter().count())
+                .isEqualTo(2);
+        assertThat(profile.mostRepeated().getKey()).isEqualTo("select * from places where id = ?");
+        assertThat(profile.mostRepeated().getValue()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("반복이 임계치 미만이면 경고 없음")
+    void inspect_belowThreshold() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlMonitor sqlMonitor = new SqlMonitor(registry, 5, 200, 50, 60_000);
+        SqlProfile profile = profile("select * from trips where id = ?",
+                "select * from places where id = ?", 4);
+
+        // when
+        sqlMonitor.inspect("GET", URI, profile);
+
+        // then
+        assertThat(registry.find(SqlMonitor.ALERT_METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문장 수가 상한을 넘으면 과다 경고")
+    void inspect_tooManyStatements() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlMonitor sqlMonitor = new SqlMonitor(registry, 100, 200, 3, 60_000);
+        SqlProfile profile = profile("select * from trips where id = ?",
+                "select * from places where id = ?", 3);
+
+        // when
+        sqlMonitor.inspect("GET", URI, profile);
+
+        // then
+        assertThat(registry.get(SqlMonitor.ALERT_METRIC).tag("type", SqlMonitor.TOO_MANY_STATEMENTS)
+                .counter().count()).isEqualTo(1);
+    }
+
+    // 첫 문장 한 번 + 반복 문장 repeats번
+    private SqlProfile profile(String first, String repeated, int repeats) {
+        SqlProfile.begin();
+        StatementCounter inspector = new StatementCounter();
+        inspector.inspect(first);
+        for (int i = 0; i < repeats; i++) {
+            inspector.inspect(repeated);
+        }
+        return SqlProfile.end();
+    }
+}
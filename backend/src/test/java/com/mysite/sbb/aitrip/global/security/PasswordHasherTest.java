@@ -0,0 +1,94 @@
+package com.mysite.sbb.aitrip.global.security;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    @Test
+    @DisplayName("해시 후 검증 성공")
+    void encodeAndMatches() {
+        // given
+        PasswordHasher passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4, 5_000);
+
+        // when
+        String encoded = passwordHasher.encode("Password1!");
+
+        // then
+        assertThat(passwordHasher.matches("Password1!", encoded)).isTrue();
+        assertThat(passwordHasher.matches("WrongPass1!", encoded)).isFalse();
+        assertThat(passwordHasher.hashCount()).isEqualTo(3);
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 바로 거절")
+    void encode_rejectedWhenSaturated() throws Exception {
+        // given - 스레드 1개, 대기열 1칸을 막아 둠
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder(started, release), 1, 1, 5_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        while (passwordHasher.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY));
+        assertThat(passwordHasher.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("설정 비용보다 낮은 해시는 재해시 대상")
+    void needsRehash() {
+        // given
+        String weak = new BCryptPasswordEncoder(4).encode("Password1!");
+        PasswordHasher passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4, 5_000);
+
+        // when & then
+        assertThat(passwordHasher.needsRehash(weak)).isTrue();
+        passwordHasher.shutdown();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
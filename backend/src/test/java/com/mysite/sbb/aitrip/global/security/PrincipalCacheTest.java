@@ -0,0 +1,82 @@
+package com.mysite.sbb.aitrip.global.security;
+
+import com.mysite.sbb.aitrip.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrincipalCache 테스트")
+class PrincipalCacheTest {
+
+    @Test
+    @DisplayName("같은 subject는 한 번만 적재하고 적중/미적중 집계")
+    void get_cached() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(60_000, 100);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserDetails> loader = email -> {
+            loads.incrementAndGet();
+            return createUserDetails(email);
+        };
+
+        // when
+        UserDetails first = principalCache.get("test@example.com", loader);
+        UserDetails second = principalCache.get("test@example.com", loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(principalCache.hitCount()).isEqualTo(1);
+        assertThat(principalCache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다시 적재")
+    void evict() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(60_000, 100);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserDetails> loader = email -> {
+            loads.incrementAndGet();
+            return createUserDetails(email);
+        };
+        principalCache.get("test@example.com", loader);
+
+        // when
+        principalCache.evict("test@example.com");
+        principalCache.get("test@example.com", loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘기지 않음")
+    void get_bounded() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(60_000, 2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            principalCache.get("user" + i + "@example.com", this::createUserDetails);
+        }
+        principalCache.cleanUp();
+
+        // then
+        assertThat(principalCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    private UserDetails createUserDetails(String email) {
+        return new CustomUserDetails(User.builder()
+                .email(email)
+                .password("password")
+                .name("홍길동")
+                .role(User.Role.ROLE_USER)
+                .build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.mysite.sbb.aitrip.global.security;
+
+import com.mysite.sbb.aitrip.user.domain.User;
+import com.mysite.sbb.aitrip.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커밋 후 무효화를 확인하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Import({PrincipalCache.class, PrincipalEvictionListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PrincipalEvictionListener 테스트")
+class PrincipalEvictionListenerTest {
+
+    private static final String EMAIL = "evict@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 바뀌면 커밋 후 캐시된 주체를 무효화")
+    void evict_onUpdate() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("old_hash")
+                .name("홍길동")
+                .role(User.Role.ROLE_USER)
+                .build());
+        principalCache.get(EMAIL, email -> new CustomUserDetails(user));
+        assertThat(principalCache.size()).isEqualTo(1);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findByEmail(EMAIL).orElseThrow().updatePassword("new_hash"));
+
+        // then
+        assertThat(principalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자가 삭제되면 캐시된 주체를 무효화")
+    void evict_onRemove() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("hash")
+                .name("홍길동")
+                .role(User.Role.ROLE_ADMIN)
+                .build());
+        principalCache.get(EMAIL, email -> new CustomUserDetails(user));
+
+        // when
+        userRepository.delete(user);
+
+        // then
+        assertThat(principalCache.size()).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mysite.sbb.aitrip.global.security.jwt;
+
+import com.mysite.sbb.aitrip.global.security.CustomUserDetails;
+import com.mysite.sbb.aitrip.global.security.PrincipalCache;
+import com.mysite.sbb.aitrip.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-must-be-at-least-32-characters-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails userDetails = new CustomUserDetails(User.builder()
+                .email("test@example.com")
+                .password("password")
+                .name("홍길동")
+                .role(User.Role.ROLE_USER)
+                .build());
+        jwtTokenProvider = new JwtTokenProvider(
+                new JwtProperties(SECRET, 3_600_000L, 604_800_000L),
+                email -> userDetails,
+                new PrincipalCache(60_000L, 100));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 한 번 검증한 결과로 인증 객체 생성")
+    void verify_success() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("test@example.com");
+
+        // when
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().subject()).isEqualTo("test@example.com");
+        assertThat(verified.get().remainingMillis()).isPositive();
+        Authentication authentication = jwtTokenProvider.getAuthentication(verified.get());
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(authentication.getCredentials()).isEqualTo(verified.get());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 서명이 다르면 empty")
+    void verify_invalidSignature() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                new JwtProperties(SECRET + "-other", 3_600_000L, 604_800_000L),
+                email -> null,
+                new PrincipalCache(60_000L, 100));
+        String token = otherProvider.createAccessToken("test@example.com");
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 형식이 잘못되면 empty")
+    void verify_malformed() {
+        // given & when & then
+        assertThat(jwtTokenProvider.verify("not-a-jwt")).isEmpty();
+    }
+}
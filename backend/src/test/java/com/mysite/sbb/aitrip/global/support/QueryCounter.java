@@ -0,0 +1,46 @@
+package com.mysite.sbb.aitrip.global.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 Hibernate SQL 실행 횟수 측정기
+ * 조회 경로가 결과 건수와 무관하게 일정한 수의 쿼리만 실행하는지(N+1 여부) 검증합니다.
+ */
+public final class QueryCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 action 실행 중 준비된 SQL 문 수
+    public long count(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 결과 건수별 시나리오의 쿼리 수가 모두 expected인지 검증 (건수에 비례해 늘면 실패)
+    public void assertConstant(long expected, IntFunction<Runnable> scenario, int... sizes) {
+        for (int size : sizes) {
+            Runnable action = scenario.apply(size);
+            assertThat(count(action))
+                    .as("결과 %d건 조회 시 SQL 실행 횟수", size)
+                    .isEqualTo(expected);
+        }
+    }
+}
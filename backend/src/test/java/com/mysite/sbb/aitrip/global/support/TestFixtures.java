@@ -0,0 +1,45 @@
+package com.mysite.sbb.aitrip.global.support;
+
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.trip.domain.Trip;
+import com.mysite.sbb.aitrip.trip.domain.TripStatus;
+import com.mysite.sbb.aitrip.trip.domain.TripStyle;
+import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.user.domain.User;
+import com.mysite.sbb.aitrip.user.repository.UserRepository;
+
+import java.time.LocalDate;
+
+/**
+ * 리포지토리 테스트 공용 픽스처
+ * NOT NULL 컬럼을 모두 채운 엔티티를 만들어 H2 제약 위반 없이 저장되도록 합니다.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // 서울 지역 장소 (저장 전)
+    public static Place place(String name) {
+        return Place.builder()
+                .name(name)
+                .region("서울")
+                .category("관광지")
+                .address("서울 종로구")
+                .build();
+    }
+
+    // 새 사용자와 그 사용자의 여행을 저장
+    public static Trip saveTrip(UserRepository userRepository, TripRepository tripRepository, String email) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("홍길동")
+                .role(User.Role.ROLE_USER)
+                .build());
+        return tripRepository.save(Trip.builder()
+                .user(user).title("봄 여행").region("서울").tripStyle(TripStyle.NORMAL)
+                .startDate(LocalDate.of(2025, 3, 10)).endDate(LocalDate.of(2025, 3, 13))
+                .status(TripStatus.DRAFT).build());
+    }
+}
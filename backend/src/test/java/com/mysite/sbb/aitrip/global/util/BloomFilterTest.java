@@ -0,0 +1,40 @@
+package com.mysite.sbb.aitrip.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 포함, 거짓 양성은 설정 비율 근처")
+    void mightContain() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] inserted = new long[20_000];
+        for (int i = 0; i < inserted.length; i += 2) {
+            inserted[i] = random.nextLong();
+            inserted[i + 1] = random.nextLong();
+            filter.put(inserted[i], inserted[i + 1]);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < inserted.length; i += 2) {
+            assertThat(filter.mightContain(inserted[i], inserted[i + 1])).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
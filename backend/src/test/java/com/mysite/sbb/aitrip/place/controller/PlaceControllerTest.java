@@ -1,6 +1,8 @@
 package com.mysite.sbb.aitrip.place.controller;
 
+import com.mysite.sbb.aitrip.global.response.CursorResponse;
 import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceSearchCondition;
 import com.mysite.sbb.aitrip.place.service.PlaceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,11 +14,16 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,15 +48,36 @@ class PlaceControllerTest {
                         "09:00-21:00", 45, null, "TourAPI",
                         LocalDateTime.now(), LocalDateTime.now())
         );
-        given(placeService.getAllPlaces()).willReturn(places);
+        given(placeService.searchPlaces(any(PlaceSearchCondition.class)))
+                .willReturn(CursorResponse.of(places, null));
 
         // when & then
-        mockMvc.perform(get("/api/places"))
+        mockMvc.perform(get("/api/places").param("region", "서울").param("size", "20"))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("200"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value("블루보틀"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].name").value("블루보틀"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/places/{id} - 수정 시각을 Last-Modified로, 이후 변경 없으면 304")
+    void getPlace_lastModified() throws Exception {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 6, 15, 12, 0);
+        given(placeService.getPlace(1L)).willReturn(new PlaceResponse(1L, "블루보틀", "서울", "카페", "강남구",
+                new BigDecimal("37.5265"), new BigDecimal("127.0402"),
+                "09:00-21:00", 45, null, "TourAPI", modifiedAt, modifiedAt));
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                modifiedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+
+        // when & then
+        mockMvc.perform(get("/api/places/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Last-Modified", lastModified));
+        mockMvc.perform(get("/api/places/1").header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
     }
 
     @Test
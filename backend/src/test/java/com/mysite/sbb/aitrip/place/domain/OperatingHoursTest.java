@@ -0,0 +1,84 @@
+package com.mysite.sbb.aitrip.place.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OperatingHours 테스트")
+class OperatingHoursTest {
+
+    private static final int SUNDAY = 0;
+    private static final int MONDAY = 1;
+    private static final int TUESDAY = 2;
+    private static final int FRIDAY = 5;
+    private static final int SATURDAY = 6;
+
+    @Test
+    @DisplayName("매일 같은 시간")
+    void parse_daily() {
+        // given & when
+        OperatingHours hours = OperatingHours.parse("09:00-18:00");
+
+        // then
+        assertThat(hours.intervalsOf(MONDAY)).containsExactly(540, 1080);
+        assertThat(hours.isOpen(SUNDAY, 540)).isTrue();
+        assertThat(hours.isOpen(SUNDAY, 1080)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일별 시간과 휴무")
+    void parse_perDay() {
+        // given & when
+        OperatingHours hours = OperatingHours.parse("월-금 09:00-18:00, 토 10:00-14:00, 일 휴무");
+
+        // then
+        assertThat(hours.intervalsOf(FRIDAY)).containsExactly(540, 1080);
+        assertThat(hours.intervalsOf(SATURDAY)).containsExactly(600, 840);
+        assertThat(hours.intervalsOf(SUNDAY)).isEmpty();
+        assertThat(hours.isOpen(SUNDAY, 600)).isFalse();
+    }
+
+    @Test
+    @DisplayName("휴무 요일이 앞에 와도 나머지 요일에 시간 적용")
+    void parse_closedDayFirst() {
+        // given & when
+        OperatingHours hours = OperatingHours.parse("매주 화요일 휴관, 10:00~19:00");
+
+        // then
+        assertThat(hours.intervalsOf(TUESDAY)).isEmpty();
+        assertThat(hours.intervalsOf(MONDAY)).containsExactly(600, 1140);
+    }
+
+    @Test
+    @DisplayName("브레이크타임은 영업 구간에서 제외")
+    void parse_breakTime() {
+        // given & when
+        OperatingHours hours = OperatingHours.parse("10:00-22:00 브레이크타임 15:00-17:00");
+
+        // then
+        assertThat(hours.intervalsOf(MONDAY)).containsExactly(600, 900, 1020, 1320);
+        assertThat(hours.isOpen(MONDAY, 960)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 영업은 다음 날 새벽으로 이어짐")
+    void parse_overnight() {
+        // given & when
+        OperatingHours hours = OperatingHours.parse("토 18:00-02:00");
+
+        // then
+        assertThat(hours.intervalsOf(SATURDAY)).containsExactly(1080, 1440);
+        assertThat(hours.intervalsOf(SUNDAY)).containsExactly(0, 120);
+        assertThat(hours.isOpen(SUNDAY, 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간 정보가 없으면 종일 운영")
+    void parse_noTime() {
+        // given & when & then
+        assertThat(OperatingHours.parse(null).isAlwaysOpen()).isTrue();
+        assertThat(OperatingHours.parse("연중무휴").isAlwaysOpen()).isTrue();
+        assertThat(OperatingHours.parse("24시간").isOpen(MONDAY, 180)).isTrue();
+    }
+}
@@ -1,11 +1,15 @@
 package com.mysite.sbb.aitrip.place.repository;
 
 import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.dto.PlaceCoordinate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,4 +73,51 @@ class PlaceRepositoryTest {
         // then
         assertThat(placeRepository.findById(id)).isEmpty();
     }
+
+    @Test
+    @DisplayName("키셋 조회 - 커서 이후 필터 조건에 맞는 장소만 id 순으로 조회")
+    void searchAfter() {
+        // given
+        Place first = placeRepository.save(Place.builder()
+                .name("블루보틀").region("서울").category("카페").address("강남구").estimatedStayTime(45).build());
+        Place second = placeRepository.save(Place.builder()
+                .name("스타벅스").region("서울").category("카페").address("종로구").estimatedStayTime(30).build());
+        placeRepository.save(Place.builder()
+                .name("남산타워").region("서울").category("관광지").address("용산구").estimatedStayTime(90).build());
+        Place third = placeRepository.save(Place.builder()
+                .name("투썸").region("서울").category("카페").address("마포구").estimatedStayTime(60).build());
+
+        // when
+        List<Place> page = placeRepository.searchAfter(first.getId(), "서울", "카페",
+                null, null, PageRequest.of(0, 10));
+        List<Place> longStay = placeRepository.searchAfter(0L, "서울", "카페",
+                40, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page).extracting(Place::getId).containsExactly(second.getId(), third.getId());
+        assertThat(longStay).extracting(Place::getName).containsExactly("블루보틀", "투썸");
+    }
+
+    @Test
+    @DisplayName("수정 시각 이후 좌표 조회 - 좌표가 없는 장소도 포함")
+    void findCoordinatesModifiedSince() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        Place located = placeRepository.save(Place.builder()
+                .name("경복궁").region("서울").category("관광지").address("종로구")
+                .latitude(new BigDecimal("37.5796212")).longitude(new BigDecimal("126.9770162")).build());
+        Place unlocated = placeRepository.save(Place.builder()
+                .name("블루보틀").region("서울").category("카페").address("강남구").build());
+
+        // when
+        List<PlaceCoordinate> changed = placeRepository.findCoordinatesModifiedSince(since);
+        List<PlaceCoordinate> future = placeRepository.findCoordinatesModifiedSince(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(changed).extracting(PlaceCoordinate::id)
+                .containsExactlyInAnyOrder(located.getId(), unlocated.getId());
+        assertThat(changed).filteredOn(coordinate -> coordinate.id().equals(unlocated.getId()))
+                .extracting(PlaceCoordinate::latitude).containsOnlyNulls();
+        assertThat(future).isEmpty();
+    }
 }
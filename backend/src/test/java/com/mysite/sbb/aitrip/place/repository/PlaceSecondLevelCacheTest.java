@@ -0,0 +1,88 @@
+package com.mysite.sbb.aitrip.place.repository;
+
+import com.mysite.sbb.aitrip.place.domain.Place;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋 시점에 갱신되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Place 2차 캐시 테스트")
+class PlaceSecondLevelCacheTest {
+
+    private static final String REGION = "캐시";
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        placeRepository.deleteAll(placeRepository.findByRegion(REGION));
+    }
+
+    @Test
+    @DisplayName("수정 커밋 후 캐시에서 읽어도 변경된 값")
+    void update_invalidatesCache() {
+        // given
+        Long id = placeRepository.save(place("블루보틀")).getId();
+        assertThat(entityManagerFactory.getCache().contains(Place.class, id)).isTrue();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                placeRepository.findById(id).orElseThrow()
+                        .update("블루보틀 성수", REGION, "카페", "성동구", null, null, null, 60, null, null));
+
+        // then
+        assertThat(placeRepository.findById(id)).get()
+                .extracting(Place::getName)
+                .isEqualTo("블루보틀 성수");
+    }
+
+    @Test
+    @DisplayName("삭제 커밋 후에는 캐시가 아닌 DB에서 조회해 없음")
+    void delete_evictsCache() {
+        // given
+        Long id = placeRepository.save(place("남산타워")).getId();
+        placeRepository.deleteById(id);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Optional<Place> found = placeRepository.findById(id);
+
+        // then
+        assertThat(found).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+    }
+
+    private Place place(String name) {
+        return Place.builder().name(name).region(REGION).category("카페").address("주소").build();
+    }
+}
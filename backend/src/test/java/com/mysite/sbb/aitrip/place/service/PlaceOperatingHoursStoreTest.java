@@ -0,0 +1,72 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.place.dto.PlaceOperatingHoursRow;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceOperatingHoursStore 테스트")
+class PlaceOperatingHoursStoreTest {
+
+    private static final int MONDAY = 1;
+    private static final long LARGE_ID = Integer.MAX_VALUE + 10L;
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceTombstoneRepository placeTombstoneRepository;
+
+    private PlaceOperatingHoursStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PlaceOperatingHoursStore(placeRepository, placeTombstoneRepository, 5);
+        given(placeRepository.findAllOperatingHours()).willReturn(List.of(
+                new PlaceOperatingHoursRow(1L, "09:00-18:00"),
+                new PlaceOperatingHoursRow(LARGE_ID, "10:00-12:00")
+        ));
+        store.loadAll();
+    }
+
+    @Test
+    @DisplayName("ID 크기와 무관하게 장소별 운영시간을 보관하고, 정보가 없는 장소는 종일 운영")
+    void loadAll() {
+        // then
+        assertThat(store.isOpen(1L, MONDAY, 8 * 60)).isFalse();
+        assertThat(store.isOpen(LARGE_ID, MONDAY, 13 * 60)).isFalse();
+        assertThat(store.isOpen(LARGE_ID - (1L << 32), MONDAY, 13 * 60)).isTrue();
+        assertThat(store.isOpen(2L, MONDAY, 3 * 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 운영시간 변경/삭제를 워터마크 이후분만 주기적으로 반영")
+    void refresh_appliesRemoteChanges() {
+        // given - 1번은 운영시간 삭제, 2번은 새로 등록, LARGE_ID는 장소 삭제
+        given(placeRepository.findOperatingHoursModifiedSince(any())).willReturn(List.of(
+                new PlaceOperatingHoursRow(1L, null),
+                new PlaceOperatingHoursRow(2L, "11:00-20:00")
+        ));
+        given(placeTombstoneRepository.findPlaceIdsDeletedSince(any())).willReturn(List.of(LARGE_ID));
+
+        // when
+        store.refresh();
+
+        // then
+        assertThat(store.isOpen(1L, MONDAY, 8 * 60)).isTrue();
+        assertThat(store.isOpen(2L, MONDAY, 10 * 60)).isFalse();
+        assertThat(store.isOpen(LARGE_ID, MONDAY, 13 * 60)).isTrue();
+    }
+}
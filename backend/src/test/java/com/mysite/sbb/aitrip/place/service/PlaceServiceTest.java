@@ -1,14 +1,25 @@
 package com.mysite.sbb.aitrip.place.service;
 
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
 import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.CursorResponse;
 import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.CursorCodec;
 import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.domain.PlaceTombstone;
+import com.mysite.sbb.aitrip.place.dto.NearbyPlaceResponse;
 import com.mysite.sbb.aitrip.place.dto.PlaceRequest;
 import com.mysite.sbb.aitrip.place.dto.PlaceResponse;
+import com.mysite.sbb.aitrip.place.dto.PlaceSearchCondition;
 import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import com.mysite.sbb.aitrip.placecrowddata.service.PlaceCrowdStore;
+import com.mysite.sbb.aitrip.placemovingtime.service.TravelTimeMatrixService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,6 +31,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -33,21 +46,95 @@ class PlaceServiceTest {
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private PlaceTombstoneRepository placeTombstoneRepository;
+
+    @Mock
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @Mock
+    private PlaceOperatingHoursStore placeOperatingHoursStore;
+
+    @Mock
+    private TravelTimeMatrixService travelTimeMatrixService;
+
+    @Mock
+    private PlaceCrowdStore placeCrowdStore;
+
+    @Mock
+    private ContentVersions contentVersions;
+
     @Test
-    @DisplayName("장소 목록 조회")
-    void getAllPlaces() {
+    @DisplayName("장소 목록 조회 - 마지막 페이지")
+    void searchPlaces_lastPage() {
         // given
         List<Place> places = List.of(
                 createPlace(1L, "블루보틀"),
                 createPlace(2L, "남산타워")
         );
-        given(placeRepository.findAll()).willReturn(places);
+        given(placeRepository.searchAfter(eq(0L), isNull(), isNull(), isNull(), isNull(), any()))
+                .willReturn(places);
 
         // when
-        List<PlaceResponse> result = placeService.getAllPlaces();
+        CursorResponse<PlaceResponse> result = placeService.searchPlaces(
+                new PlaceSearchCondition(null, null, null, null, null, null, 2));
 
         // then
-        assertThat(result).hasSize(2);
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("장소 목록 조회 - 다음 페이지 커서 발급")
+    void searchPlaces_hasNext() {
+        // given
+        List<Place> places = List.of(
+                createPlace(3L, "블루보틀"),
+                createPlace(4L, "남산타워"),
+                createPlace(5L, "경복궁")
+        );
+        given(placeRepository.searchAfter(eq(2L), eq("서울"), isNull(), isNull(), isNull(), any()))
+                .willReturn(places);
+
+        // when
+        CursorResponse<PlaceResponse> result = placeService.searchPlaces(
+                new PlaceSearchCondition("서울", null, null, null, null, CursorCodec.encode(2L), 2));
+
+        // then
+        assertThat(result.content()).extracting(PlaceResponse::id).containsExactly(3L, 4L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(CursorCodec.decode(result.nextCursor(), 1)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("장소 목록 조회 - 영업 중 필터로 빠진 만큼 이어서 조회")
+    void searchPlaces_openNow() {
+        // given
+        given(placeOperatingHoursStore.openNowFilter()).willReturn(placeId -> placeId != 4L);
+        given(placeRepository.searchAfter(eq(0L), isNull(), isNull(), isNull(), isNull(), any()))
+                .willReturn(List.of(createPlace(3L, "블루보틀"), createPlace(4L, "남산타워"), createPlace(5L, "경복궁")));
+        given(placeRepository.searchAfter(eq(5L), isNull(), isNull(), isNull(), isNull(), any()))
+                .willReturn(List.of(createPlace(6L, "북촌한옥마을")));
+
+        // when
+        CursorResponse<PlaceResponse> result = placeService.searchPlaces(
+                new PlaceSearchCondition(null, null, null, null, true, null, 2));
+
+        // then
+        assertThat(result.content()).extracting(PlaceResponse::id).containsExactly(3L, 5L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(CursorCodec.decode(result.nextCursor(), 1)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("장소 목록 조회 - 잘못된 커서")
+    void searchPlaces_invalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> placeService.searchPlaces(
+                new PlaceSearchCondition(null, null, null, null, null, "%%%", null)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
     }
 
     @Test
@@ -82,6 +169,79 @@ class PlaceServiceTest {
         // then
         assertThat(result.name()).isEqualTo("블루보틀");
         verify(placeRepository).save(any(Place.class));
+        verify(placeSpatialIndex).put(1L, null, null);
+        verify(travelTimeMatrixService).evict("서울");
+        verify(contentVersions).bump(ContentGroup.PLACES, ContentGroup.MOVING_TIMES);
+    }
+
+    @Test
+    @DisplayName("장소 수정 - 지역이 바뀌면 이전/새 지역 이동시간 행렬 모두 무효화")
+    void updatePlace_regionChange() {
+        // given
+        Place place = createPlace(1L, "블루보틀");
+        given(placeRepository.findById(1L)).willReturn(Optional.of(place));
+        PlaceRequest request = new PlaceRequest("블루보틀", "부산", "카페",
+                "해운대구", null, null, null, 45, null, "TourAPI");
+
+        // when
+        placeService.updatePlace(1L, request);
+
+        // then
+        verify(travelTimeMatrixService).evict("서울");
+        verify(travelTimeMatrixService).evict("부산");
+        verify(contentVersions).bump(ContentGroup.PLACES, ContentGroup.MOVING_TIMES);
+    }
+
+    @Test
+    @DisplayName("장소 삭제 - 증분 동기화용 삭제 기록을 남기고 전체 콘텐츠 버전 증가")
+    void deletePlace() {
+        // given
+        Place place = createPlace(1L, "블루보틀");
+        given(placeRepository.findById(1L)).willReturn(Optional.of(place));
+
+        // when
+        placeService.deletePlace(1L);
+
+        // then
+        ArgumentCaptor<PlaceTombstone> tombstone = ArgumentCaptor.forClass(PlaceTombstone.class);
+        verify(placeRepository).delete(place);
+        verify(placeTombstoneRepository).save(tombstone.capture());
+        assertThat(tombstone.getValue().getPlaceId()).isEqualTo(1L);
+        assertThat(tombstone.getValue().getDeletedAt()).isNotNull();
+        verify(placeSpatialIndex).remove(1L);
+        verify(placeCrowdStore).remove(1L);
+        verify(travelTimeMatrixService).evict("서울");
+        verify(contentVersions).bump(ContentGroup.values());
+    }
+
+    @Test
+    @DisplayName("주변 장소 조회 - 인덱스의 거리 순서 유지")
+    void getNearbyPlaces() {
+        // given
+        given(placeSpatialIndex.nearest(37.5, 127.0, 3.0, 20)).willReturn(List.of(
+                new PlaceSpatialIndex.Neighbor(2L, 0.4),
+                new PlaceSpatialIndex.Neighbor(1L, 1.2)
+        ));
+        given(placeRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(
+                createPlace(1L, "블루보틀"),
+                createPlace(2L, "남산타워")
+        ));
+
+        // when
+        List<NearbyPlaceResponse> result = placeService.getNearbyPlaces(37.5, 127.0, null, null, null);
+
+        // then
+        assertThat(result).extracting(r -> r.place().name()).containsExactly("남산타워", "블루보틀");
+        assertThat(result.get(0).distanceKm()).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("주변 장소 조회 - 잘못된 좌표")
+    void getNearbyPlaces_invalidCoordinate() {
+        // when & then
+        assertThatThrownBy(() -> placeService.getNearbyPlaces(91.0, 127.0, 1.0, 10, null))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_COORDINATE));
     }
 
     private Place createPlace(Long id, String name) {
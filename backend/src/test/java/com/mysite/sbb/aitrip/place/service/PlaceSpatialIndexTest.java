@@ -0,0 +1,125 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.place.dto.PlaceCoordinate;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceSpatialIndex 테스트")
+class PlaceSpatialIndexTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceTombstoneRepository placeTombstoneRepository;
+
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        placeSpatialIndex = new PlaceSpatialIndex(placeRepository, placeTombstoneRepository, 5);
+        given(placeRepository.findAllCoordinates()).willReturn(List.of(
+                coordinate(1L, "37.5796212", "126.9770162"),   // 경복궁
+                coordinate(2L, "37.5511694", "126.9882266"),   // 남산타워
+                coordinate(3L, "37.5826354", "126.9859163"),   // 북촌한옥마을
+                coordinate(4L, "35.1586977", "129.1604355")    // 해운대
+        ));
+        placeSpatialIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("반경 내 장소를 가까운 순으로 조회")
+    void nearest() {
+        // when
+        List<PlaceSpatialIndex.Neighbor> result = placeSpatialIndex.nearest(37.5800, 126.9800, 5.0, 10);
+
+        // then
+        assertThat(result).extracting(PlaceSpatialIndex.Neighbor::placeId).containsExactly(1L, 3L, 2L);
+        assertThat(result.get(0).distanceKm()).isLessThan(0.5);
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼만 조회")
+    void nearest_limit() {
+        // when
+        List<PlaceSpatialIndex.Neighbor> result = placeSpatialIndex.nearest(37.5800, 126.9800, 50.0, 2);
+
+        // then
+        assertThat(result).extracting(PlaceSpatialIndex.Neighbor::placeId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("좌표 갱신 및 삭제 반영")
+    void putAndRemove() {
+        // when
+        placeSpatialIndex.put(4L, new BigDecimal("37.5797"), new BigDecimal("126.9771"));
+        placeSpatialIndex.remove(1L);
+
+        // then
+        assertThat(placeSpatialIndex.nearest(37.5800, 126.9800, 1.0, 10))
+                .extracting(PlaceSpatialIndex.Neighbor::placeId).containsExactly(4L, 3L);
+        assertThat(placeSpatialIndex.nearest(35.1586977, 129.1604355, 1.0, 10)).isEmpty();
+        assertThat(placeSpatialIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 등록/이동/삭제를 워터마크 이후분만 주기적으로 반영")
+    void refresh_appliesRemoteChanges() {
+        // given - 5번 신규, 2번 경복궁 옆으로 이동, 3번 삭제
+        given(placeRepository.findCoordinatesModifiedSince(any())).willReturn(List.of(
+                coordinate(5L, "37.5790", "126.9765"),
+                coordinate(2L, "37.5800", "126.9800")
+        ));
+        given(placeTombstoneRepository.findPlaceIdsDeletedSince(any())).willReturn(List.of(3L));
+
+        // when
+        placeSpatialIndex.refresh();
+
+        // then
+        assertThat(placeSpatialIndex.nearest(37.5800, 126.9800, 1.0, 10))
+                .extracting(PlaceSpatialIndex.Neighbor::placeId).containsExactly(2L, 1L, 5L);
+        assertThat(placeSpatialIndex.nearest(37.5511694, 126.9882266, 1.0, 10)).isEmpty();
+        assertThat(placeSpatialIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재구성 중 스냅샷을 읽는 사이에 커밋된 로컬 변경은 교체 후에도 유지")
+    void rebuild_keepsUpdatesDuringSnapshot() {
+        // given - 스냅샷 조회 도중 1번 삭제, 6번 등록이 커밋됨
+        willAnswer(invocation -> {
+            placeSpatialIndex.remove(1L);
+            placeSpatialIndex.put(6L, new BigDecimal("37.5801"), new BigDecimal("126.9801"));
+            return List.of(
+                    coordinate(1L, "37.5796212", "126.9770162"),
+                    coordinate(3L, "37.5826354", "126.9859163")
+            );
+        }).given(placeRepository).findAllCoordinates();
+
+        // when
+        placeSpatialIndex.rebuild();
+
+        // then
+        assertThat(placeSpatialIndex.nearest(37.5800, 126.9800, 5.0, 10))
+                .extracting(PlaceSpatialIndex.Neighbor::placeId).containsExactly(6L, 3L);
+        assertThat(placeSpatialIndex.size()).isEqualTo(2);
+    }
+
+    private PlaceCoordinate coordinate(Long id, String latitude, String longitude) {
+        return new PlaceCoordinate(id, new BigDecimal(latitude), new BigDecimal(longitude));
+    }
+}
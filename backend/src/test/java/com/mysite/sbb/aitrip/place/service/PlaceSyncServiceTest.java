@@ -0,0 +1,129 @@
+package com.mysite.sbb.aitrip.place.service;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.jpa.entity.BaseEntity;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.global.util.CursorCodec;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.domain.PlaceTombstone;
+import com.mysite.sbb.aitrip.place.dto.PlaceChangesResponse;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceSyncService 테스트")
+class PlaceSyncServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceTombstoneRepository placeTombstoneRepository;
+
+    private PlaceSyncService placeSyncService;
+
+    @BeforeEach
+    void setUp() {
+        placeSyncService = new PlaceSyncService(placeRepository, placeTombstoneRepository, 5, 30);
+    }
+
+    @Test
+    @DisplayName("since 없이 호출하면 처음부터 조회하고, 남은 변경이 있으면 마지막 행 위치를 토큰으로")
+    void getChanges_fullSyncPage() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 6, 1, 12, 0, 0, 123_456_000);
+        given(placeRepository.findModifiedAfter(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any(), any()))
+                .willReturn(List.of(createPlace(1L, modifiedAt), createPlace(2L, modifiedAt),
+                        createPlace(3L, modifiedAt.plusSeconds(1))));
+        given(placeTombstoneRepository.findDeletedAfter(any(), eq(Long.MAX_VALUE), any(), any()))
+                .willReturn(List.of());
+
+        // when
+        PlaceChangesResponse result = placeSyncService.getChanges(null, 2);
+
+        // then
+        assertThat(result.upserted()).extracting("id").containsExactly(1L, 2L);
+        assertThat(result.deletedIds()).isEmpty();
+        assertThat(result.hasMore()).isTrue();
+        long[] token = CursorCodec.decode(result.nextToken(), 4);
+        assertThat(token[0]).isEqualTo(modifiedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 123_456);
+        assertThat(token[1]).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("끝까지 읽은 뒤 토큰은 since보다 앞으로 당겨지고 삭제 ID를 함께 반환")
+    void getChanges_drainedAdvancesToken() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusDays(1).withNano(0);
+        String token = CursorCodec.encode(micros(since), 10L, micros(since), 20L);
+        given(placeRepository.findModifiedAfter(eq(since), eq(10L), any(), any())).willReturn(List.of());
+        given(placeTombstoneRepository.findDeletedAfter(eq(since), eq(20L), any(), any()))
+                .willReturn(List.of(PlaceTombstone.builder().placeId(7L).deletedAt(since.plusHours(1)).build()));
+
+        // when
+        PlaceChangesResponse result = placeSyncService.getChanges(token, null);
+
+        // then
+        assertThat(result.upserted()).isEmpty();
+        assertThat(result.deletedIds()).containsExactly(7L);
+        assertThat(result.hasMore()).isFalse();
+        long[] next = CursorCodec.decode(result.nextToken(), 4);
+        assertThat(next[0]).isGreaterThan(micros(since));
+        assertThat(next[2]).isGreaterThan(micros(since));
+    }
+
+    @Test
+    @DisplayName("삭제 기록 보관 기간보다 오래된 토큰은 만료 (전체 동기화 필요)")
+    void getChanges_expiredToken() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusDays(31).withNano(0);
+        String token = CursorCodec.encode(micros(since), 1L, micros(since), 1L);
+
+        // when & then
+        assertThatThrownBy(() -> placeSyncService.getChanges(token, null))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.EXPIRED_SYNC_TOKEN));
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private Place createPlace(Long id, LocalDateTime modifiedAt) {
+        Place place = Place.builder()
+                .name("장소" + id)
+                .region("서울")
+                .category("카페")
+                .address("강남구")
+                .build();
+        try {
+            Field idField = Place.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(place, id);
+            Field modifiedAtField = BaseEntity.class.getDeclaredField("modifiedAt");
+            modifiedAtField.setAccessible(true);
+            modifiedAtField.set(place, modifiedAt);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return place;
+    }
+}
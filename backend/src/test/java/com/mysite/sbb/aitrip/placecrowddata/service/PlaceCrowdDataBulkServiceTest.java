@@ -0,0 +1,136 @@
+package com.mysite.sbb.aitrip.placecrowddata.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataBulkResponse;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdDataRequest;
+import com.mysite.sbb.aitrip.placecrowddata.repository.PlaceCrowdDataBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceCrowdDataBulkService 테스트")
+class PlaceCrowdDataBulkServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceCrowdDataBulkRepository placeCrowdDataBulkRepository;
+
+    @Mock
+    private PlaceCrowdStore placeCrowdStore;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    private PlaceCrowdDataBulkService placeCrowdDataBulkService;
+
+    @BeforeEach
+    void setUp() {
+        placeCrowdDataBulkService = new PlaceCrowdDataBulkService(placeRepository,
+                placeCrowdDataBulkRepository, placeCrowdStore, new ObjectMapper(), contentVersions);
+        given(placeRepository.findAllIds()).willReturn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("CSV 대량 등록 - 존재하지 않는 장소와 잘못된 행은 거부")
+    @SuppressWarnings("unchecked")
+    void ingestCsv() throws Exception {
+        // given
+        String csv = """
+                placeId,dayOfWeek,hour,crowdLevel,waitingRiskScore,avgWaitingMin
+                1,2,14,높음,0.75,30
+                2,0,9,낮음,,
+                99,1,10,중간,0.5,10
+                1,7,10,중간,0.5,10
+                not-a-number
+                """;
+
+        // when
+        PlaceCrowdDataBulkResponse result = placeCrowdDataBulkService.ingest(
+                stream(csv), PlaceCrowdDataBulkService.Format.CSV);
+
+        // then
+        assertThat(result.received()).isEqualTo(5);
+        assertThat(result.upserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(3);
+
+        ArgumentCaptor<List<PlaceCrowdDataRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(placeCrowdDataBulkRepository).upsert(captor.capture(), any(LocalDateTime.class));
+        verify(placeCrowdStore).put(1L, 2, 14, "높음", new BigDecimal("0.75"), 30);
+        verify(contentVersions).bump(ContentGroup.CROWD_DATA);
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 등록")
+    void ingestNdjson() throws Exception {
+        // given
+        String ndjson = """
+                {"placeId":1,"dayOfWeek":2,"hour":14,"crowdLevel":"높음","waitingRiskScore":0.75,"avgWaitingMin":30}
+                {"placeId":2,"dayOfWeek":3,"hour":15}
+                {broken
+                """;
+
+        // when
+        PlaceCrowdDataBulkResponse result = placeCrowdDataBulkService.ingest(
+                stream(ndjson), PlaceCrowdDataBulkService.Format.NDJSON);
+
+        // then
+        assertThat(result.upserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(1);
+        verify(placeCrowdStore).put(2L, 3, 15, null, null, null);
+    }
+
+    @Test
+    @DisplayName("대량 등록 - 혼잡도 라벨과 대기 위험도 컬럼 범위를 행 단위로 검사")
+    void ingestCsv_columnLimits() throws Exception {
+        // given
+        String csv = """
+                1,2,14,HIGH,9.99,30
+                1,2,15,매우높음,0.5,10
+                1,2,16,높음,10.00,10
+                1,2,17,높음,0.755,10
+                1,2,18,높음,-0.1,10
+                1,2,19,높음,0.5,-1
+                """;
+
+        // when
+        PlaceCrowdDataBulkResponse result = placeCrowdDataBulkService.ingest(
+                stream(csv), PlaceCrowdDataBulkService.Format.CSV);
+
+        // then
+        assertThat(result.upserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(5);
+        assertThat(result.errors()).containsExactly(
+                "2행: 알 수 없는 혼잡도 매우높음",
+                "3행: 대기 위험도 범위 오류 10.00",
+                "4행: 대기 위험도 범위 오류 0.755",
+                "5행: 대기 위험도 범위 오류 -0.1",
+                "6행: 평균 대기시간 범위 오류");
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
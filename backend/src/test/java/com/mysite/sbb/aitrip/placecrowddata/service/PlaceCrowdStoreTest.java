@@ -0,0 +1,130 @@
+package com.mysite.sbb.aitrip.placecrowddata.service;
+
+import com.mysite.sbb.aitrip.place.repository.PlaceTombstoneRepository;
+import com.mysite.sbb.aitrip.placecrowddata.domain.CrowdLevel;
+import com.mysite.sbb.aitrip.placecrowddata.dto.PlaceCrowdSlot;
+import com.mysite.sbb.aitrip.placecrowddata.repository.PlaceCrowdDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceCrowdStore 테스트")
+class PlaceCrowdStoreTest {
+
+    private static final long SETTLE_SECONDS = 5;
+
+    @Mock
+    private PlaceCrowdDataRepository placeCrowdDataRepository;
+
+    @Mock
+    private PlaceTombstoneRepository placeTombstoneRepository;
+
+    private PlaceCrowdStore placeCrowdStore;
+
+    @BeforeEach
+    void setUp() {
+        placeCrowdStore = new PlaceCrowdStore(placeCrowdDataRepository, placeTombstoneRepository, SETTLE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("전체 적재 후 요일/시간 조회")
+    void loadAll() {
+        // given
+        given(placeCrowdDataRepository.findSlotsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+                slot(1L, 1L, 2, 14, "높음", "0.75", 30),
+                slot(2L, 300L, 0, 9, "낮음", null, null)
+        ));
+
+        // when
+        placeCrowdStore.loadAll();
+
+        // then
+        assertThat(placeCrowdStore.levelCode(1L, 2, 14)).isEqualTo(CrowdLevel.HIGH.getCode());
+        assertThat(placeCrowdStore.waitingMinutes(1L, 2, 14)).isEqualTo((short) 30);
+        assertThat(placeCrowdStore.waitingRisk(1L, 2, 14)).isEqualTo(0.75f);
+        assertThat(placeCrowdStore.levelCode(300L, 0, 9)).isEqualTo(CrowdLevel.LOW.getCode());
+        assertThat(placeCrowdStore.waitingMinutes(300L, 0, 9)).isEqualTo(PlaceCrowdStore.NO_WAITING_DATA);
+        assertThat(placeCrowdStore.waitingRisk(300L, 0, 9)).isNaN();
+    }
+
+    @Test
+    @DisplayName("데이터 없는 장소/시간은 NO_DATA")
+    void noData() {
+        // when
+        placeCrowdStore.put(5L, 3, 10, "중간", new BigDecimal("0.50"), 10);
+
+        // then
+        assertThat(placeCrowdStore.levelCode(5L, 3, 10)).isEqualTo(CrowdLevel.MEDIUM.getCode());
+        assertThat(placeCrowdStore.levelCode(5L, 3, 11)).isEqualTo(CrowdLevel.NO_DATA);
+        assertThat(placeCrowdStore.levelCode(999_999L, 0, 0)).isEqualTo(CrowdLevel.NO_DATA);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 장소 ID도 보관")
+    void put_largePlaceId() {
+        // given
+        long placeId = Integer.MAX_VALUE + 10L;
+
+        // when
+        placeCrowdStore.put(placeId, 1, 8, "높음", null, 5);
+
+        // then
+        assertThat(placeCrowdStore.levelCode(placeId, 1, 8)).isEqualTo(CrowdLevel.HIGH.getCode());
+        assertThat(placeCrowdStore.levelCode(10L, 1, 8)).isEqualTo(CrowdLevel.NO_DATA);
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 워터마크를 settle 구간만큼 늦추고 삭제된 장소는 제거")
+    void refresh() {
+        // given
+        placeCrowdStore.put(7L, 2, 10, "낮음", null, null);
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        placeCrowdStore.loadAll();
+        given(placeCrowdDataRepository.findSlotsModifiedSince(any(LocalDateTime.class))).willReturn(List.of(
+                slot(10L, 8L, 2, 10, "높음", null, 20)
+        ));
+        given(placeTombstoneRepository.findPlaceIdsDeletedSince(any(LocalDateTime.class))).willReturn(List.of(7L));
+
+        // when
+        placeCrowdStore.refresh();
+
+        // then
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(placeCrowdDataRepository).findSlotsModifiedSince(since.capture());
+        assertThat(since.getValue()).isBetween(
+                loadStartedAt.minusSeconds(SETTLE_SECONDS), loadStartedAt.minusSeconds(SETTLE_SECONDS - 1));
+        assertThat(placeCrowdStore.levelCode(8L, 2, 10)).isEqualTo(CrowdLevel.HIGH.getCode());
+        assertThat(placeCrowdStore.levelCode(7L, 2, 10)).isEqualTo(CrowdLevel.NO_DATA);
+    }
+
+    @Test
+    @DisplayName("java.time.DayOfWeek 변환 (일=0 ~ 토=6)")
+    void dayIndex() {
+        assertThat(PlaceCrowdStore.dayIndex(DayOfWeek.SUNDAY)).isZero();
+        assertThat(PlaceCrowdStore.dayIndex(DayOfWeek.TUESDAY)).isEqualTo(2);
+        assertThat(PlaceCrowdStore.dayIndex(DayOfWeek.SATURDAY)).isEqualTo(6);
+    }
+
+    private PlaceCrowdSlot slot(Long id, Long placeId, int dayOfWeek, int hour, String level,
+                                String risk, Integer waiting) {
+        return new PlaceCrowdSlot(id, placeId, dayOfWeek, hour, level,
+                risk == null ? null : new BigDecimal(risk), waiting, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,76 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MeasuredMovingTime;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateRequest;
+import com.mysite.sbb.aitrip.placemovingtime.dto.TravelTimeEstimateResponse;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TravelTimeEstimateService 테스트")
+class TravelTimeEstimateServiceTest {
+
+    @InjectMocks
+    private TravelTimeEstimateService travelTimeEstimateService;
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceMovingTimeRepository placeMovingTimeRepository;
+
+    @Mock
+    private TravelTimeEstimator travelTimeEstimator;
+
+    @Test
+    @DisplayName("이동수단 미지정 - 기본 수단(대중교통) 측정값만 적용")
+    void estimate_defaultTransportType() {
+        // given
+        given(placeRepository.findCoordinatesByIdIn(anyCollection())).willReturn(List.of());
+        given(placeMovingTimeRepository.findMeasuredBetween(anyCollection(), anyCollection())).willReturn(List.of(
+                new MeasuredMovingTime(1L, 2L, "도보", 5, new BigDecimal("0.4")),
+                new MeasuredMovingTime(1L, 2L, "대중교통", 12, new BigDecimal("3.1"))
+        ));
+
+        // when
+        TravelTimeEstimateResponse result = travelTimeEstimateService.estimate(
+                new TravelTimeEstimateRequest(List.of(1L), List.of(2L), null));
+
+        // then
+        assertThat(result.transportType()).isEqualTo(TravelTimeEstimator.DEFAULT_TRANSPORT_TYPE);
+        assertThat(result.minutes()[0][0]).isEqualTo(12);
+        assertThat(result.distanceKm()[0][0]).isEqualTo(3.1f);
+        assertThat(result.measured()[0][0]).isTrue();
+    }
+
+    @Test
+    @DisplayName("이동수단 지정 - 같은 수단 측정값이 없으면 추정값 유지")
+    void estimate_noMeasuredForType() {
+        // given
+        given(placeRepository.findCoordinatesByIdIn(anyCollection())).willReturn(List.of());
+        given(placeMovingTimeRepository.findMeasuredBetween(anyCollection(), anyCollection())).willReturn(List.of(
+                new MeasuredMovingTime(1L, 2L, "대중교통", 12, new BigDecimal("3.1"))
+        ));
+
+        // when
+        TravelTimeEstimateResponse result = travelTimeEstimateService.estimate(
+                new TravelTimeEstimateRequest(List.of(1L), List.of(2L), " 도보 "));
+
+        // then
+        assertThat(result.transportType()).isEqualTo("도보");
+        assertThat(result.measured()[0][0]).isFalse();
+    }
+}
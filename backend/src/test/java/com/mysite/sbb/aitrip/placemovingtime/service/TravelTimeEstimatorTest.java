@@ -0,0 +1,94 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.global.util.GeoUtils;
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeSample;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TravelTimeEstimator 테스트")
+class TravelTimeEstimatorTest {
+
+    @Mock
+    private PlaceMovingTimeRepository placeMovingTimeRepository;
+
+    @InjectMocks
+    private TravelTimeEstimator travelTimeEstimator;
+
+    @Test
+    @DisplayName("배치 추정 거리는 haversine 직선거리 x 우회 계수와 일치")
+    void estimate_matchesHaversine() {
+        // given
+        double[] fromLat = {37.5796212, 37.5511694};
+        double[] fromLng = {126.9770162, 126.9882266};
+        double[] toLat = {37.5826354, 35.1586977, Double.NaN};
+        double[] toLng = {126.9859163, 129.1604355, Double.NaN};
+        int[] minutes = new int[6];
+        float[] km = new float[6];
+
+        // when
+        travelTimeEstimator.estimate(fromLat, fromLng, toLat, toLng, "도보", minutes, km);
+
+        // then
+        TravelTimeEstimator.SpeedProfile profile = travelTimeEstimator.profileOf("도보");
+        double expected = GeoUtils.haversineKm(fromLat[1], fromLng[1], toLat[1], toLng[1]);
+        assertThat((double) km[4]).isCloseTo(expected * profile.detourFactor(), within(0.01));
+        assertThat(minutes[4]).isEqualTo((int) Math.round(profile.overheadMinutes() + profile.minutesPerKm() * expected));
+        assertThat(minutes[2]).isEqualTo(TravelTimeEstimator.UNKNOWN);
+        assertThat(km[5]).isNaN();
+    }
+
+    @Test
+    @DisplayName("측정값으로 이동수단별 속도 프로파일 보정")
+    void calibrate() {
+        // given - 도보: 5분 + 직선 1km당 12분, 도로거리는 직선의 1.4배
+        List<MovingTimeSample> samples = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            double toLat = 37.5 + i * 0.01;
+            double straight = GeoUtils.haversineKm(37.5, 127.0, toLat, 127.0);
+            samples.add(new MovingTimeSample("도보",
+                    new BigDecimal("37.5"), new BigDecimal("127.0"),
+                    BigDecimal.valueOf(toLat), new BigDecimal("127.0"),
+                    (int) Math.round(5 + 12 * straight), BigDecimal.valueOf(straight * 1.4)));
+        }
+        given(placeMovingTimeRepository.findSamples()).willReturn(samples);
+
+        // when
+        travelTimeEstimator.calibrate();
+
+        // then
+        TravelTimeEstimator.SpeedProfile profile = travelTimeEstimator.profileOf("도보");
+        assertThat(profile.samples()).isEqualTo(6);
+        assertThat(profile.minutesPerKm()).isCloseTo(12.0, within(0.5));
+        assertThat(profile.overheadMinutes()).isCloseTo(5.0, within(1.0));
+        assertThat(profile.detourFactor()).isCloseTo(1.4, within(0.01));
+    }
+
+    @Test
+    @DisplayName("표본이 부족하거나 미등록 이동수단이면 기본 프로파일 사용")
+    void calibrate_fallback() {
+        // given
+        given(placeMovingTimeRepository.findSamples()).willReturn(List.of());
+
+        // when
+        travelTimeEstimator.calibrate();
+
+        // then
+        assertThat(travelTimeEstimator.profileOf("자전거"))
+                .isEqualTo(travelTimeEstimator.profileOf(null));
+        assertThat(travelTimeEstimator.profileOf("도보").samples()).isZero();
+    }
+}
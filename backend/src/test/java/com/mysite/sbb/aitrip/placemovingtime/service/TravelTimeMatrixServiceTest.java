@@ -0,0 +1,84 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.global.cache.ContentGroup;
+import com.mysite.sbb.aitrip.global.cache.ContentVersions;
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.placemovingtime.repository.PlaceMovingTimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TravelTimeMatrixService 테스트")
+class TravelTimeMatrixServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceMovingTimeRepository placeMovingTimeRepository;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    private TravelTimeMatrixService travelTimeMatrixService;
+
+    @BeforeEach
+    void setUp() {
+        travelTimeMatrixService = new TravelTimeMatrixService(
+                placeRepository, placeMovingTimeRepository, contentVersions, 600_000);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 쓰기로 이동시간 버전이 오르면 다시 적재")
+    void getMatrix_reloadsOnVersionChange() {
+        // given
+        given(placeRepository.findIdsByRegion("서울"))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(1L, 2L, 3L));
+        given(placeMovingTimeRepository.findEdgesByRegion("서울")).willReturn(List.of());
+        AtomicLong version = new AtomicLong(1);
+        given(contentVersions.current(ContentGroup.MOVING_TIMES)).willAnswer(invocation -> version.get());
+
+        // when
+        TravelTimeMatrix first = travelTimeMatrixService.getMatrix("서울");
+        TravelTimeMatrix cached = travelTimeMatrixService.getMatrix("서울");
+        version.set(2);
+        TravelTimeMatrix reloaded = travelTimeMatrixService.getMatrix("서울");
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.ordinalOf(3L)).isNotEqualTo(TravelTimeMatrix.NOT_IN_MATRIX);
+        verify(placeRepository, times(2)).findIdsByRegion("서울");
+    }
+
+    @Test
+    @DisplayName("장소 수가 상한을 넘는 지역은 일부만 담지 않고 오류")
+    void getMatrix_tooLargeRegion() {
+        // given
+        given(placeRepository.findIdsByRegion("서울")).willReturn(
+                LongStream.rangeClosed(1, TravelTimeMatrixService.MAX_MATRIX_PLACES + 1).boxed().toList());
+
+        // when & then
+        assertThatThrownBy(() -> travelTimeMatrixService.getMatrix("서울"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.TOO_LARGE_MATRIX_REGION));
+    }
+}
@@ -0,0 +1,64 @@
+package com.mysite.sbb.aitrip.placemovingtime.service;
+
+import com.mysite.sbb.aitrip.placemovingtime.dto.MovingTimeEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TravelTimeMatrix 테스트")
+class TravelTimeMatrixTest {
+
+    private final long[] placeIds = {10L, 20L, 30L, 40L};
+
+    @Test
+    @DisplayName("측정된 쌍은 측정값 그대로 조회")
+    void measuredPair() {
+        // given
+        TravelTimeMatrix matrix = TravelTimeMatrix.build(placeIds, List.of(
+                edge(10L, 20L, 15, "2.5"),
+                edge(20L, 30L, 10, "1.0")));
+
+        // when & then
+        assertThat(matrix.minutes(10L, 20L)).isEqualTo(15);
+        assertThat(matrix.distanceKm(10L, 20L)).isEqualTo(2.5f);
+        assertThat(matrix.isMeasuredAt(matrix.ordinalOf(10L), matrix.ordinalOf(20L))).isTrue();
+        assertThat(matrix.minutes(10L, 10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("측정값이 없는 쌍은 최단 경로로 채움")
+    void missingPair_filledByShortestPath() {
+        // given
+        TravelTimeMatrix matrix = TravelTimeMatrix.build(placeIds, List.of(
+                edge(10L, 20L, 15, "2.5"),
+                edge(20L, 30L, 10, "1.0"),
+                edge(10L, 40L, 5, "0.5"),
+                edge(40L, 30L, 30, "3.0")));
+
+        // when & then
+        assertThat(matrix.minutes(10L, 30L)).isEqualTo(25);
+        assertThat(matrix.distanceKm(10L, 30L)).isEqualTo(3.5f);
+        assertThat(matrix.isMeasuredAt(matrix.ordinalOf(10L), matrix.ordinalOf(30L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("경로가 없거나 행렬에 없는 장소는 UNREACHABLE")
+    void unreachable() {
+        // given
+        TravelTimeMatrix matrix = TravelTimeMatrix.build(placeIds, List.of(
+                edge(10L, 20L, 15, "2.5")));
+
+        // when & then
+        assertThat(matrix.minutes(20L, 10L)).isEqualTo(TravelTimeMatrix.UNREACHABLE);
+        assertThat(matrix.distanceKm(20L, 10L)).isNaN();
+        assertThat(matrix.minutes(10L, 99L)).isEqualTo(TravelTimeMatrix.UNREACHABLE);
+    }
+
+    private MovingTimeEdge edge(Long from, Long to, int minutes, String km) {
+        return new MovingTimeEdge(from, to, minutes, new BigDecimal(km));
+    }
+}
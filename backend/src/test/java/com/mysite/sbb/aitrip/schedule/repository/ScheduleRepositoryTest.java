@@ -0,0 +1,76 @@
+package com.mysite.sbb.aitrip.schedule.repository;
+
+import com.mysite.sbb.aitrip.global.support.QueryCounter;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.schedule.domain.Schedule;
+import com.mysite.sbb.aitrip.schedule.dto.ScheduleResponse;
+import com.mysite.sbb.aitrip.trip.domain.Trip;
+import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static com.mysite.sbb.aitrip.global.support.TestFixtures.place;
+import static com.mysite.sbb.aitrip.global.support.TestFixtures.saveTrip;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("ScheduleRepository 테스트")
+class ScheduleRepositoryTest {
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("여행 일정 조회 - 일차/순서대로 장소명 포함")
+    void findResponsesByTripId() {
+        // given
+        Trip trip = saveTrip(userRepository, tripRepository, "test@example.com");
+        Place first = placeRepository.save(place("경복궁"));
+        Place second = placeRepository.save(place("남산타워"));
+        scheduleRepository.save(Schedule.builder().trip(trip).place(second).dayNumber(1).visitOrder(2).build());
+        scheduleRepository.save(Schedule.builder().trip(trip).place(first).dayNumber(1).visitOrder(1).build());
+
+        // when
+        List<ScheduleResponse> responses = scheduleRepository.findResponsesByTripId(trip.getId());
+
+        // then
+        assertThat(responses).extracting(ScheduleResponse::placeName).containsExactly("경복궁", "남산타워");
+        assertThat(responses).extracting(ScheduleResponse::tripId).containsOnly(trip.getId());
+    }
+
+    @Test
+    @DisplayName("여행 일정 조회 - 일정 수와 무관하게 쿼리 1회")
+    void findResponsesByTripId_singleQuery() {
+        // given
+        QueryCounter queryCounter = new QueryCounter(entityManager);
+
+        // when & then
+        queryCounter.assertConstant(1, size -> {
+            Trip trip = saveTrip(userRepository, tripRepository, "user" + size + "@example.com");
+            for (int i = 1; i <= size; i++) {
+                Place place = placeRepository.save(place("장소" + i));
+                scheduleRepository.save(Schedule.builder().trip(trip).place(place).dayNumber(1).visitOrder(i).build());
+            }
+            return () -> assertThat(scheduleRepository.findResponsesByTripId(trip.getId())).hasSize(size);
+        }, 1, 10);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mysite.sbb.aitrip.schedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScheduleOptimizer 테스트")
+class ScheduleOptimizerTest {
+
+    private final ScheduleOptimizer scheduleOptimizer = new ScheduleOptimizer(500, 10_000);
+
+    @Test
+    @DisplayName("가까운 장소끼리 같은 날 묶고 운영시간 안에 배치")
+    void optimize_respectsTimeWindows() {
+        // given - 장소 0,1은 서로 가깝고 2,3도 가까움, 하루 3곳까지만 가능
+        int[] travel = {
+                0, 10, 90, 90,
+                10, 0, 90, 90,
+                90, 90, 0, 10,
+                90, 90, 10, 0
+        };
+        ScheduleOptimizer.Problem problem = problem(4, 2, travel, 120);
+
+        // when
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(problem);
+
+        // then
+        assertThat(plan.unassigned()).isEmpty();
+        assertThat(dayOf(plan, 0)).isEqualTo(dayOf(plan, 1));
+        assertThat(dayOf(plan, 2)).isEqualTo(dayOf(plan, 3));
+        assertThat(plan.visits()).allSatisfy(visit -> {
+            assertThat(visit.startMinute()).isGreaterThanOrEqualTo(9 * 60);
+            assertThat(visit.endMinute()).isLessThanOrEqualTo(18 * 60);
+        });
+    }
+
+    @Test
+    @DisplayName("휴무일인 날에는 배치하지 않음")
+    void optimize_skipsClosedDay() {
+        // given - 장소 0은 1일차 휴무
+        ScheduleOptimizer.Problem problem = problem(2, 2, new int[]{0, 10, 10, 0}, 60);
+        problem.openWindows()[0] = new int[0];
+
+        // when
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(problem);
+
+        // then
+        assertThat(dayOf(plan, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("브레이크타임에 걸리면 다음 영업 구간에 배치")
+    void optimize_waitsForNextWindow() {
+        // given - 장소 0은 09:00~10:00, 14:00~18:00 영업, 체류 2시간
+        ScheduleOptimizer.Problem problem = problem(1, 1, new int[]{0}, 120);
+        problem.openWindows()[0] = new int[]{9 * 60, 10 * 60, 14 * 60, 18 * 60};
+
+        // when
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(problem);
+
+        // then
+        assertThat(plan.visits()).singleElement()
+                .satisfies(visit -> assertThat(visit.startMinute()).isEqualTo(14 * 60));
+    }
+
+    @Test
+    @DisplayName("시간 안에 넣을 수 없는 장소는 미배정으로 반환")
+    void optimize_unassignedWhenInfeasible() {
+        // given - 체류 10시간짜리 장소는 9시간 운영 안에 못 넣음
+        ScheduleOptimizer.Problem problem = problem(2, 1, new int[]{0, 10, 10, 0}, 60);
+        problem.stayMinutes()[1] = 600;
+
+        // when
+        ScheduleOptimizer.Plan plan = scheduleOptimizer.optimize(problem);
+
+        // then
+        assertThat(plan.unassigned()).containsExactly(1);
+        assertThat(plan.visits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 입력이면 같은 결과")
+    void optimize_deterministic() {
+        // given
+        int n = 12;
+        int[] travel = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                travel[i * n + j] = i == j ? 0 : 5 + Math.abs(i - j) * 7 % 40;
+            }
+        }
+
+        // when
+        List<ScheduleOptimizer.Visit> first = scheduleOptimizer.optimize(problem(n, 3, travel, 60)).visits();
+        List<ScheduleOptimizer.Visit> second = scheduleOptimizer.optimize(problem(n, 3, travel, 60)).visits();
+
+        // then
+        assertThat(first).isEqualTo(second);
+    }
+
+    // 모든 장소 09:00~18:00 운영, 대기 없음, 하루 09:00~18:00
+    private ScheduleOptimizer.Problem problem(int places, int days, int[] travel, int stay) {
+        int[] stays = new int[places];
+        Arrays.fill(stays, stay);
+        int[][] windows = new int[places * days][];
+        Arrays.fill(windows, new int[]{9 * 60, 18 * 60});
+        return new ScheduleOptimizer.Problem(places, days, travel, stays, windows,
+                new int[places * days * 24], 9 * 60, 18 * 60, 0);
+    }
+
+    private int dayOf(ScheduleOptimizer.Plan plan, int place) {
+        return plan.visits().stream()
+                .filter(visit -> visit.place() == place)
+                .findFirst()
+                .orElseThrow()
+                .day();
+    }
+}
@@ -11,7 +11,8 @@ import com.mysite.sbb.aitrip.schedule.repository.ScheduleRepository;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
 import com.mysite.sbb.aitrip.trip.domain.TripStatus;
 import com.mysite.sbb.aitrip.trip.domain.TripStyle;
-import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.trip.service.TripAccessChecker;
+import com.mysite.sbb.aitrip.tripplace.repository.TripPlaceRepository;
 import com.mysite.sbb.aitrip.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,11 +25,14 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ScheduleService 테스트")
@@ -41,11 +45,14 @@ class ScheduleServiceTest {
     private ScheduleRepository scheduleRepository;
 
     @Mock
-    private TripRepository tripRepository;
+    private TripAccessChecker tripAccessChecker;
 
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private TripPlaceRepository tripPlaceRepository;
+
     @Test
     @DisplayName("일정 생성 - 성공")
     void createSchedule_success() {
@@ -54,7 +61,7 @@ class ScheduleServiceTest {
         Trip trip = createTrip(1L, user);
         Place place = createPlace(1L, "블루보틀");
 
-        given(tripRepository.findById(1L)).willReturn(Optional.of(trip));
+        given(tripAccessChecker.getOwnedTripReference(1L, 1L)).willReturn(trip);
         given(placeRepository.findById(1L)).willReturn(Optional.of(place));
 
         Schedule saved = Schedule.builder()
@@ -63,7 +70,9 @@ class ScheduleServiceTest {
                 .stayDuration(45).build();
         setId(saved, Schedule.class, 1L);
 
-        given(scheduleRepository.save(any(Schedule.class))).willReturn(saved);
+        given(scheduleRepository.saveAndFlush(any(Schedule.class))).willReturn(saved);
+        given(tripAccessChecker.<Schedule>saveUnderTrip(eq(1L), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Schedule>>getArgument(1).get());
 
         ScheduleRequest request = new ScheduleRequest(1L, 1, 1,
                 LocalTime.of(10, 0), LocalTime.of(11, 0), 30, 15, 45, null);
@@ -79,7 +88,8 @@ class ScheduleServiceTest {
     @DisplayName("일정 조회 - 여행 없음")
     void getSchedules_tripNotFound() {
         // given
-        given(tripRepository.findById(999L)).willReturn(Optional.empty());
+        willThrow(new BusinessException(ErrorCode.NOT_FOUND_TRIP))
+                .given(tripAccessChecker).validateOwner(999L, 1L);
 
         // when & then
         assertThatThrownBy(() -> scheduleService.getSchedules(999L, 1L))
@@ -87,6 +97,21 @@ class ScheduleServiceTest {
                 .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_TRIP));
     }
 
+    @Test
+    @DisplayName("일정 최적화 - 선택된 장소 없음")
+    void optimizeSchedules_noSelectedPlace() {
+        // given
+        User user = createUser(1L);
+        Trip trip = createTrip(1L, user);
+        given(tripAccessChecker.getOwnedTrip(1L, 1L)).willReturn(trip);
+        given(tripPlaceRepository.findSelectedWithPlace(1L)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.optimizeSchedules(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.NO_SELECTED_TRIP_PLACE));
+    }
+
     private User createUser(Long id) {
         User user = User.builder().email("test@example.com").password("pw").name("홍길동").role(User.Role.ROLE_USER).build();
         setId(user, User.class, id);
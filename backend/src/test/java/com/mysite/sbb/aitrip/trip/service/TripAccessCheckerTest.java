@@ -0,0 +1,126 @@
+package com.mysite.sbb.aitrip.trip.service;
+
+import com.mysite.sbb.aitrip.global.exception.BusinessException;
+import com.mysite.sbb.aitrip.global.response.ErrorCode;
+import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripAccessChecker 테스트")
+class TripAccessCheckerTest {
+
+    @Mock
+    private TripRepository tripRepository;
+
+    private TripAccessChecker tripAccessChecker;
+
+    @BeforeEach
+    void setUp() {
+        tripAccessChecker = new TripAccessChecker(tripRepository, 60_000);
+    }
+
+    @Test
+    @DisplayName("소유자 검증 - 확인된 소유자는 캐시로 재검증")
+    void validateOwner_cached() {
+        // given
+        given(tripRepository.existsByIdAndUserId(1L, 1L)).willReturn(true);
+
+        // when
+        tripAccessChecker.validateOwner(1L, 1L);
+        tripAccessChecker.validateOwner(1L, 1L);
+
+        // then
+        verify(tripRepository, times(1)).existsByIdAndUserId(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("소유자 검증 - 캐시된 여행에 다른 사용자 접근")
+    void validateOwner_cachedOtherUser() {
+        // given
+        tripAccessChecker.remember(1L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> tripAccessChecker.validateOwner(1L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.UNAUTHORIZED_TRIP_ACCESS));
+    }
+
+    @Test
+    @DisplayName("소유자 검증 - 존재하지 않는 여행")
+    void validateOwner_notFound() {
+        // given
+        given(tripRepository.existsByIdAndUserId(999L, 1L)).willReturn(false);
+        given(tripRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tripAccessChecker.validateOwner(999L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.NOT_FOUND_TRIP));
+    }
+
+    @Test
+    @DisplayName("소유자 검증 - 삭제 후 캐시 무효화")
+    void validateOwner_afterEvict() {
+        // given
+        tripAccessChecker.remember(1L, 1L);
+        tripAccessChecker.evict(1L);
+        given(tripRepository.existsByIdAndUserId(1L, 1L)).willReturn(false);
+        given(tripRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tripAccessChecker.validateOwner(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.NOT_FOUND_TRIP));
+    }
+
+    @Test
+    @DisplayName("하위 행 저장 - 검증 후 여행이 삭제돼 외래키 위반이면 NOT_FOUND_TRIP")
+    void saveUnderTrip_foreignKeyViolation() {
+        // given
+        tripAccessChecker.remember(1L, 1L);
+        given(tripRepository.existsByIdAndUserId(1L, 1L)).willReturn(false);
+        given(tripRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tripAccessChecker.saveUnderTrip(1L, () -> {
+            throw integrityViolation("23000", 1452);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.NOT_FOUND_TRIP));
+        assertThatThrownBy(() -> tripAccessChecker.validateOwner(1L, 1L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("하위 행 저장 - 외래키가 아닌 제약 위반은 그대로 전파")
+    void saveUnderTrip_otherViolation() {
+        // when & then
+        assertThatThrownBy(() -> tripAccessChecker.saveUnderTrip(1L, () -> {
+            throw integrityViolation("23000", 1062);
+        }))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private DataIntegrityViolationException integrityViolation(String sqlState, int errorCode) {
+        return new DataIntegrityViolationException("constraint violation",
+                new SQLException("constraint violation", sqlState, errorCode));
+    }
+}
@@ -40,6 +40,9 @@ class TripServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TripAccessChecker tripAccessChecker;
+
     @Test
     @DisplayName("여행 생성 - 성공")
     void createTrip_success() {
@@ -59,13 +62,30 @@ class TripServiceTest {
         // then
         assertThat(result.title()).isEqualTo("봄 여행");
         verify(tripRepository).save(any(Trip.class));
+        verify(tripAccessChecker).remember(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("여행 삭제 - 소유자 캐시 무효화")
+    void deleteTrip_evictsAccessCache() {
+        // given
+        Trip trip = createTrip(1L, createUser(1L), "봄 여행");
+        given(tripAccessChecker.getOwnedTrip(1L, 1L)).willReturn(trip);
+
+        // when
+        tripService.deleteTrip(1L, 1L);
+
+        // then
+        verify(tripRepository).delete(trip);
+        verify(tripAccessChecker).evict(1L);
     }
 
     @Test
     @DisplayName("여행 조회 - 존재하지 않는 여행")
     void getTrip_notFound() {
         // given
-        given(tripRepository.findById(999L)).willReturn(Optional.empty());
+        given(tripAccessChecker.getOwnedTrip(999L, 1L))
+                .willThrow(new BusinessException(ErrorCode.NOT_FOUND_TRIP));
 
         // when & then
         assertThatThrownBy(() -> tripService.getTrip(999L, 1L))
@@ -80,9 +100,8 @@ class TripServiceTest {
     @DisplayName("여행 조회 - 권한 없음")
     void getTrip_unauthorized() {
         // given
-        User owner = createUser(1L);
-        Trip trip = createTrip(1L, owner, "봄 여행");
-        given(tripRepository.findById(1L)).willReturn(Optional.of(trip));
+        given(tripAccessChecker.getOwnedTrip(1L, 2L))
+                .willThrow(new BusinessException(ErrorCode.UNAUTHORIZED_TRIP_ACCESS));
 
         // when & then
         assertThatThrownBy(() -> tripService.getTrip(1L, 2L))
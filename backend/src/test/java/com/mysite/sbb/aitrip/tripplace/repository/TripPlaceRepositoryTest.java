@@ -0,0 +1,77 @@
+package com.mysite.sbb.aitrip.tripplace.repository;
+
+import com.mysite.sbb.aitrip.global.support.QueryCounter;
+import com.mysite.sbb.aitrip.place.domain.Place;
+import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
+import com.mysite.sbb.aitrip.trip.domain.Trip;
+import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.tripplace.domain.TripPlace;
+import com.mysite.sbb.aitrip.tripplace.dto.TripPlaceResponse;
+import com.mysite.sbb.aitrip.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static com.mysite.sbb.aitrip.global.support.TestFixtures.place;
+import static com.mysite.sbb.aitrip.global.support.TestFixtures.saveTrip;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TripPlaceRepository 테스트")
+class TripPlaceRepositoryTest {
+
+    @Autowired
+    private TripPlaceRepository tripPlaceRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("여행 장소 조회 - 장소명 포함")
+    void findResponsesByTripId() {
+        // given
+        Trip trip = saveTrip(userRepository, tripRepository, "test@example.com");
+        Place place = placeRepository.save(place("블루보틀"));
+        tripPlaceRepository.save(TripPlace.builder().trip(trip).place(place).isSelected(true).build());
+
+        // when
+        List<TripPlaceResponse> responses = tripPlaceRepository.findResponsesByTripId(trip.getId());
+
+        // then
+        assertThat(responses).singleElement().satisfies(response -> {
+            assertThat(response.placeId()).isEqualTo(place.getId());
+            assertThat(response.placeName()).isEqualTo("블루보틀");
+            assertThat(response.isSelected()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("여행 장소 조회 - 장소 수와 무관하게 쿼리 1회")
+    void findResponsesByTripId_singleQuery() {
+        // given
+        QueryCounter queryCounter = new QueryCounter(entityManager);
+
+        // when & then
+        queryCounter.assertConstant(1, size -> {
+            Trip trip = saveTrip(userRepository, tripRepository, "user" + size + "@example.com");
+            for (int i = 1; i <= size; i++) {
+                Place place = placeRepository.save(place("장소" + i));
+                tripPlaceRepository.save(TripPlace.builder().trip(trip).place(place).isSelected(true).build());
+            }
+            return () -> assertThat(tripPlaceRepository.findResponsesByTripId(trip.getId())).hasSize(size);
+        }, 1, 10);
+    }
+}
@@ -7,7 +7,7 @@ import com.mysite.sbb.aitrip.place.repository.PlaceRepository;
 import com.mysite.sbb.aitrip.trip.domain.Trip;
 import com.mysite.sbb.aitrip.trip.domain.TripStatus;
 import com.mysite.sbb.aitrip.trip.domain.TripStyle;
-import com.mysite.sbb.aitrip.trip.repository.TripRepository;
+import com.mysite.sbb.aitrip.trip.service.TripAccessChecker;
 import com.mysite.sbb.aitrip.tripplace.domain.TripPlace;
 import com.mysite.sbb.aitrip.tripplace.dto.TripPlaceRequest;
 import com.mysite.sbb.aitrip.tripplace.dto.TripPlaceResponse;
@@ -22,10 +22,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +41,7 @@ class TripPlaceServiceTest {
     private TripPlaceRepository tripPlaceRepository;
 
     @Mock
-    private TripRepository tripRepository;
+    private TripAccessChecker tripAccessChecker;
 
     @Mock
     private PlaceRepository placeRepository;
@@ -52,13 +54,15 @@ class TripPlaceServiceTest {
         Trip trip = createTrip(1L, user);
         Place place = createPlace(1L, "블루보틀");
 
-        given(tripRepository.findById(1L)).willReturn(Optional.of(trip));
+        given(tripAccessChecker.getOwnedTripReference(1L, 1L)).willReturn(trip);
         given(tripPlaceRepository.existsByTripIdAndPlaceId(1L, 1L)).willReturn(false);
         given(placeRepository.findById(1L)).willReturn(Optional.of(place));
 
         TripPlace saved = TripPlace.builder().trip(trip).place(place).isSelected(true).build();
         setId(saved, TripPlace.class, 1L);
-        given(tripPlaceRepository.save(any(TripPlace.class))).willReturn(saved);
+        given(tripPlaceRepository.saveAndFlush(any(TripPlace.class))).willReturn(saved);
+        given(tripAccessChecker.<TripPlace>saveUnderTrip(eq(1L), any()))
+                .willAnswer(invocation -> invocation.<Supplier<TripPlace>>getArgument(1).get());
 
         TripPlaceRequest request = new TripPlaceRequest(1L, true);
 
@@ -76,7 +80,7 @@ class TripPlaceServiceTest {
         User user = createUser(1L);
         Trip trip = createTrip(1L, user);
 
-        given(tripRepository.findById(1L)).willReturn(Optional.of(trip));
+        given(tripAccessChecker.getOwnedTripReference(1L, 1L)).willReturn(trip);
         given(tripPlaceRepository.existsByTripIdAndPlaceId(1L, 1L)).willReturn(true);
 
         TripPlaceRequest request = new TripPlaceRequest(1L, true);
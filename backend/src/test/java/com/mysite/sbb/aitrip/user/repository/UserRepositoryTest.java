@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,24 @@ class UserRepositoryTest {
         assertThat(userRepository.existsByEmail("test@example.com")).isTrue();
         assertThat(userRepository.existsByEmail("other@example.com")).isFalse();
     }
+
+    @Test
+    @DisplayName("비밀번호 해시 교체 - 읽은 해시가 그대로일 때만 변경")
+    void updatePasswordIfUnchanged() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("old_hash")
+                .name("홍길동")
+                .role(User.Role.ROLE_USER)
+                .build());
+
+        // when
+        int stale = userRepository.updatePasswordIfUnchanged(user.getId(), "other_hash", "new_hash", LocalDateTime.now());
+        int updated = userRepository.updatePasswordIfUnchanged(user.getId(), "old_hash", "new_hash", LocalDateTime.now());
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+    }
 }